@@ -0,0 +1,175 @@
+package seedu.cc.commons.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the primitive collections in this package with the boxed JDK collections they replace.
+ * Run with {@code ./gradlew jmh}. Add {@code -prof gc} to the JMH arguments to compare
+ * the bytes allocated per operation ({@code gc.alloc.rate.norm}) as well as the time taken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveCollectionsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] values;
+    private IntHashSet intHashSet;
+    private Set<Integer> boxedSet;
+    private IntArrayList intArrayList;
+    private List<Integer> boxedList;
+    private CompressedBitmap leftBitmap;
+    private CompressedBitmap rightBitmap;
+    private BitSet leftBitSet;
+    private BitSet rightBitSet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new int[size];
+        intHashSet = new IntHashSet(size);
+        boxedSet = new HashSet<>();
+        intArrayList = new IntArrayList(size);
+        boxedList = new ArrayList<>(size);
+        leftBitmap = new CompressedBitmap();
+        rightBitmap = new CompressedBitmap();
+        leftBitSet = new BitSet();
+        rightBitSet = new BitSet();
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(size * 4);
+            intHashSet.add(values[i]);
+            boxedSet.add(values[i]);
+            intArrayList.add(values[i]);
+            boxedList.add(values[i]);
+            int ordinal = random.nextInt(size * 4);
+            if (random.nextBoolean()) {
+                leftBitmap.add(ordinal);
+                leftBitSet.set(ordinal);
+            } else {
+                rightBitmap.add(ordinal);
+                rightBitSet.set(ordinal);
+            }
+        }
+    }
+
+    /** Adds every value to a new {@code IntHashSet}. */
+    @Benchmark
+    public IntHashSet buildIntHashSet() {
+        IntHashSet set = new IntHashSet();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /** Adds every value to a new {@code HashSet<Integer>}. */
+    @Benchmark
+    public Set<Integer> buildBoxedSet() {
+        Set<Integer> set = new HashSet<>();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /** Looks up every value in an {@code IntHashSet}. */
+    @Benchmark
+    public int containsIntHashSet() {
+        int found = 0;
+        for (int value : values) {
+            found += intHashSet.contains(value + 1) ? 1 : 0;
+        }
+        return found;
+    }
+
+    /** Looks up every value in a {@code HashSet<Integer>}. */
+    @Benchmark
+    public int containsBoxedSet() {
+        int found = 0;
+        for (int value : values) {
+            found += boxedSet.contains(value + 1) ? 1 : 0;
+        }
+        return found;
+    }
+
+    /** Sums the elements of an {@code IntArrayList}. */
+    @Benchmark
+    public long iterateIntArrayList() {
+        long sum = 0;
+        for (int i = 0; i < intArrayList.size(); i++) {
+            sum += intArrayList.get(i);
+        }
+        return sum;
+    }
+
+    /** Sums the elements of an {@code ArrayList<Integer>}. */
+    @Benchmark
+    public long iterateBoxedList() {
+        long sum = 0;
+        for (int value : boxedList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /** Counts values by day of year in an {@code IntIntHashMap}. */
+    @Benchmark
+    public IntIntHashMap countIntIntHashMap() {
+        IntIntHashMap counts = new IntIntHashMap();
+        for (int value : values) {
+            counts.addTo(value % 365, 1);
+        }
+        return counts;
+    }
+
+    /** Counts values by day of year in a {@code HashMap<Integer, Integer>}. */
+    @Benchmark
+    public Map<Integer, Integer> countBoxedMap() {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int value : values) {
+            counts.merge(value % 365, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /** Unions two {@code CompressedBitmap}s. */
+    @Benchmark
+    public CompressedBitmap orCompressedBitmap() {
+        CompressedBitmap result = leftBitmap.copy();
+        result.or(rightBitmap);
+        return result;
+    }
+
+    /** Unions two {@code BitSet}s. */
+    @Benchmark
+    public BitSet orBitSet() {
+        BitSet result = (BitSet) leftBitSet.clone();
+        result.or(rightBitSet);
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.cc.commons.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.cc.model.patient.Nric;
+import seedu.cc.model.person.Age;
+import seedu.cc.model.person.Email;
+import seedu.cc.model.person.Name;
+import seedu.cc.model.person.Phone;
+
+/**
+ * Compares field validation with {@code String#matches}, which compiles its regex on every call,
+ * against the precompiled patterns and scanners in {@link ValidationUtil}.
+ * Run with {@code ./gradlew jmh}. Add {@code -prof gc} to the JMH arguments to compare the bytes allocated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final Predicate<String> EMAIL = ValidationUtil.compile(Email.VALIDATION_REGEX);
+
+    private String name = "Charlotte Oliveiro";
+    private String nric = "S1234512A";
+    private String phone = "93210283";
+    private String age = "69";
+    private String email = "charlotte@example.com";
+
+    /** Validates a name with {@code String#matches}. */
+    @Benchmark
+    public boolean nameRegex() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    /** Validates a name with a scanner. */
+    @Benchmark
+    public boolean nameScanner() {
+        return ValidationUtil.isAlphanumericWords(name);
+    }
+
+    /** Validates an NRIC with {@code String#matches}. */
+    @Benchmark
+    public boolean nricRegex() {
+        return nric.matches(Nric.VALIDATION_REGEX);
+    }
+
+    /** Validates an NRIC with a scanner. */
+    @Benchmark
+    public boolean nricScanner() {
+        return ValidationUtil.isNric(nric);
+    }
+
+    /** Validates a phone number with {@code String#matches}. */
+    @Benchmark
+    public boolean phoneRegex() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    /** Validates a phone number with a scanner. */
+    @Benchmark
+    public boolean phoneScanner() {
+        return ValidationUtil.isDigits(phone, 8);
+    }
+
+    /** Validates an age with {@code String#matches}. */
+    @Benchmark
+    public boolean ageRegex() {
+        return age.matches(Age.VALIDATION_REGEX);
+    }
+
+    /** Validates an age with a scanner. */
+    @Benchmark
+    public boolean ageScanner() {
+        return Age.isValidAge(age);
+    }
+
+    /** Validates an email address with {@code String#matches}. */
+    @Benchmark
+    public boolean emailRegex() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+
+    /** Validates an email address with a precompiled pattern. */
+    @Benchmark
+    public boolean emailPrecompiled() {
+        return EMAIL.test(email);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures tokenizing the arguments of an {@code add-patient} command with every prefix it accepts,
+ * for a typical command and for one with a long run of tags as pasted from a script.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1", "200"})
+    private int tagCount;
+
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(" n/John Doe ic/S1234567A p/98765432 e/johnd@example.com a/45");
+        for (int i = 0; i < tagCount; i++) {
+            builder.append(" t/Tag").append(i);
+        }
+        arguments = builder.toString();
+    }
+
+    /** Tokenizes the arguments and reads every value, as {@code AddCommandParser} does. */
+    @Benchmark
+    public Object tokenize() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_NRIC, PREFIX_PHONE,
+                PREFIX_EMAIL, PREFIX_AGE, PREFIX_TAG);
+        argMultimap.getValue(PREFIX_NAME);
+        return argMultimap.getAllValues(PREFIX_TAG);
+    }
+}
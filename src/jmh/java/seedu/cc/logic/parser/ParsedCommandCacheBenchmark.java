@@ -0,0 +1,57 @@
+package seedu.cc.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.cc.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a {@code find-tag} command that was entered before, which is a cache hit, against parsing one of
+ * more distinct commands than the cache holds, so that every command is parsed again.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsedCommandCacheBenchmark {
+
+    private static final String REPEATED_INPUT = "find-tag tag:Diabetic AND tag:Elderly NOT tag:Deceased";
+
+    private final ClinicBookParser parser = new ClinicBookParser();
+    private String[] distinctInputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        distinctInputs = new String[ParsedCommandCache.DEFAULT_CAPACITY * 2];
+        for (int i = 0; i < distinctInputs.length; i++) {
+            distinctInputs[i] = REPEATED_INPUT + " OR tag:Ward" + i;
+        }
+    }
+
+    /** Parses the same command every time, as when {@code list} or the same search is entered again. */
+    @Benchmark
+    public Object parseRepeated() throws ParseException {
+        return parser.parseCommand(REPEATED_INPUT);
+    }
+
+    /** Parses commands in a cycle longer than the cache, so the least recently used one is always evicted. */
+    @Benchmark
+    public Object parseDistinct() throws ParseException {
+        next = (next + 1) % distinctInputs.length;
+        return parser.parseCommand(distinctInputs[next]);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.cc.model.patient;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ListChangeListener;
+import seedu.cc.model.person.Age;
+import seedu.cc.model.person.Email;
+import seedu.cc.model.person.Name;
+import seedu.cc.model.person.Phone;
+
+/**
+ * Measures importing patients into an empty list with a listener attached, as the patient list panel is,
+ * by adding them one at a time and by adding them all in one change.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkAddBenchmark {
+
+    @Param({"1000", "10000"})
+    private int patientCount;
+
+    private List<Patient> patients;
+
+    @Setup
+    public void setUp() {
+        patients = new ArrayList<>(patientCount);
+        for (int i = 0; i < patientCount; i++) {
+            patients.add(new Patient(new Name("Patient " + i), new Nric(String.format("S%07dA", i)),
+                    new Phone("98765432"), new Email("patient" + i + "@example.com"), new Age("40"),
+                    new HashSet<>()));
+        }
+    }
+
+    /** Adds the patients one at a time, as repeated {@code add-patient} commands would. */
+    @Benchmark
+    public Object addOneByOne() {
+        UniquePatientList list = newListWithListener();
+        patients.forEach(list::add);
+        return list;
+    }
+
+    /** Adds the patients in one change, as {@code import} does. */
+    @Benchmark
+    public Object addAll() {
+        UniquePatientList list = newListWithListener();
+        list.addAll(patients);
+        return list;
+    }
+
+    private static UniquePatientList newListWithListener() {
+        UniquePatientList list = new UniquePatientList();
+        list.asUnmodifiableObservableList().addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                change.getAddedSize();
+            }
+        });
+        return list;
+    }
+}
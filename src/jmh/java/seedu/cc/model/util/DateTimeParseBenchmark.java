@@ -0,0 +1,71 @@
+package seedu.cc.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing dates and times with {@code LocalDate#parse} and {@code LocalTime#parse}, catching the
+ * exception thrown for invalid input, against the single-pass {@link Date#parse} and {@link Time#parse}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParseBenchmark {
+
+    @Param({"2023-11-01", "2023-02-30"})
+    private String date;
+
+    @Param({"14:30", "25:00"})
+    private String time;
+
+    /** Validates then parses a date with {@code LocalDate#parse}, as {@code Date#of} used to. */
+    @Benchmark
+    public Object dateWithExceptions() {
+        try {
+            LocalDate.parse(date);
+            return LocalDate.parse(date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** Parses a date in one pass. */
+    @Benchmark
+    public Object dateSinglePass() {
+        return Date.parse(date);
+    }
+
+    /** Validates then parses a time with {@code LocalTime#parse}, as {@code Time#of} used to. */
+    @Benchmark
+    public Object timeWithExceptions() {
+        try {
+            LocalTime.parse(time);
+            return LocalTime.parse(time).toSecondOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** Parses a time in one pass. */
+    @Benchmark
+    public Object timeSinglePass() {
+        return Time.parse(time);
+    }
+}
@@ -2,19 +2,27 @@ package seedu.cc;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.cc.commons.core.CallerIdListener;
 import seedu.cc.commons.core.Config;
 import seedu.cc.commons.core.LogsCenter;
 import seedu.cc.commons.core.Version;
 import seedu.cc.commons.exceptions.DataLoadingException;
 import seedu.cc.commons.util.ConfigUtil;
+import seedu.cc.commons.util.Interner;
 import seedu.cc.commons.util.StringUtil;
 import seedu.cc.logic.Logic;
 import seedu.cc.logic.LogicManager;
+import seedu.cc.logic.commands.CommandResult;
+import seedu.cc.logic.commands.RunCommand;
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.logic.parser.exceptions.ParseException;
 import seedu.cc.model.ClinicBook;
 import seedu.cc.model.Model;
 import seedu.cc.model.ModelManager;
@@ -23,10 +31,12 @@ import seedu.cc.model.ReadOnlyUserPrefs;
 import seedu.cc.model.UserPrefs;
 import seedu.cc.model.util.SampleDataUtil;
 import seedu.cc.storage.ClinicBookStorage;
+import seedu.cc.storage.CommandHistoryStorage;
 import seedu.cc.storage.JsonClinicBookStorage;
 import seedu.cc.storage.JsonUserPrefsStorage;
 import seedu.cc.storage.Storage;
 import seedu.cc.storage.StorageManager;
+import seedu.cc.storage.TextCommandHistoryStorage;
 import seedu.cc.storage.UserPrefsStorage;
 import seedu.cc.ui.Ui;
 import seedu.cc.ui.UiManager;
@@ -45,6 +55,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CallerIdListener callerIdListener;
 
     @Override
     public void init() throws Exception {
@@ -58,11 +69,15 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         ClinicBookStorage clinicBookStorage = new JsonClinicBookStorage(userPrefs.getClinicBookFilePath());
-        storage = new StorageManager(clinicBookStorage, userPrefsStorage);
+        CommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
+        storage = new StorageManager(clinicBookStorage, userPrefsStorage, commandHistoryStorage);
 
         model = initModelManager(storage, userPrefs);
+        archiveMedicalHistory(config, model);
 
         logic = new LogicManager(model, storage);
+        runStartupScript(appParameters.getScriptPath());
 
         ui = new UiManager(logic);
     }
@@ -89,10 +104,38 @@ public class MainApp extends Application {
                 + " Will be starting with an empty ClinicBook.");
             initialData = new ClinicBook();
         }
+        logger.info(Interner.report());
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Moves medical history events older than the age set in {@code config} out of the heap.
+     */
+    private void archiveMedicalHistory(Config config, Model model) {
+        int ageDays = config.getMedicalHistoryArchiveAgeDays();
+        if (ageDays <= 0) {
+            return;
+        }
+        int archived = model.archiveMedicalHistoryBefore(LocalDate.now().minusDays(ageDays));
+        logger.info("Archived " + archived + " medical history events older than " + ageDays + " days");
+    }
+
+    /**
+     * Runs the script at {@code scriptPath}, if any, before the UI is shown.
+     */
+    private void runStartupScript(Path scriptPath) {
+        if (scriptPath == null) {
+            return;
+        }
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Startup script " + scriptPath + " was not run: " + e.getMessage());
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -172,11 +215,36 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ClinicBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        initCallerIdListener(config);
+    }
+
+    /**
+     * Starts listening for caller IDs on the port in {@code config}, if one is set.
+     * Each caller ID received is looked up on the JavaFX thread.
+     */
+    private void initCallerIdListener(Config config) {
+        if (config.getCallerIdPort() <= 0) {
+            return;
+        }
+
+        try {
+            callerIdListener = new CallerIdListener(config.getCallerIdPort(),
+                callerId -> Platform.runLater(() -> ui.showCaller(callerId)));
+            callerIdListener.start();
+        } catch (IOException e) {
+            logger.warning("Could not listen for caller IDs on port " + config.getCallerIdPort() + " : "
+                + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Clinic Book ] =============================");
+        if (callerIdListener != null) {
+            callerIdListener.close();
+        }
+        logger.info(Interner.report());
+        logic.getCommandHistory().close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
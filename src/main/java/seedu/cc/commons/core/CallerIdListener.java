@@ -0,0 +1,93 @@
+package seedu.cc.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.cc.commons.util.StringUtil;
+
+/**
+ * Listens on a loopback TCP port for caller IDs sent by a telephony system.
+ * Each line written to the port is passed, trimmed, to the handler on the listener thread.
+ * Only connections from the local machine can reach the port.
+ */
+public class CallerIdListener implements AutoCloseable {
+    private static final Logger logger = LogsCenter.getLogger(CallerIdListener.class);
+
+    private final ServerSocket serverSocket;
+    private final Consumer<String> handler;
+    private final Thread thread;
+
+    /**
+     * Binds to {@code port} on the loopback interface. Call {@link #start()} to begin accepting caller IDs.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public CallerIdListener(int port, Consumer<String> handler) throws IOException {
+        requireNonNull(handler);
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        this.handler = handler;
+        this.thread = new Thread(this::acceptConnections, "caller-id-listener");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting caller IDs in the background.
+     */
+    public void start() {
+        logger.info("Listening for caller IDs on " + serverSocket.getLocalSocketAddress());
+        thread.start();
+    }
+
+    /**
+     * Returns the port this listener is bound to.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting caller IDs.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close caller ID listener: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                readCallerIds(socket);
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warning("Caller ID connection failed: " + StringUtil.getDetails(e));
+                }
+            }
+        }
+    }
+
+    private void readCallerIds(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String callerId = line.trim();
+            if (!callerId.isEmpty()) {
+                logger.info("Incoming call from " + callerId);
+                handler.accept(callerId);
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int callerIdPort = 0;
+    private int medicalHistoryArchiveAgeDays = 730;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the loopback port on which caller IDs are received, or 0 if caller ID lookup is disabled.
+     */
+    public int getCallerIdPort() {
+        return callerIdPort;
+    }
+
+    public void setCallerIdPort(int callerIdPort) {
+        this.callerIdPort = callerIdPort;
+    }
+
+    /**
+     * Returns the age in days beyond which medical history events are moved off the heap into the archive,
+     * or 0 if medical history is never archived.
+     */
+    public int getMedicalHistoryArchiveAgeDays() {
+        return medicalHistoryArchiveAgeDays;
+    }
+
+    public void setMedicalHistoryArchiveAgeDays(int medicalHistoryArchiveAgeDays) {
+        this.medicalHistoryArchiveAgeDays = medicalHistoryArchiveAgeDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +72,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && callerIdPort == otherConfig.callerIdPort
+                && medicalHistoryArchiveAgeDays == otherConfig.medicalHistoryArchiveAgeDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, callerIdPort, medicalHistoryArchiveAgeDays);
     }
 
     @Override
@@ -60,6 +87,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("callerIdPort", callerIdPort)
+                .add("medicalHistoryArchiveAgeDays", medicalHistoryArchiveAgeDays)
                 .toString();
     }
 
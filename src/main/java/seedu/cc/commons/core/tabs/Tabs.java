@@ -6,7 +6,8 @@ package seedu.cc.commons.core.tabs;
 public enum Tabs {
     PATIENTS("Patients"),
     MEDICAL_HISTORY("Medical History"),
-    APPOINTMENTS("Appointments");
+    APPOINTMENTS("Appointments"),
+    DASHBOARD("Dashboard");
 
     private final String displayName;
 
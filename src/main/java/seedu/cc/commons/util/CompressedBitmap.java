@@ -0,0 +1,506 @@
+package seedu.cc.commons.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative {@code int}s, used in place of a {@code BitSet} when the values are sparse
+ * or spread far apart. Values are split by their high 16 bits into chunks of 65536. Each chunk that holds
+ * few values stores them as a sorted array of their low 16 bits, and each chunk that holds many stores a
+ * plain 8 KB bitmap, so that memory grows with the number of values rather than with the largest value.
+ */
+public class CompressedBitmap {
+
+    /** The most values a chunk holds as a sorted array before it switches to a bitmap. */
+    static final int ARRAY_CONTAINER_LIMIT = 4096;
+
+    private static final int WORDS_PER_CONTAINER = 1024;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private char[] keys = new char[INITIAL_CAPACITY];
+    private Container[] containers = new Container[INITIAL_CAPACITY];
+    private int containerCount = 0;
+
+    /**
+     * Adds {@code value} to the set. Returns true if it was not already in the set.
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char high = (char) (value >>> 16);
+        char low = (char) value;
+        int index = Arrays.binarySearch(keys, 0, containerCount, high);
+        if (index >= 0) {
+            if (containers[index].contains(low)) {
+                return false;
+            }
+            containers[index] = containers[index].add(low);
+            return true;
+        }
+
+        ArrayContainer container = new ArrayContainer();
+        container.add(low);
+        insertContainer(-index - 1, high, container);
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set. Returns true if it was in the set.
+     */
+    public boolean remove(int value) {
+        checkValue(value);
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> 16));
+        if (index < 0 || !containers[index].contains((char) value)) {
+            return false;
+        }
+        containers[index] = containers[index].remove((char) value);
+        if (containers[index].cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+            containers[--containerCount] = null;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < containerCount; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return containerCount == 0;
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, containerCount, null);
+        containerCount = 0;
+    }
+
+    /**
+     * Returns a copy of this set that can be modified independently of it.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(INITIAL_CAPACITY, containerCount));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < containerCount; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.containerCount = containerCount;
+        return copy;
+    }
+
+    /**
+     * Keeps only the values that are also in {@code other}.
+     */
+    public void and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], Container.and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        replaceWith(result);
+    }
+
+    /**
+     * Adds every value in {@code other}.
+     */
+    public void or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                result.appendIfNotEmpty(keys[i], containers[i]);
+                i++;
+            } else if (i == containerCount || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], Container.or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        replaceWith(result);
+    }
+
+    /**
+     * Removes every value that is in {@code other}.
+     */
+    public void andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], Container.andNot(containers[i], other.containers[j]));
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i]);
+            }
+        }
+        replaceWith(result);
+    }
+
+    /**
+     * Calls {@code action} with each value in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns a new array holding the values in ascending order.
+     */
+    public int[] toArray() {
+        IntArrayList values = new IntArrayList(cardinality());
+        forEach(values::add);
+        return values.toArray();
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IndexOutOfBoundsException("value < 0: " + value);
+        }
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, containerCount * 2);
+            containers = Arrays.copyOf(containers, containerCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertContainer(containerCount, key, container);
+        }
+    }
+
+    private void replaceWith(CompressedBitmap other) {
+        keys = other.keys;
+        containers = other.containers;
+        containerCount = other.containerCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        return Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The values of one chunk, identified by their low 16 bits.
+     * Updates return the container that holds the result, which may be a new container of the other kind.
+     */
+    private abstract static class Container {
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract int cardinality();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        /** Returns a new bitmap of the values in this container. */
+        abstract long[] toWords();
+
+        abstract Container copy();
+
+        static Container fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality > ARRAY_CONTAINER_LIMIT ? bitmap : bitmap.toArrayContainer();
+        }
+
+        static Container and(Container left, Container right) {
+            if (left instanceof ArrayContainer) {
+                return ((ArrayContainer) left).filter(right, true);
+            }
+            if (right instanceof ArrayContainer) {
+                return ((ArrayContainer) right).filter(left, true);
+            }
+            long[] words = left.toWords();
+            long[] rightWords = ((BitmapContainer) right).words;
+            for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                words[i] &= rightWords[i];
+            }
+            return fromWords(words);
+        }
+
+        static Container or(Container left, Container right) {
+            if (left instanceof ArrayContainer && right instanceof ArrayContainer
+                    && left.cardinality() + right.cardinality() <= ARRAY_CONTAINER_LIMIT) {
+                return ((ArrayContainer) left).union((ArrayContainer) right);
+            }
+            long[] words = left.toWords();
+            long[] rightWords = right.toWords();
+            for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                words[i] |= rightWords[i];
+            }
+            return fromWords(words);
+        }
+
+        static Container andNot(Container left, Container right) {
+            if (left instanceof ArrayContainer) {
+                return ((ArrayContainer) left).filter(right, false);
+            }
+            long[] words = left.toWords();
+            long[] rightWords = right.toWords();
+            for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                words[i] &= ~rightWords[i];
+            }
+            return fromWords(words);
+        }
+    }
+
+    /**
+     * A container that stores its values as a sorted array.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[INITIAL_CAPACITY], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CONTAINER_LIMIT) {
+                return new BitmapContainer(toWords(), cardinality).add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_LIMIT, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[WORDS_PER_CONTAINER];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+        }
+
+        /**
+         * Returns the values of this container that are in {@code other} if {@code keepShared} is true,
+         * or that are not in {@code other} otherwise.
+         */
+        ArrayContainer filter(Container other, boolean keepShared) {
+            char[] result = new char[Math.max(1, cardinality)];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keepShared) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        /**
+         * Returns the values in either this container or {@code other}, merged in order.
+         */
+        ArrayContainer union(ArrayContainer other) {
+            char[] result = new char[Math.max(1, cardinality + other.cardinality)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    result[count++] = other.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+
+    /**
+     * A container that stores its values as a bitmap of all 65536 possible low halves.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            if (!contains(low)) {
+                return this;
+            }
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality > ARRAY_CONTAINER_LIMIT ? this : toArrayContainer();
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        ArrayContainer toArrayContainer() {
+            char[] values = new char[Math.max(1, cardinality)];
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.cc.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.cc.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading and writing comma-separated values.
+ * A value may be enclosed in double quotes so that it can contain commas, with each double quote in it
+ * written twice. Values cannot span lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed";
+    public static final String MESSAGE_UNEXPECTED_QUOTE = "A closing quote must be followed by a comma";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the values of one line of CSV, in order.
+     *   <br>examples:<pre>
+     *       parseLine("a, b,,c") == ["a", " b", "", "c"]
+     *       parseLine("\"Tan, Ah Kow\",\"say \"\"hi\"\"\"") == ["Tan, Ah Kow", "say \"hi\""]
+     *       </pre>
+     *
+     * @throws IllegalValueException if a quoted value is not closed, or is followed by anything but a comma
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedValue(line, i + 1, value);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_UNEXPECTED_QUOTE);
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    value.append(line.charAt(i));
+                    i++;
+                }
+            }
+            values.add(value.toString());
+            value.setLength(0);
+            if (i >= line.length()) {
+                return values;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Returns {@code value} as one CSV value, quoting it only if it contains a comma or a double quote.
+     * A value that needs no quoting is returned as it is, without copying it.
+     */
+    public static String toCsvValue(String value) {
+        requireNonNull(value);
+        if (value.indexOf(SEPARATOR) == -1 && value.indexOf(QUOTE) == -1) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+
+    /**
+     * Appends the quoted value starting at {@code start}, just after its opening quote, to {@code value}.
+     * Returns the position just after its closing quote.
+     */
+    private static int readQuotedValue(String line, int start, StringBuilder value) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                value.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                value.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
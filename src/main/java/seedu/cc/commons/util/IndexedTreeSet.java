@@ -0,0 +1,204 @@
+package seedu.cc.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A sorted set that can also find an element by its index in the sorted order, and the index of an element.
+ * Elements are held in a treap, a binary search tree kept balanced by random priorities, where each node also
+ * counts the nodes below it. Adding, removing and finding an element or an index each cost O(log n) on average,
+ * where a sorted array would shift up to n elements to add or remove one.
+ *
+ * @param <T> the type of the elements
+ */
+public class IndexedTreeSet<T> {
+
+    private final Comparator<? super T> comparator;
+    private final Random random = new Random();
+    private Node<T> root = null;
+
+    /**
+     * Creates an empty set sorted by {@code comparator}, which must be consistent with equals.
+     */
+    public IndexedTreeSet(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Adds {@code element} and returns its index, or returns -1 if an equal element is already in the set.
+     */
+    public int add(T element) {
+        requireNonNull(element);
+        if (indexOf(element) != -1) {
+            return -1;
+        }
+        Node<T>[] parts = split(root, element);
+        int index = sizeOf(parts[0]);
+        root = merge(merge(parts[0], new Node<>(element, random.nextInt())), parts[1]);
+        return index;
+    }
+
+    /**
+     * Removes {@code element} and returns the index it had, or returns -1 if it is not in the set.
+     */
+    public int remove(T element) {
+        requireNonNull(element);
+        int index = indexOf(element);
+        if (index == -1) {
+            return -1;
+        }
+        Node<T>[] parts = split(root, element);
+        root = merge(parts[0], removeFirst(parts[1]));
+        return index;
+    }
+
+    /**
+     * Returns the element at {@code index} in the sorted order.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code element} in the sorted order, or -1 if it is not in the set.
+     */
+    public int indexOf(T element) {
+        requireNonNull(element);
+        Node<T> node = root;
+        int before = 0;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison == 0) {
+                return before + sizeOf(node.left);
+            } else {
+                before += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the elements in sorted order.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        addInOrder(root, elements);
+        return elements;
+    }
+
+    private static <T> int sizeOf(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> void addInOrder(Node<T> node, List<T> elements) {
+        if (node != null) {
+            addInOrder(node.left, elements);
+            elements.add(node.element);
+            addInOrder(node.right, elements);
+        }
+    }
+
+    /**
+     * Splits the tree at {@code node} into the nodes before {@code element} and the nodes from it onwards.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, T element) {
+        if (node == null) {
+            return (Node<T>[]) new Node<?>[] {null, null};
+        }
+        if (comparator.compare(node.element, element) < 0) {
+            Node<T>[] parts = split(node.right, element);
+            node.right = parts[0];
+            parts[0] = node.update();
+            return parts;
+        }
+        Node<T>[] parts = split(node.left, element);
+        node.left = parts[1];
+        parts[1] = node.update();
+        return parts;
+    }
+
+    /**
+     * Joins two trees, where every element of {@code left} comes before every element of {@code right}.
+     */
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private Node<T> removeFirst(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return node.update();
+    }
+
+    /**
+     * A node of the tree, which counts itself and the nodes below it.
+     */
+    private static class Node<T> {
+        private final T element;
+        private final int priority;
+        private Node<T> left;
+        private Node<T> right;
+        private int size = 1;
+
+        Node(T element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        Node<T> update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+            return this;
+        }
+    }
+}
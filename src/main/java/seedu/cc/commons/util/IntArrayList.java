@@ -0,0 +1,158 @@
+package seedu.cc.commons.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A growable array of {@code int}s, used in place of a {@code List<Integer>} to avoid boxing each element.
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private int[] elements;
+    private int size = 0;
+
+    /**
+     * Creates an empty list.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for {@code initialCapacity} elements before it grows.
+     */
+    public IntArrayList(int initialCapacity) {
+        AppUtil.checkArgument(initialCapacity >= 0, "Capacity must not be negative");
+        elements = new int[initialCapacity];
+    }
+
+    /**
+     * Appends {@code value} to the end of the list.
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code value} and returns the element it replaced.
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Removes the element at {@code index}, shifting later elements down, and returns it.
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the last element and returns it.
+     */
+    public int removeLast() {
+        return removeAt(size - 1);
+    }
+
+    /**
+     * Returns the index of the first element equal to {@code value}, or -1 if there is none.
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every element, keeping the capacity of the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Calls {@code action} with each element in order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Returns a new array holding the elements in order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IntArrayList)) {
+            return false;
+        }
+
+        IntArrayList otherList = (IntArrayList) other;
+        return Arrays.equals(elements, 0, size, otherList.elements, 0, otherList.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.cc.commons.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A hash set of {@code int}s, used in place of a {@code Set<Integer>} to avoid boxing each element.
+ * Elements are stored in a single open-addressed array with linear probing. The value 0 marks a free slot,
+ * so the element 0 itself is tracked by a separate flag.
+ */
+public class IntHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private int mask;
+    private boolean hasZero = false;
+    private int size = 0;
+
+    /**
+     * Creates an empty set.
+     */
+    public IntHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expectedSize} elements before it grows.
+     */
+    public IntHashSet(int expectedSize) {
+        AppUtil.checkArgument(expectedSize >= 0, "Expected size must not be negative");
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Spreads the bits of {@code key} so that consecutive keys fall into different slots.
+     */
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the power-of-two table length that holds {@code expectedSize} keys under the load factor.
+     */
+    static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) Math.ceil(expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(4, capacity);
+    }
+
+    /**
+     * Adds {@code value} to the set. Returns true if it was not already in the set.
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = mix(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set. Returns true if it was in the set.
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        int slot = mix(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                shiftKeys(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        if (value == 0) {
+            return hasZero;
+        }
+
+        int slot = mix(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every element, keeping the capacity of the set.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Calls {@code action} with each element, in no particular order.
+     */
+    public void forEach(IntConsumer action) {
+        if (hasZero) {
+            action.accept(0);
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Returns a new array holding the elements, in no particular order.
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = 0;
+        if (hasZero) {
+            result[i++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        allocate(capacity);
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot at {@code position} and moves later keys of the same probe run back into the gap,
+     * so that lookups never stop early at a freed slot.
+     */
+    private void shiftKeys(int position) {
+        int gap = position;
+        int slot = (position + 1) & mask;
+        while (keys[slot] != 0) {
+            int home = mix(keys[slot]) & mask;
+            boolean canFillGap = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (canFillGap) {
+                keys[gap] = keys[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IntHashSet)) {
+            return false;
+        }
+
+        IntHashSet otherSet = (IntHashSet) other;
+        if (size != otherSet.size || hasZero != otherSet.hasZero) {
+            return false;
+        }
+        for (int key : keys) {
+            if (key != 0 && !otherSet.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int key : keys) {
+            hash += key;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
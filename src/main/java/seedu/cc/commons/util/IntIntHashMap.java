@@ -0,0 +1,245 @@
+package seedu.cc.commons.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from {@code int} keys to {@code int} values, used in place of a {@code Map<Integer, Integer>}
+ * to avoid boxing each entry. Keys and values are stored in parallel open-addressed arrays with linear probing.
+ * The key 0 marks a free slot, so an entry with the key 0 itself is tracked separately.
+ */
+public class IntIntHashMap {
+
+    /**
+     * Accepts one entry of the map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private boolean hasZeroKey = false;
+    private int zeroKeyValue;
+    private int size = 0;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntIntHashMap() {
+        allocate(IntHashSet.tableSizeFor(12));
+    }
+
+    /**
+     * Associates {@code value} with {@code key}, and returns the value previously associated with it,
+     * or {@code missingValue} if there was none.
+     */
+    public int put(int key, int value, int missingValue) {
+        if (key == 0) {
+            int previous = hasZeroKey ? zeroKeyValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return previous;
+        }
+
+        int slot = find(key);
+        if (keys[slot] == key) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    /**
+     * Adds {@code delta} to the value associated with {@code key}, treating a missing key as 0.
+     * The entry is removed if its value becomes 0, so that counters do not accumulate dead keys.
+     *
+     * @return the new value associated with {@code key}.
+     */
+    public int addTo(int key, int delta) {
+        int value = getOrDefault(key, 0) + delta;
+        if (value == 0) {
+            remove(key);
+        } else {
+            put(key, value, 0);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value associated with {@code key}, or {@code missingValue} if there is none.
+     */
+    public int getOrDefault(int key, int missingValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroKeyValue : missingValue;
+        }
+        int slot = find(key);
+        return keys[slot] == key ? values[slot] : missingValue;
+    }
+
+    /**
+     * Returns true if some value is associated with {@code key}.
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : keys[find(key)] == key;
+    }
+
+    /**
+     * Removes the entry with the key {@code key}. Returns true if there was one.
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            size--;
+            return true;
+        }
+
+        int slot = find(key);
+        if (keys[slot] != key) {
+            return false;
+        }
+        shiftKeys(slot);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the capacity of the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Calls {@code action} with each entry, in no particular order.
+     */
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the free slot where it would be inserted.
+     */
+    private int find(int key) {
+        int slot = IntHashSet.mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Frees the slot at {@code position} and moves later entries of the same probe run back into the gap,
+     * so that lookups never stop early at a freed slot.
+     */
+    private void shiftKeys(int position) {
+        int gap = position;
+        int slot = (position + 1) & mask;
+        while (keys[slot] != 0) {
+            int home = IntHashSet.mix(keys[slot]) & mask;
+            boolean canFillGap = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (canFillGap) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IntIntHashMap)) {
+            return false;
+        }
+
+        IntIntHashMap otherMap = (IntIntHashMap) other;
+        if (size != otherMap.size || hasZeroKey != otherMap.hasZeroKey
+                || (hasZeroKey && zeroKeyValue != otherMap.zeroKeyValue)) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0 && (!otherMap.containsKey(keys[i])
+                    || otherMap.getOrDefault(keys[i], 0) != values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasZeroKey ? zeroKeyValue : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += keys[i] ^ values[i];
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> builder.append(builder.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.cc.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToLongFunction;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values share one instance.
+ * Values are held through weak references, so an instance that is no longer used anywhere else
+ * is dropped from the pool by the garbage collector rather than kept alive by it.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}
+ */
+public class Interner<T> {
+
+    /** Object header plus one reference field, rounded up to 8 bytes. */
+    private static final long WRAPPER_BYTES = 16;
+    /** A {@code String} object, excluding its backing array. */
+    private static final long STRING_BYTES = 24;
+    /** The header of the backing {@code byte[]} of a {@code String}. */
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    private static final List<Interner<?>> INTERNERS = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final ToLongFunction<? super T> sizeEstimator;
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    private long requests;
+    private long hits;
+    private long bytesSaved;
+
+    /**
+     * Creates an interner named {@code name} in the heap usage report, where {@code sizeEstimator}
+     * estimates the bytes retained by each duplicate instance that the pool avoids.
+     */
+    public Interner(String name, ToLongFunction<? super T> sizeEstimator) {
+        CollectionUtil.requireAllNonNull(name, sizeEstimator);
+        this.name = name;
+        this.sizeEstimator = sizeEstimator;
+        INTERNERS.add(this);
+    }
+
+    /**
+     * Returns the estimated bytes retained by an object whose only field is the string {@code value},
+     * assuming compressed references and Latin-1 compact strings.
+     */
+    public static long estimateStringWrapperSize(String value) {
+        long arrayBytes = (ARRAY_HEADER_BYTES + value.length() + 7) / 8 * 8;
+        return WRAPPER_BYTES + STRING_BYTES + arrayBytes;
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        requests++;
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            hits++;
+            bytesSaved += sizeEstimator.applyAsLong(value);
+            return canonical;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances that are still in use.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Returns one line summarising how much this pool has saved.
+     */
+    public synchronized String summary() {
+        return String.format("%s: %d canonical instances, %d of %d requests shared (~%d bytes saved)",
+                name, pool.size(), hits, requests, bytesSaved);
+    }
+
+    /**
+     * Returns a report of the heap saved by every interner created so far, one line per interner.
+     */
+    public static String report() {
+        StringBuilder builder = new StringBuilder("Interned value pools:");
+        long totalBytesSaved = 0;
+        for (Interner<?> interner : INTERNERS) {
+            builder.append(System.lineSeparator()).append("  ").append(interner.summary());
+            totalBytesSaved += interner.getBytesSaved();
+        }
+        return builder.append(System.lineSeparator())
+                .append("  Total: ~").append(totalBytesSaved).append(" bytes saved")
+                .toString();
+    }
+}
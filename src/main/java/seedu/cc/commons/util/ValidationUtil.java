@@ -0,0 +1,117 @@
+package seedu.cc.commons.util;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating field values without compiling a regular expression on every call.
+ * Fixed formats are checked by hand-written scanners that allocate nothing; other formats are checked against a
+ * {@code Pattern} compiled once with {@link #compile(String)}.
+ * Like {@code String#matches}, every method throws {@code NullPointerException} if the value is null.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns a predicate that is true for strings matching {@code regex} in full, compiling {@code regex} once.
+     */
+    public static Predicate<String> compile(String regex) {
+        return Pattern.compile(regex).asMatchPredicate();
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, i.e. {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code value} is one or more ASCII letters or digits, i.e. {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAsciiAlphanumeric(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is an ASCII letter or digit followed by any number of ASCII letters, digits
+     * and spaces, i.e. {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String value) {
+        if (value.isEmpty() || !isAsciiAlphanumeric(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is exactly {@code length} ASCII digits, i.e. {@code \d{length}}.
+     */
+    public static boolean isDigits(String value, int length) {
+        return value.length() == length && isDigitsBetween(value, 0, length);
+    }
+
+    /**
+     * Returns true if {@code value} is an uppercase letter, 7 digits and an uppercase letter,
+     * i.e. {@code [A-Z]\d{7}[A-Z]}.
+     */
+    public static boolean isNric(String value) {
+        return value.length() == 9
+                && isAsciiUppercase(value.charAt(0))
+                && isDigitsBetween(value, 1, 8)
+                && isAsciiUppercase(value.charAt(8));
+    }
+
+    /**
+     * Returns true if {@code value} is 1 to {@code maxDigits} ASCII digits whose value is at most {@code max}.
+     * Leading zeros are allowed.
+     */
+    public static boolean isBoundedNumber(String value, int maxDigits, int max) {
+        int length = value.length();
+        if (length == 0 || length > maxDigits) {
+            return false;
+        }
+        int number = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiDigit(c)) {
+                return false;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number <= max;
+    }
+
+    private static boolean isAsciiUppercase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigitsBetween(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isAsciiDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
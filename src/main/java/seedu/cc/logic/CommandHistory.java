@@ -0,0 +1,280 @@
+package seedu.cc.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.cc.commons.core.LogsCenter;
+import seedu.cc.commons.util.StringUtil;
+import seedu.cc.storage.CommandHistoryStorage;
+
+/**
+ * The commands entered by the user, oldest first, kept across sessions so they can be recalled and searched.
+ *
+ * The latest {@code capacity} commands are kept in a ring buffer, so adding a command never moves the others.
+ * Each distinct command is also entered in a sorted index pointing at its latest position, so finding the latest
+ * command that starts with a prefix looks only at the commands with that prefix.
+ *
+ * The history is read from storage on a background thread as soon as it is created, so neither startup nor the first
+ * use of the history waits on the disk. The first use waits at most {@link #LOAD_WAIT_MILLIS} for the stored commands,
+ * and any use before they are read sees only the commands added so far; the stored commands are put before those
+ * once they are read. Added commands are appended to storage in batches on the same thread. Once storage holds twice
+ * as many commands as are kept, it is rewritten with only the commands kept, so it does not grow without bound.
+ */
+public class CommandHistory implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /** How long an added command waits, in milliseconds, to be written together with any commands added after it. */
+    static final long WRITE_DELAY_MILLIS = 500;
+
+    /** How long the first use of the history waits, in milliseconds, for the stored commands to be read. */
+    static final long LOAD_WAIT_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+
+    private final CommandHistoryStorage storage;
+    private final int capacity;
+    private final String[] commands;
+    private final NavigableMap<String, Long> latestPositions = new TreeMap<>();
+    private final List<String> unwritten = new ArrayList<>();
+    private final ScheduledThreadPoolExecutor writer;
+    private final Object writeLock = new Object();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+
+    // Commands are numbered in the order they are added. The command numbered n is kept at n % capacity.
+    private long first = 0;
+    private long next = 0;
+    private int commandsInStorage = 0;
+    private boolean isLoaded = false;
+    private boolean isWriteScheduled = false;
+    private volatile boolean hasWaitedForLoad = false;
+
+    /**
+     * Creates a history that keeps up to {@link #DEFAULT_CAPACITY} commands in {@code storage}.
+     */
+    public CommandHistory(CommandHistoryStorage storage) {
+        this(storage, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history that keeps up to {@code capacity} commands in {@code storage}.
+     */
+    public CommandHistory(CommandHistoryStorage storage, int capacity) {
+        requireNonNull(storage);
+        checkArgument(capacity > 0, "The capacity of a command history must be positive");
+        this.storage = storage;
+        this.capacity = capacity;
+        this.commands = new String[capacity];
+        this.writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "command-history-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Commands waiting to be written when the history is closed are written by close() instead.
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        // Every write is scheduled after this, so the commands in storage are counted before any is written.
+        writer.execute(this::load);
+    }
+
+    /**
+     * Adds {@code command} as the latest command, unless it is blank or the same as the latest command.
+     * Any line breaks in {@code command} are replaced with spaces.
+     */
+    public void add(String command) {
+        requireNonNull(command);
+        String singleLine = LINE_BREAK.matcher(command).replaceAll(" ");
+        if (singleLine.isBlank()) {
+            return;
+        }
+        awaitFirstLoad();
+        synchronized (this) {
+            if (next > first && commands[slot(next - 1)].equals(singleLine)) {
+                return;
+            }
+
+            append(singleLine);
+            unwritten.add(singleLine);
+            if (!isWriteScheduled && !writer.isShutdown()) {
+                isWriteScheduled = true;
+                writer.schedule(this::write, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of commands in the history.
+     */
+    public int size() {
+        awaitFirstLoad();
+        synchronized (this) {
+            return (int) (next - first);
+        }
+    }
+
+    /**
+     * Returns the command at {@code index}, where 0 is the oldest command.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}
+     */
+    public String get(int index) {
+        awaitFirstLoad();
+        synchronized (this) {
+            if (index < 0 || index >= next - first) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + (next - first));
+            }
+            return commands[slot(first + index)];
+        }
+    }
+
+    /**
+     * Returns the index of the latest command before {@code before} that starts with {@code prefix}, if any.
+     * A command that was entered more than once is found only at its latest index, so searching again from the
+     * index found moves on to a different command.
+     */
+    public OptionalInt findLatestStartingWith(String prefix, int before) {
+        requireNonNull(prefix);
+        awaitFirstLoad();
+        synchronized (this) {
+            long limit = first + Math.min(Math.max(before, 0), next - first);
+            long latest = -1;
+            for (long position : latestPositions.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                if (position < limit && position > latest) {
+                    latest = position;
+                }
+            }
+            return latest < 0 ? OptionalInt.empty() : OptionalInt.of((int) (latest - first));
+        }
+    }
+
+    /**
+     * Writes any commands not yet written to storage, and stops the background thread.
+     * Commands added afterwards are kept in memory only.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        // Reading the stored commands is cancelled if it has not started, and they must be counted before writing.
+        load();
+        write();
+    }
+
+    private int slot(long position) {
+        return (int) (position % capacity);
+    }
+
+    private void append(String command) {
+        if (next - first == capacity) {
+            // Drop the oldest command from the index only if it was not entered again since.
+            latestPositions.remove(commands[slot(first)], first);
+            first++;
+        }
+        commands[slot(next)] = command;
+        latestPositions.put(command, next);
+        next++;
+    }
+
+    /**
+     * Waits briefly for the stored commands to be read, if this is the first use of the history.
+     */
+    private void awaitFirstLoad() {
+        if (hasWaitedForLoad) {
+            return;
+        }
+        hasWaitedForLoad = true;
+        try {
+            if (!loaded.await(LOAD_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.fine("The command history is used before it is read from storage");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads the stored commands, and puts them before the commands added so far, unless they have been read already.
+     */
+    private void load() {
+        synchronized (this) {
+            if (isLoaded) {
+                return;
+            }
+        }
+        List<String> stored = List.of();
+        try {
+            stored = storage.readCommandHistory();
+        } catch (IOException e) {
+            logger.warning("Could not read the command history: " + StringUtil.getDetails(e));
+        }
+
+        synchronized (this) {
+            if (isLoaded) {
+                return;
+            }
+            List<String> added = new ArrayList<>();
+            for (long position = first; position < next; position++) {
+                added.add(commands[slot(position)]);
+            }
+            first = 0;
+            next = 0;
+            latestPositions.clear();
+            stored.stream()
+                    .filter(command -> !command.isBlank())
+                    .forEach(this::append);
+            added.forEach(this::append);
+            commandsInStorage = stored.size();
+            isLoaded = true;
+        }
+        loaded.countDown();
+    }
+
+    /**
+     * Writes the commands not yet written, appending them to storage, or rewriting storage with every command kept
+     * if it would otherwise hold more than twice as many commands as are kept.
+     */
+    private void write() {
+        synchronized (writeLock) {
+            List<String> toAppend;
+            List<String> toSave = null;
+            synchronized (this) {
+                isWriteScheduled = false;
+                if (unwritten.isEmpty()) {
+                    return;
+                }
+                toAppend = new ArrayList<>(unwritten);
+                unwritten.clear();
+                if (commandsInStorage + toAppend.size() > 2 * capacity) {
+                    toSave = new ArrayList<>();
+                    for (long position = first; position < next; position++) {
+                        toSave.add(commands[slot(position)]);
+                    }
+                    commandsInStorage = toSave.size();
+                } else {
+                    commandsInStorage += toAppend.size();
+                }
+            }
+
+            try {
+                if (toSave == null) {
+                    storage.appendCommandHistory(toAppend);
+                } else {
+                    storage.saveCommandHistory(toSave);
+                }
+            } catch (IOException e) {
+                logger.warning("Could not save the command history: " + StringUtil.getDetails(e));
+            }
+        }
+    }
+}
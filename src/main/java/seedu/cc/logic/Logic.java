@@ -1,8 +1,12 @@
 package seedu.cc.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.cc.commons.core.GuiSettings;
 import seedu.cc.logic.commands.CommandResult;
@@ -26,6 +30,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but runs {@code beforeSaving} once the command is done and
+     * before the clinic book is saved, e.g. to stop the command from being cancelled while it is saved.
+     */
+    CommandResult execute(String commandText, Runnable beforeSaving) throws CommandException, ParseException;
+
+    /**
+     * Returns {@code commandWordPrefix} completed as far as the command words starting with it agree.
+     *
+     * @see seedu.cc.logic.parser.CommandRegistry#complete(String)
+     */
+    String completeCommandWord(String commandWordPrefix);
+
+    /**
+     * Returns the commands entered by the user, which are kept across sessions.
+     */
+    CommandHistory getCommandHistory();
+
     /**
      * Returns the ClinicBook.
      *
@@ -59,4 +81,39 @@ public interface Logic {
     IntegerProperty currentTabProperty();
 
     int getCurrentTab();
+
+    /**
+     * Returns up to {@code count} patients with the latest medical history events, latest first.
+     *
+     * @see seedu.cc.model.Model#getRecentlySeenPatients(int)
+     */
+    List<Patient> getRecentlySeenPatients(int count);
+
+    /**
+     * Returns up to {@code count} patients with the soonest appointments from today onwards, soonest first.
+     *
+     * @see seedu.cc.model.Model#getUpcomingPatients(int)
+     */
+    List<Patient> getUpcomingPatients(int count);
+
+    /**
+     * Returns the number of appointments of all patients dated from {@code start} to {@code end}, both inclusive.
+     *
+     * @see seedu.cc.model.Model#countAppointmentsBetween(LocalDate, LocalDate)
+     */
+    int countAppointmentsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the patient to be brought into view in the patient list.
+     *
+     * @see seedu.cc.model.Model#focusedPatientProperty()
+     */
+    ReadOnlyObjectProperty<Patient> focusedPatientProperty();
+
+    /**
+     * Returns the index of the focused patient in the filtered patient list as of when it was focused.
+     *
+     * @see seedu.cc.model.Model#focusedPatientIndexProperty()
+     */
+    ReadOnlyIntegerProperty focusedPatientIndexProperty();
 }
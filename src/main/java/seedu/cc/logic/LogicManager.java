@@ -1,11 +1,17 @@
 package seedu.cc.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.ObservableList;
 import seedu.cc.commons.core.GuiSettings;
@@ -36,6 +42,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final ClinicBookParser clinicBookParser;
+    private final CommandHistory commandHistory;
     private final IntegerProperty currentTab = new SimpleIntegerProperty(this, "currentTab", 0);
 
     /**
@@ -45,6 +52,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         clinicBookParser = new ClinicBookParser();
+        commandHistory = new CommandHistory(storage);
         this.model.currentTabProperty().addListener((observable, oldValue, newValue) -> {
             // Update LogicManager's currentTab property with the new value
             this.currentTab.set(newValue.intValue());
@@ -54,14 +62,24 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, () -> { });
+    }
+
+    @Override
+    public CommandResult execute(String commandText, Runnable beforeSaving) throws CommandException, ParseException {
+        requireNonNull(beforeSaving);
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = clinicBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        logger.fine("Parsed command cache: " + clinicBookParser.getCacheStatistics());
+        commandResult = executeInTransaction(command);
 
+        beforeSaving.run();
+        // A request to cancel the command that came after it was done must not interrupt saving.
+        Thread.interrupted();
         try {
-            storage.saveClinicBook(model.getClinicBook());
+            storage.saveClinicBook(model.getClinicBookSnapshot());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -71,6 +89,33 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Executes {@code command} in a transaction on the model, so that if it fails, any change it made before
+     * failing is rolled back.
+     */
+    private CommandResult executeInTransaction(Command command) throws CommandException {
+        model.beginTransaction();
+        try {
+            CommandResult commandResult = command.execute(model);
+            model.commitTransaction();
+            return commandResult;
+        } catch (CommandException | RuntimeException e) {
+            logger.info("Rolling back the changes made by the failed command: " + e.getMessage());
+            model.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    @Override
+    public String completeCommandWord(String commandWordPrefix) {
+        return clinicBookParser.getCommandRegistry().complete(commandWordPrefix);
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
+
     @Override
     public ReadOnlyClinicBook getClinicBook() {
         return model.getClinicBook();
@@ -110,6 +155,31 @@ public class LogicManager implements Logic {
         return currentTab;
     }
 
+    @Override
+    public List<Patient> getRecentlySeenPatients(int count) {
+        return model.getRecentlySeenPatients(count);
+    }
+
+    @Override
+    public List<Patient> getUpcomingPatients(int count) {
+        return model.getUpcomingPatients(count);
+    }
+
+    @Override
+    public int countAppointmentsBetween(LocalDate start, LocalDate end) {
+        return model.countAppointmentsBetween(start, end);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Patient> focusedPatientProperty() {
+        return model.focusedPatientProperty();
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty focusedPatientIndexProperty() {
+        return model.focusedPatientIndexProperty();
+    }
+
     public int getCurrentTab() {
         return currentTab.get();
     }
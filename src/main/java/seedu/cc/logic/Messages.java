@@ -15,6 +15,8 @@ import seedu.cc.model.patient.Patient;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command! Did you mean one of: %1$s";
+    public static final String MESSAGE_UNABBREVIATED_COMMAND = "Incomplete command! Enter it in full: %1$s";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX = "The patient index provided is invalid";
     public static final String MESSAGE_PATIENT_NOT_DISPLAYED_INDEX_ERROR =
@@ -11,8 +11,10 @@ import seedu.cc.model.Model;
 public class ClearCommand extends Command {
 
     public static final String COMMAND_WORD = "clear";
-    public static final String MESSAGE_SUCCESS = "Clinic book has been cleared!";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Clears all patient records.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Clinic book has been cleared!";
 
     @Override
     public CommandResult execute(Model model) {
@@ -0,0 +1,107 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+import seedu.cc.storage.ClinicBookExporter;
+import seedu.cc.storage.ExportFilter;
+
+/**
+ * Exports the patients, appointments, prescriptions and medical history events in the clinic book to CSV or NDJSON.
+ * The export reads a snapshot of the clinic book, so it sees the clinic book as it was when the export started.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports patients, appointments, prescriptions and "
+            + "medical history events to a .csv or .ndjson file. "
+            + "Exporting to NAME.csv writes NAME-patients.csv, NAME-appointments.csv, NAME-prescriptions.csv and "
+            + "NAME-medical-history.csv. Only patients with any of the given tags, and events within the given "
+            + "dates, are exported.\n"
+            + "Parameters: FILE "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE] "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " reports/2024-q1.ndjson "
+            + PREFIX_FROM + "2024-01-01 "
+            + PREFIX_TO + "2024-03-31 "
+            + PREFIX_TAG + "Diabetes";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d patients, %2$d appointments, %3$d prescriptions "
+            + "and %4$d medical history events to %5$s";
+    public static final String MESSAGE_CANNOT_WRITE = "Could not export to %1$s: %2$s";
+    public static final String MESSAGE_CANCELLED = "Export to %1$s was cancelled, and no files were written";
+
+    private final Path file;
+    private final ExportFilter filter;
+
+    /**
+     * Creates an ExportCommand to export the records selected by {@code filter} to {@code file}.
+     */
+    public ExportCommand(Path file, ExportFilter filter) {
+        requireAllNonNull(file, filter);
+        this.file = file;
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ClinicBookExporter.Summary summary;
+        try {
+            summary = ClinicBookExporter.export(model.getClinicBookSnapshot(), filter, file);
+        } catch (InterruptedIOException e) {
+            throw new CommandException(String.format(MESSAGE_CANCELLED, file), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE, file, e.getMessage()), e);
+        }
+
+        String files = summary.getFiles().stream()
+                .map(Path::toString)
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, summary.getPatients(), summary.getAppointments(),
+                summary.getPrescriptions(), summary.getMedicalHistoryEvents(), files));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file)
+                && filter.equals(otherExportCommand.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("filter", filter)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.logic.Messages;
+import seedu.cc.model.Model;
+import seedu.cc.model.tag.TagQuery;
+
+/**
+ * Finds and lists all patients in clinic book whose tags satisfy a tag expression.
+ * Tag matching is case-insensitive.
+ */
+public class FindTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose tags satisfy the "
+            + "specified tag expression (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Parameters: tag:TAG [AND|OR|NOT tag:TAG]...\n"
+            + "Expressions may be grouped with parentheses. AND binds tighter than OR, "
+            + "and A NOT B means A AND NOT B.\n"
+            + "Example: " + COMMAND_WORD + " tag:Diabetic AND tag:Elderly NOT tag:Deceased";
+
+    private final TagQuery query;
+
+    /**
+     * Creates a FindTagCommand to list the patients matched by the specified {@code query}.
+     */
+    public FindTagCommand(TagQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPatientListByTags(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindTagCommand)) {
+            return false;
+        }
+
+        FindTagCommand otherFindTagCommand = (FindTagCommand) other;
+        return query.equals(otherFindTagCommand.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
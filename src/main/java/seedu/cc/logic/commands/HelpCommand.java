@@ -1,21 +1,72 @@
 package seedu.cc.logic.commands;
 
+import java.util.Objects;
+
+import seedu.cc.commons.util.ToStringBuilder;
 import seedu.cc.model.Model;
 
 /**
- * Format full help instructions for every command for display.
+ * Opens the help window, or shows the usage of one command.
  */
 public class HelpCommand extends Command {
 
     public static final String COMMAND_WORD = "help";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions, "
+            + "or the usage of COMMAND if one is given.\n"
+            + "Parameters: [COMMAND]\n"
+            + "Example: " + COMMAND_WORD + " add-patient";
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    private final String commandUsage;
+
+    /**
+     * Creates a HelpCommand that opens the help window.
+     */
+    public HelpCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a HelpCommand that shows {@code commandUsage}, or opens the help window if it is null.
+     */
+    public HelpCommand(String commandUsage) {
+        this.commandUsage = commandUsage;
+    }
+
     @Override
     public CommandResult execute(Model model) {
+        if (commandUsage != null) {
+            return new CommandResult(commandUsage);
+        }
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HelpCommand)) {
+            return false;
+        }
+
+        HelpCommand otherHelpCommand = (HelpCommand) other;
+        return Objects.equals(commandUsage, otherHelpCommand.commandUsage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(commandUsage);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandUsage", commandUsage)
+                .toString();
+    }
 }
@@ -0,0 +1,148 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.cc.commons.exceptions.IllegalValueException;
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+import seedu.cc.model.patient.Nric;
+import seedu.cc.model.patient.Patient;
+import seedu.cc.model.person.Name;
+import seedu.cc.storage.PatientFileReader;
+
+/**
+ * Imports the patients in a CSV or JSON file into the clinic book.
+ * Every record is validated before any patient is added, and if any record is invalid, no patient is added.
+ * Patients whose NRIC or name is already in the clinic book, or earlier in the file, are skipped. The rest are
+ * added in one change, so the patient list is updated once however many patients are imported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the patients in a .csv or .json file. "
+            + "A .csv file has a header row with the columns name, nric, age, phone, email and optionally tags, "
+            + "with tags separated by semicolons. A .json file is in the format of the clinic book's data file. "
+            + "Patients already in the clinic book are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/new-patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d patients from %2$s";
+    public static final String MESSAGE_SKIPPED = "\nSkipped %1$d patients whose NRIC or name is already "
+            + "in the clinic book or earlier in the file";
+    public static final String MESSAGE_CANNOT_READ = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_RECORDS =
+            "Nothing was imported from %1$s, as these records are invalid:";
+    public static final String MESSAGE_MORE_INVALID_RECORDS = "\n...and %1$d more";
+    public static final String MESSAGE_CANCELLED = "Import from %1$s was cancelled before any patients were added";
+
+    static final int MAX_INVALID_RECORDS_SHOWN = 10;
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the patients in {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PatientFileReader.Result result;
+        try {
+            result = PatientFileReader.read(file);
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file, e.getMessage()), e);
+        }
+        if (!result.getErrors().isEmpty()) {
+            throw new CommandException(describeInvalidRecords(result.getErrors()));
+        }
+
+        List<Patient> toAdd = withoutDuplicates(model, result.getPatients());
+        if (Thread.interrupted()) {
+            throw new CommandException(String.format(MESSAGE_CANCELLED, file));
+        }
+        model.addPatients(toAdd);
+
+        int skipped = result.getPatients().size() - toAdd.size();
+        String message = String.format(MESSAGE_SUCCESS, toAdd.size(), file);
+        if (skipped > 0) {
+            message += String.format(MESSAGE_SKIPPED, skipped);
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns the patients in {@code imported} whose NRIC and name are in neither the clinic book nor an earlier
+     * patient in {@code imported}. Each patient is checked against sets of NRICs and names, rather than against
+     * every patient in the clinic book.
+     */
+    private static List<Patient> withoutDuplicates(Model model, List<Patient> imported) {
+        Set<Nric> nrics = new HashSet<>();
+        Set<Name> names = new HashSet<>();
+        for (Patient patient : model.getClinicBook().getPatientList()) {
+            nrics.add(patient.getNric());
+            names.add(patient.getName());
+        }
+
+        List<Patient> toAdd = new ArrayList<>();
+        for (Patient patient : imported) {
+            // A skipped patient's NRIC and name are not recorded, so they do not cause a later patient to be skipped.
+            if (!nrics.contains(patient.getNric()) && !names.contains(patient.getName())) {
+                nrics.add(patient.getNric());
+                names.add(patient.getName());
+                toAdd.add(patient);
+            }
+        }
+        return toAdd;
+    }
+
+    private String describeInvalidRecords(List<String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_RECORDS, file));
+        errors.stream()
+                .limit(MAX_INVALID_RECORDS_SHOWN)
+                .forEach(error -> message.append('\n').append(error));
+        if (errors.size() > MAX_INVALID_RECORDS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_INVALID_RECORDS, errors.size() - MAX_INVALID_RECORDS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return file.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -14,6 +14,9 @@ public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list-patients";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients.\n"
+            + "Example: " + COMMAND_WORD;
+
     public static final String MESSAGE_SUCCESS = "Listed all patients";
     private final SwitchCommand switchCommand = new SwitchCommand(Index.fromZeroBased(0));
 
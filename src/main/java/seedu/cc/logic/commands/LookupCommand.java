@@ -0,0 +1,97 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.logic.Messages;
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+import seedu.cc.model.patient.Patient;
+
+/**
+ * Finds the patient using a phone number or email address, e.g. from the caller ID of an incoming call,
+ * and brings the patient into view in the patient list.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the patient with the specified phone number "
+            + "or email address and shows the patient in the patient list. "
+            + "Spaces, dashes and a country code in the phone number are ignored.\n"
+            + "Parameters: PHONE_NUMBER or EMAIL\n"
+            + "Example: " + COMMAND_WORD + " +65 9435 2543";
+
+    public static final String MESSAGE_SUCCESS = "Found patient: %1$s";
+    public static final String MESSAGE_MULTIPLE_MATCHES = "%1$d patients share this contact. Showing: %2$s";
+    public static final String MESSAGE_NOT_FOUND = "No patient has the contact %1$s";
+
+    private final String contact;
+
+    /**
+     * Creates a LookupCommand to find the patient with the specified phone number or email address.
+     */
+    public LookupCommand(String contact) {
+        requireNonNull(contact);
+        this.contact = contact;
+    }
+
+    /**
+     * Returns true if {@code contact} is an email address rather than a phone number.
+     */
+    public static boolean isEmail(String contact) {
+        return contact.indexOf('@') >= 0;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Patient> matches = isEmail(contact)
+                ? model.findPatientsByEmail(contact)
+                : model.findPatientsByPhone(contact);
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOT_FOUND, contact));
+        }
+
+        Patient patient = matches.get(0);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        model.setCurrentTab(0);
+        model.setFocusedPatient(patient);
+
+        if (matches.size() > 1) {
+            return new CommandResult(String.format(MESSAGE_MULTIPLE_MATCHES, matches.size(),
+                    Messages.format(patient)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(patient)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LookupCommand)) {
+            return false;
+        }
+
+        LookupCommand otherLookupCommand = (LookupCommand) other;
+        return contact.equals(otherLookupCommand.contact);
+    }
+
+    @Override
+    public int hashCode() {
+        return contact.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("contact", contact)
+                .toString();
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+
+/**
+ * Redoes the changes made to the clinic book by the latest command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the changes made by the latest command "
+            + "that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoClinicBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoClinicBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+
+/**
+ * Runs the commands of a script file as one change to the clinic book.
+ * The commands are parsed before any of them is run, and are run in one transaction on the model. If any command
+ * fails, the transaction is rolled back, so either every command takes effect or none does.
+ * The script can be cancelled by interrupting the thread running it, which is checked before each command.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of the changes made by the script are kept.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/end-of-day.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d of %2$s failed: %3$s\n"
+            + "None of the changes made by the script were kept.";
+    public static final String MESSAGE_CANCELLED = "Cancelled after %1$d of %2$d commands from %3$s\n"
+            + "None of the changes made by the script were kept.";
+
+    private final Path scriptPath;
+    private final List<Line> lines;
+
+    /**
+     * Creates a RunCommand to run the already parsed {@code lines} of the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath, List<Line> lines) {
+        requireAllNonNull(scriptPath, lines);
+        this.scriptPath = scriptPath;
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.beginTransaction();
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            if (Thread.interrupted()) {
+                model.rollbackTransaction();
+                throw new CommandException(String.format(MESSAGE_CANCELLED, i, lines.size(), scriptPath));
+            }
+            try {
+                line.command.execute(model);
+            } catch (CommandException e) {
+                model.rollbackTransaction();
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, line.lineNumber, scriptPath,
+                        e.getMessage()), e);
+            } catch (RuntimeException e) {
+                model.rollbackTransaction();
+                throw e;
+            }
+        }
+        model.commitTransaction();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), scriptPath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && lines.equals(otherRunCommand.lines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scriptPath, lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A parsed command of a script, with the number of the line it was read from.
+     */
+    public static class Line {
+        private final int lineNumber;
+        private final Command command;
+
+        /**
+         * Creates a line numbered {@code lineNumber}, counting from 1, holding {@code command}.
+         */
+        public Line(int lineNumber, Command command) {
+            requireNonNull(command);
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public Command getCommand() {
+            return command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Line)) {
+                return false;
+            }
+
+            Line otherLine = (Line) other;
+            return lineNumber == otherLine.lineNumber
+                    && command.equals(otherLine.command);
+        }
+
+        @Override
+        public int hashCode() {
+            // Not every command overrides hashCode, so only the type of the command is hashed.
+            return Objects.hash(lineNumber, command.getClass());
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("command", command)
+                    .toString();
+        }
+    }
+}
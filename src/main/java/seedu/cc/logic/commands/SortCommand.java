@@ -0,0 +1,66 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.model.Model;
+import seedu.cc.model.patient.PatientSortOrder;
+
+/**
+ * Sorts the displayed patient list. Patient indexes used by other commands follow the sorted order.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort-patients";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed patient list by the specified "
+            + "key. Patients with the same key are ordered by NRIC.\n"
+            + "Parameters: KEY (must be one of name, age, nric, last-appt, next-appt)\n"
+            + "Example: " + COMMAND_WORD + " next-appt";
+
+    public static final String MESSAGE_SUCCESS = "Sorted patients by %1$s";
+
+    private final PatientSortOrder order;
+
+    /**
+     * Creates a SortCommand to sort the patient list by the specified {@code order}.
+     */
+    public SortCommand(PatientSortOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updatePatientSortOrder(order);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, order));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return order == otherSortCommand.order;
+    }
+
+    @Override
+    public int hashCode() {
+        return order.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
+    }
+}
@@ -17,7 +17,7 @@ public class SwitchCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the tab specified by the index number "
             + "used in the navigating sidebar.\n"
-            + "Parameters: INDEX (must be a 1/2/3)\n"
+            + "Parameters: INDEX (must be a 1/2/3/4)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     private final Index tabIndex;
@@ -43,6 +43,8 @@ public class SwitchCommand extends Command {
             return Tabs.MEDICAL_HISTORY;
         case 3:
             return Tabs.APPOINTMENTS;
+        case 4:
+            return Tabs.DASHBOARD;
         default:
             return null;
         }
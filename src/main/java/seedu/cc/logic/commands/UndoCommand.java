@@ -0,0 +1,33 @@
+package seedu.cc.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+
+/**
+ * Undoes the changes made to the clinic book by the latest command that has not been undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the changes made by the latest command "
+            + "that changed the patient records.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoClinicBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoClinicBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,9 +1,10 @@
 package seedu.cc.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -16,33 +17,61 @@ import seedu.cc.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values are held as offsets into the arguments string they were found in, and a value is copied out of that string
+ * only when it is asked for.
  */
 public class ArgumentMultimap {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private final String source;
+
+    /** The prefix of each value, in the order the values were put. */
+    private Prefix[] prefixes = new Prefix[8];
+    /** The start and end offsets of each value in {@code source}, two entries per value. */
+    private int[] bounds = new int[16];
+    private int size = 0;
+
     /**
-     * Prefixes mapped to their respective arguments
-     **/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+     * Creates an empty map for values found in {@code source}.
+     */
+    ArgumentMultimap(String source) {
+        requireNonNull(source);
+        this.source = source;
+    }
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
+     * Associates the value between {@code start} and {@code end} in the source string with {@code prefix} key in
+     * this map, without leading and trailing whitespace.
      * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
-     *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    void put(Prefix prefix, int start, int end) {
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (size == prefixes.length) {
+            prefixes = Arrays.copyOf(prefixes, size * 2);
+            bounds = Arrays.copyOf(bounds, size * 4);
+        }
+        prefixes[size] = prefix;
+        bounds[2 * size] = start;
+        bounds[2 * size + 1] = end;
+        size++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        for (int i = size - 1; i >= 0; i--) {
+            if (prefixes[i].equals(prefix)) {
+                return Optional.of(valueAt(i));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -51,17 +80,20 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (prefixes[i].equals(prefix)) {
+                values.add(valueAt(i));
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 
     /**
@@ -70,11 +102,25 @@ public class ArgumentMultimap {
      */
     public void verifyNoDuplicatePrefixesFor(Prefix... prefixes) throws ParseException {
         Prefix[] duplicatedPrefixes = Stream.of(prefixes).distinct()
-                .filter(prefix -> argMultimap.containsKey(prefix) && argMultimap.get(prefix).size() > 1)
+                .filter(prefix -> countValues(prefix) > 1)
                 .toArray(Prefix[]::new);
 
         if (duplicatedPrefixes.length > 0) {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    private int countValues(Prefix prefix) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (prefixes[i].equals(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String valueAt(int index) {
+        return source.substring(bounds[2 * index], bounds[2 * index + 1]);
+    }
 }
@@ -1,10 +1,5 @@
 package seedu.cc.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  * e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -12,6 +7,8 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  * in the above example.<br>
+ * The arguments string is scanned once. The prefixes are built into a trie, and at each position after a space
+ * the trie is walked to find the longest prefix starting there.
  */
 public class ArgumentTokenizer {
 
@@ -24,124 +21,98 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     * <p>
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        PrefixTrie trie = new PrefixTrie(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap(argsString);
+
+        // The text before the first prefix is the preamble
+        Prefix currentPrefix = new Prefix("");
+        int valueStart = 0;
+        int length = argsString.length();
+        int position = 1;
+        while (position < length) {
+            // A prefix is only recognised after a space, e.g. "p/" is not a prefix in "e/hip/900"
+            Prefix found = argsString.charAt(position - 1) == ' ' ? trie.match(argsString, position) : null;
+            if (found == null) {
+                position++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, valueStart, position - 1);
+            currentPrefix = found;
+            valueStart = position + found.getPrefix().length();
+            position = valueStart;
         }
+        argMultimap.put(currentPrefix, valueStart, length);
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A trie of prefixes, in which each node holds the prefix spelt by the path to it, if any.
+     * Children are kept as a linked list of siblings, as few prefixes share their first characters.
      */
-    private static String extractArgumentValue(String argsString,
-                                               PrefixPosition currentPrefixPosition,
-                                               PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static class PrefixTrie {
+        private final Node root = new Node('\0');
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                String text = prefix.getPrefix();
+                if (text.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < text.length(); i++) {
+                    node = node.childOrCreate(text.charAt(i));
+                }
+                node.prefix = prefix;
+            }
+        }
 
-        return value.trim();
+        /**
+         * Returns the longest prefix that starts at {@code position} in {@code text}, or null if there is none.
+         */
+        Prefix match(String text, int position) {
+            Prefix longest = null;
+            Node node = root;
+            for (int i = position; i < text.length(); i++) {
+                node = node.child(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longest = node.prefix;
+                }
+            }
+            return longest;
+        }
     }
 
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private final Prefix prefix;
-        private final int startPosition;
+    private static class Node {
+        private final char key;
+        private Node firstChild;
+        private Node nextSibling;
+        private Prefix prefix;
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        Node(char key) {
+            this.key = key;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        Node child(char c) {
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                if (child.key == c) {
+                    return child;
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node(c);
+                child.nextSibling = firstChild;
+                firstChild = child;
+            }
+            return child;
         }
     }
 
@@ -22,4 +22,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_PATIENT_INDEX = new Prefix("pi/");
 
     public static final Prefix PREFIX_MEDICINE_NAME = new Prefix("mn/");
+
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 }
@@ -1,11 +1,13 @@
 package seedu.cc.logic.parser;
 
+import static seedu.cc.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.Messages.MESSAGE_UNABBREVIATED_COMMAND;
 import static seedu.cc.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.cc.commons.core.LogsCenter;
 import seedu.cc.logic.commands.AddCommand;
@@ -14,10 +16,18 @@ import seedu.cc.logic.commands.Command;
 import seedu.cc.logic.commands.DeleteCommand;
 import seedu.cc.logic.commands.EditCommand;
 import seedu.cc.logic.commands.ExitCommand;
+import seedu.cc.logic.commands.ExportCommand;
 import seedu.cc.logic.commands.FindCommand;
+import seedu.cc.logic.commands.FindTagCommand;
 import seedu.cc.logic.commands.HelpCommand;
+import seedu.cc.logic.commands.ImportCommand;
 import seedu.cc.logic.commands.ListCommand;
+import seedu.cc.logic.commands.LookupCommand;
+import seedu.cc.logic.commands.RedoCommand;
+import seedu.cc.logic.commands.RunCommand;
+import seedu.cc.logic.commands.SortCommand;
 import seedu.cc.logic.commands.SwitchCommand;
+import seedu.cc.logic.commands.UndoCommand;
 import seedu.cc.logic.commands.appointmentcommands.AddAppointmentEventCommand;
 import seedu.cc.logic.commands.appointmentcommands.AddPrescriptionCommand;
 import seedu.cc.logic.commands.appointmentcommands.DeleteAppointmentEventCommand;
@@ -44,14 +54,31 @@ import seedu.cc.logic.parser.medicalhistory.ListMedicalHistoryEventCommandParser
 
 /**
  * Parses user input.
+ * Command words are looked up in a {@link CommandRegistry} of shared parsers, so a command may also be entered
+ * by an alias or by an unambiguous abbreviation of its command word.
+ * Commands that only read the clinic book are cached by their command word and arguments, so a command that is
+ * entered again, such as {@code list} or the same {@code find}, is not parsed again.
  */
 public class ClinicBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(ClinicBookParser.class);
+    private static final CommandRegistry COMMAND_REGISTRY = createCommandRegistry();
+
+    private final ParsedCommandCache cache;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser that caches up to {@link ParsedCommandCache#DEFAULT_CAPACITY} parsed commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(ClinicBookParser.class);
+    public ClinicBookParser() {
+        this(ParsedCommandCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a parser that caches up to {@code cacheCapacity} parsed commands.
+     */
+    public ClinicBookParser(int cacheCapacity) {
+        cache = new ParsedCommandCache(cacheCapacity);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -61,88 +88,123 @@ public class ClinicBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int wordEnd = 0;
+        while (wordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, wordEnd);
+        final String arguments = trimmedInput.substring(wordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
+        Parser<? extends Command> parser = COMMAND_REGISTRY.getParser(commandWord).orElse(null);
+        if (parser == null) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            List<String> candidates = COMMAND_REGISTRY.getCompletions(commandWord);
+            if (candidates.size() > 1) {
+                throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, String.join(", ", candidates)));
+            }
+            if (candidates.size() == 1) {
+                throw new ParseException(String.format(MESSAGE_UNABBREVIATED_COMMAND, candidates.get(0)));
+            }
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (!COMMAND_REGISTRY.isCacheable(commandWord)) {
+            return parser.parse(arguments);
+        }
 
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+        // Abbreviations and aliases of a command share its entry, as do arguments that differ only in the
+        // whitespace around them, which no parser depends on.
+        String key = COMMAND_REGISTRY.getCommandWord(commandWord).orElse(commandWord) + " " + arguments.trim();
+        Optional<Command> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Command command = parser.parse(arguments);
+        cache.put(key, command);
+        return command;
+    }
 
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+    /**
+     * Returns the hits and misses of the cache of parsed commands so far.
+     */
+    public ParsedCommandCache.Statistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    /**
+     * Returns the registry of every command this parser understands.
+     */
+    public CommandRegistry getCommandRegistry() {
+        return COMMAND_REGISTRY;
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+
+        registry.register(AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, EditCommand.MESSAGE_USAGE, new EditCommandParser());
+        // Commands that delete data must be entered in full, so a mistyped abbreviation cannot run them.
+        registry.registerUnabbreviated(DeleteCommand.COMMAND_WORD, DeleteCommand.MESSAGE_USAGE,
+                new DeleteCommandParser());
+        registry.registerUnabbreviated(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE,
+                args -> new ClearCommand());
+        registry.registerCacheable(FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE, new FindCommandParser());
+        registry.registerCacheable(FindTagCommand.COMMAND_WORD, FindTagCommand.MESSAGE_USAGE,
+                new FindTagCommandParser());
+        registry.registerCacheable(LookupCommand.COMMAND_WORD, LookupCommand.MESSAGE_USAGE,
+                new LookupCommandParser());
+        registry.registerCacheable(SortCommand.COMMAND_WORD, SortCommand.MESSAGE_USAGE, new SortCommandParser());
+        registry.registerCacheable(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, args -> new ListCommand());
+        registry.register(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_USAGE, args -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_USAGE, args -> new RedoCommand());
+        registry.register(ExitCommand.COMMAND_WORD, ExitCommand.MESSAGE_USAGE, args -> new ExitCommand());
+        registry.registerCacheable(HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE,
+                new HelpCommandParser(registry));
 
         // AppointmentEvent commands
-        case AddAppointmentEventCommand.COMMAND_WORD:
-            return new AddAppointmentCommandParser().parse(arguments);
-
-        case ListAppointmentEventsCommand.COMMAND_WORD:
-            return new ListAppointmentEventsCommandParser().parse(arguments);
-
-        case EditAppointmentEventCommand.COMMAND_WORD:
-            return new EditAppointmentEventCommandParser().parse(arguments);
-
-        case DeleteAppointmentEventCommand.COMMAND_WORD:
-            return new DeleteAppointmentEventCommandParser().parse(arguments);
+        registry.register(AddAppointmentEventCommand.COMMAND_WORD, AddAppointmentEventCommand.MESSAGE_USAGE,
+                new AddAppointmentCommandParser(), "add-appointment");
+        registry.registerCacheable(ListAppointmentEventsCommand.COMMAND_WORD,
+                ListAppointmentEventsCommand.MESSAGE_USAGE, new ListAppointmentEventsCommandParser());
+        registry.register(EditAppointmentEventCommand.COMMAND_WORD, EditAppointmentEventCommand.MESSAGE_USAGE,
+                new EditAppointmentEventCommandParser(), "edit-appointment");
+        registry.registerUnabbreviated(DeleteAppointmentEventCommand.COMMAND_WORD,
+                DeleteAppointmentEventCommand.MESSAGE_USAGE, new DeleteAppointmentEventCommandParser(),
+                "delete-appointment");
 
         // Prescription commands
-        case AddPrescriptionCommand.COMMAND_WORD:
-            return new AddPrescriptionCommandParser().parse(arguments);
-
-        case EditPrescriptionCommand.COMMAND_WORD:
-            return new EditPrescriptionCommandParser().parse(arguments);
-
-        case DeletePrescriptionCommand.COMMAND_WORD:
-            return new DeletePrescriptionCommandParser().parse(arguments);
+        registry.register(AddPrescriptionCommand.COMMAND_WORD, AddPrescriptionCommand.MESSAGE_USAGE,
+                new AddPrescriptionCommandParser());
+        registry.register(EditPrescriptionCommand.COMMAND_WORD, EditPrescriptionCommand.MESSAGE_USAGE,
+                new EditPrescriptionCommandParser());
+        registry.registerUnabbreviated(DeletePrescriptionCommand.COMMAND_WORD,
+                DeletePrescriptionCommand.MESSAGE_USAGE, new DeletePrescriptionCommandParser());
 
         // Medical History Event commands
-        case AddMedicalHistoryEventCommand.COMMAND_WORD:
-            return new AddMedicalHistoryEventCommandParser().parse(arguments);
-
-        case ListMedicalHistoryEventCommand.COMMAND_WORD:
-            return new ListMedicalHistoryEventCommandParser().parse(arguments);
-
-        case EditMedicalHistoryEventCommand.COMMAND_WORD:
-            return new EditMedicalHistoryEventCommandParser().parse(arguments);
-
-        case DeleteMedicalHistoryEventCommand.COMMAND_WORD:
-            return new DeleteMedicalHistoryEventCommandParser().parse(arguments);
-
-        case SwitchCommand.COMMAND_WORD:
-            return new SwitchCommandParser().parse(arguments);
-
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        registry.register(AddMedicalHistoryEventCommand.COMMAND_WORD, AddMedicalHistoryEventCommand.MESSAGE_USAGE,
+                new AddMedicalHistoryEventCommandParser());
+        registry.registerCacheable(ListMedicalHistoryEventCommand.COMMAND_WORD,
+                ListMedicalHistoryEventCommand.MESSAGE_USAGE, new ListMedicalHistoryEventCommandParser());
+        registry.register(EditMedicalHistoryEventCommand.COMMAND_WORD, EditMedicalHistoryEventCommand.MESSAGE_USAGE,
+                new EditMedicalHistoryEventCommandParser());
+        registry.registerUnabbreviated(DeleteMedicalHistoryEventCommand.COMMAND_WORD,
+                DeleteMedicalHistoryEventCommand.MESSAGE_USAGE, new DeleteMedicalHistoryEventCommandParser());
+
+        registry.registerCacheable(SwitchCommand.COMMAND_WORD, SwitchCommand.MESSAGE_USAGE,
+                new SwitchCommandParser());
+        registry.register(RunCommand.COMMAND_WORD, RunCommand.MESSAGE_USAGE, new RunCommandParser());
+        registry.register(ImportCommand.COMMAND_WORD, ImportCommand.MESSAGE_USAGE, new ImportCommandParser());
+        registry.register(ExportCommand.COMMAND_WORD, ExportCommand.MESSAGE_USAGE, new ExportCommandParser());
+        return registry;
     }
 
 }
@@ -0,0 +1,195 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.cc.logic.commands.Command;
+
+/**
+ * A table of the commands understood by the app, from command words to the parsers that create the commands.
+ * A command can also be entered by one of its aliases, or by any abbreviation that is the start of the words of
+ * that command only. Commands that lose data when entered by mistake can be registered so that they cannot be
+ * abbreviated. Every word, alias and unambiguous abbreviation is entered into one hash table when a command
+ * is registered, so finding the parser for a command word is a single lookup.
+ * Parsers are shared by every call, so they must not keep any state between calls to {@code parse}.
+ */
+public class CommandRegistry {
+
+    private final NavigableMap<String, Registration> registrationsByWord = new TreeMap<>();
+    private final List<String> commandWords = new ArrayList<>();
+    private final Map<String, Registration> dispatchTable = new HashMap<>();
+
+    /**
+     * Registers the command entered as {@code commandWord} or any of {@code aliases}, with {@code usage} as its
+     * usage message and {@code parser} to create it.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered
+     */
+    public void register(String commandWord, String usage, Parser<? extends Command> parser, String... aliases) {
+        addRegistration(commandWord, usage, parser, false, true, aliases);
+    }
+
+    /**
+     * Registers a command like {@link #register}, but whose parsed commands may be cached and executed again.
+     * Such a command must be immutable and must not change the clinic book, and its parser must depend on nothing
+     * but its arguments.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered
+     */
+    public void registerCacheable(String commandWord, String usage, Parser<? extends Command> parser,
+                                  String... aliases) {
+        addRegistration(commandWord, usage, parser, true, true, aliases);
+    }
+
+    /**
+     * Registers a command like {@link #register}, but that can only be entered by its whole command word or one of
+     * its aliases, so a command that loses data is not run by a mistyped abbreviation.
+     * No abbreviation of its words is entered for any other command either.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered
+     */
+    public void registerUnabbreviated(String commandWord, String usage, Parser<? extends Command> parser,
+                                      String... aliases) {
+        addRegistration(commandWord, usage, parser, false, false, aliases);
+    }
+
+    private void addRegistration(String commandWord, String usage, Parser<? extends Command> parser,
+                                 boolean isCacheable, boolean canBeAbbreviated, String... aliases) {
+        requireAllNonNull(commandWord, usage, parser, aliases);
+        Registration registration = new Registration(commandWord, usage, parser, isCacheable, canBeAbbreviated);
+        List<String> words = new ArrayList<>();
+        words.add(commandWord);
+        Collections.addAll(words, aliases);
+        for (String word : words) {
+            checkArgument(!word.isEmpty() && word.chars().noneMatch(Character::isWhitespace),
+                    "Command words must be non-empty and contain no whitespace: " + word);
+            checkArgument(!registrationsByWord.containsKey(word), "Command word is already registered: " + word);
+        }
+        words.forEach(word -> registrationsByWord.put(word, registration));
+        commandWords.add(commandWord);
+        rebuildDispatchTable();
+    }
+
+    /**
+     * Returns the parser of the command entered as {@code word}, which may be a command word, an alias or
+     * an unambiguous abbreviation.
+     */
+    public Optional<Parser<? extends Command>> getParser(String word) {
+        Registration registration = dispatchTable.get(word);
+        return registration == null ? Optional.empty() : Optional.of(registration.parser);
+    }
+
+    /**
+     * Returns the usage message of the command entered as {@code word}.
+     */
+    public Optional<String> getUsage(String word) {
+        Registration registration = dispatchTable.get(word);
+        return registration == null ? Optional.empty() : Optional.of(registration.usage);
+    }
+
+    /**
+     * Returns the command word of the command entered as {@code word}.
+     */
+    public Optional<String> getCommandWord(String word) {
+        Registration registration = dispatchTable.get(word);
+        return registration == null ? Optional.empty() : Optional.of(registration.commandWord);
+    }
+
+    /**
+     * Returns true if the command entered as {@code word} was registered as cacheable.
+     */
+    public boolean isCacheable(String word) {
+        Registration registration = dispatchTable.get(word);
+        return registration != null && registration.isCacheable;
+    }
+
+    /**
+     * Returns the command words of every registered command, in the order they were registered.
+     */
+    public List<String> getCommandWords() {
+        return Collections.unmodifiableList(commandWords);
+    }
+
+    /**
+     * Returns the command words and aliases that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix) {
+        return new ArrayList<>(registrationsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .keySet());
+    }
+
+    /**
+     * Returns {@code prefix} extended as far as every command word and alias starting with it agrees.
+     * If only one word starts with {@code prefix}, the whole word is returned followed by a space.
+     * If no word starts with {@code prefix}, {@code prefix} is returned unchanged.
+     */
+    public String complete(String prefix) {
+        List<String> completions = getCompletions(prefix);
+        if (completions.isEmpty()) {
+            return prefix;
+        }
+        if (completions.size() == 1) {
+            return completions.get(0) + " ";
+        }
+        // The completions are sorted, so the first and the last differ the most.
+        String first = completions.get(0);
+        String last = completions.get(completions.size() - 1);
+        int length = 0;
+        while (length < first.length() && length < last.length() && first.charAt(length) == last.charAt(length)) {
+            length++;
+        }
+        return first.substring(0, length);
+    }
+
+    private void rebuildDispatchTable() {
+        Map<String, Registration> abbreviations = new HashMap<>();
+        Set<String> excluded = new HashSet<>();
+        registrationsByWord.forEach((word, registration) -> {
+            for (int length = 1; length < word.length(); length++) {
+                String abbreviation = word.substring(0, length);
+                Registration existing = abbreviations.putIfAbsent(abbreviation, registration);
+                // An abbreviation that could be meant as a command that cannot be abbreviated is excluded too.
+                if (!registration.canBeAbbreviated || existing != null && existing != registration) {
+                    excluded.add(abbreviation);
+                }
+            }
+        });
+        excluded.forEach(abbreviations::remove);
+
+        dispatchTable.clear();
+        dispatchTable.putAll(abbreviations);
+        // A whole word always takes precedence over an abbreviation of a longer word.
+        dispatchTable.putAll(registrationsByWord);
+    }
+
+    /**
+     * A registered command.
+     */
+    private static class Registration {
+        private final String commandWord;
+        private final String usage;
+        private final Parser<? extends Command> parser;
+        private final boolean isCacheable;
+        private final boolean canBeAbbreviated;
+
+        Registration(String commandWord, String usage, Parser<? extends Command> parser, boolean isCacheable,
+                     boolean canBeAbbreviated) {
+            this.commandWord = commandWord;
+            this.usage = usage;
+            this.parser = parser;
+            this.isCacheable = isCacheable;
+            this.canBeAbbreviated = canBeAbbreviated;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.cc.commons.util.FileUtil;
+import seedu.cc.logic.commands.ExportCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.util.Date;
+import seedu.cc.storage.ClinicBookExporter;
+import seedu.cc.storage.ExportFilter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format, names a file that cannot be
+     *     exported to, or gives a start date after the end date
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_TAG);
+
+        String fileName = argMultimap.getPreamble();
+        if (fileName.isEmpty() || !FileUtil.isValidPath(fileName)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Path file = Paths.get(fileName);
+        if (!ClinicBookExporter.isSupported(file)) {
+            throw new ParseException(ClinicBookExporter.MESSAGE_UNSUPPORTED_FORMAT);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        Date start = parseOptionalDate(argMultimap.getValue(PREFIX_FROM));
+        Date end = parseOptionalDate(argMultimap.getValue(PREFIX_TO));
+        if (start != null && end != null && start.compareTo(end) > 0) {
+            throw new ParseException(ExportFilter.MESSAGE_INVALID_RANGE);
+        }
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        return new ExportCommand(file, new ExportFilter(start, end, tags));
+    }
+
+    private static Date parseOptionalDate(Optional<String> date) throws ParseException {
+        return date.isPresent() ? ParserUtil.parseDate(date.get()) : null;
+    }
+}
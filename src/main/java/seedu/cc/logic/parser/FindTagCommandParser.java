@@ -0,0 +1,155 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.cc.logic.commands.FindTagCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.tag.TagQuery;
+
+/**
+ * Parses input arguments and creates a new FindTagCommand object
+ */
+public class FindTagCommandParser implements Parser<FindTagCommand> {
+
+    private static final String TAG_TERM_PREFIX = "tag:";
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindTagCommand
+     * and returns a FindTagCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindTagCommand parse(String args) throws ParseException {
+        List<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+        }
+
+        ExpressionReader reader = new ExpressionReader(tokens);
+        TagQuery query = reader.readOrExpression();
+        if (reader.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+        }
+        return new FindTagCommand(query);
+    }
+
+    /**
+     * Splits {@code args} into words, treating each parenthesis as a word of its own.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < args.length(); i++) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (current.length() > 0) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Reads a tag expression from a list of words by recursive descent.
+     * NOT binds tightest, then AND (which may be omitted), then OR.
+     */
+    private static class ExpressionReader {
+        private final List<String> tokens;
+        private int position = 0;
+
+        ExpressionReader(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        TagQuery readOrExpression() throws ParseException {
+            TagQuery query = readAndExpression();
+            while (hasNext() && peek().equalsIgnoreCase(OPERATOR_OR)) {
+                position++;
+                query = TagQuery.or(query, readAndExpression());
+            }
+            return query;
+        }
+
+        TagQuery readAndExpression() throws ParseException {
+            TagQuery query = readUnaryExpression();
+            while (hasNext() && !peek().equalsIgnoreCase(OPERATOR_OR) && !peek().equals(CLOSE_PARENTHESIS)) {
+                if (peek().equalsIgnoreCase(OPERATOR_AND)) {
+                    position++;
+                }
+                // "A NOT B" is read as "A AND NOT B", with NOT consumed by readUnaryExpression
+                query = TagQuery.and(query, readUnaryExpression());
+            }
+            return query;
+        }
+
+        TagQuery readUnaryExpression() throws ParseException {
+            String token = next();
+            if (token.equalsIgnoreCase(OPERATOR_NOT)) {
+                return TagQuery.not(readUnaryExpression());
+            }
+
+            if (token.equals(OPEN_PARENTHESIS)) {
+                TagQuery query = readOrExpression();
+                if (!next().equals(CLOSE_PARENTHESIS)) {
+                    throw invalidFormat();
+                }
+                return query;
+            }
+
+            return readTag(token);
+        }
+
+        private TagQuery readTag(String token) throws ParseException {
+            if (token.equals(CLOSE_PARENTHESIS) || token.equalsIgnoreCase(OPERATOR_AND)
+                    || token.equalsIgnoreCase(OPERATOR_OR)) {
+                throw invalidFormat();
+            }
+
+            String tagName = token.regionMatches(true, 0, TAG_TERM_PREFIX, 0, TAG_TERM_PREFIX.length())
+                    ? token.substring(TAG_TERM_PREFIX.length())
+                    : token;
+            if (!Tag.isValidTagName(tagName)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            return TagQuery.tag(tagName);
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+
+        private String next() throws ParseException {
+            if (!hasNext()) {
+                throw invalidFormat();
+            }
+            return tokens.get(position++);
+        }
+
+        private static ParseException invalidFormat() {
+            return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+        }
+    }
+}
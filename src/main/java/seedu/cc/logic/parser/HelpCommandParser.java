@@ -0,0 +1,34 @@
+package seedu.cc.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.cc.logic.commands.HelpCommand;
+
+/**
+ * Parses input arguments and creates a new HelpCommand object
+ */
+public class HelpCommandParser implements Parser<HelpCommand> {
+
+    private final CommandRegistry commandRegistry;
+
+    /**
+     * Creates a parser that looks up command usages in {@code commandRegistry}.
+     */
+    public HelpCommandParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HelpCommand
+     * and returns a HelpCommand object for execution.
+     * Arguments that do not name a command are ignored, as for other commands without parameters.
+     */
+    @Override
+    public HelpCommand parse(String args) {
+        String commandWord = args.trim();
+        return commandRegistry.getUsage(commandWord)
+                .map(HelpCommand::new)
+                .orElseGet(HelpCommand::new);
+    }
+}
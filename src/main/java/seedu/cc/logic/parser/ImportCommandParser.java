@@ -0,0 +1,38 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.cc.commons.util.FileUtil;
+import seedu.cc.logic.commands.ImportCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.storage.PatientFileReader;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * The file is only read when the command is executed.
+     *
+     * @throws ParseException if the user input does not conform the expected format, or names a file
+     *     that cannot be imported
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        Path file = Paths.get(trimmedArgs);
+        if (!PatientFileReader.isSupported(file)) {
+            throw new ParseException(PatientFileReader.MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        return new ImportCommand(file);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.cc.logic.commands.LookupCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.model.patient.PatientContactIndex;
+import seedu.cc.model.person.Email;
+import seedu.cc.model.person.Phone;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+
+        if (LookupCommand.isEmail(trimmedArgs)) {
+            if (!Email.isValidEmail(trimmedArgs)) {
+                throw new ParseException(Email.MESSAGE_CONSTRAINTS);
+            }
+        } else if (!Phone.isValidPhone(PatientContactIndex.normalizePhone(trimmedArgs))) {
+            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
+        }
+
+        return new LookupCommand(trimmedArgs);
+    }
+
+}
@@ -0,0 +1,148 @@
+package seedu.cc.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.logic.commands.Command;
+
+/**
+ * A bounded cache from normalized command text to the command parsed from it, which evicts the least recently used
+ * command once it is full. Only commands that are immutable and can be executed any number of times may be cached,
+ * as each hit returns the same instance.
+ * The number of hits and misses is counted, so the capacity can be tuned to how commands are repeated.
+ */
+public class ParsedCommandCache {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final Map<String, Command> commands;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} commands.
+     */
+    public ParsedCommandCache(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a cache must be positive");
+        this.capacity = capacity;
+        // An access-ordered map puts the least recently used command first.
+        this.commands = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+                return size() > ParsedCommandCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the command cached for {@code key}, counting a hit if there is one and a miss otherwise.
+     */
+    public synchronized Optional<Command> get(String key) {
+        requireNonNull(key);
+        Command command = commands.get(key);
+        if (command == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return Optional.ofNullable(command);
+    }
+
+    /**
+     * Caches {@code command} for {@code key}, evicting the least recently used command if the cache is full.
+     */
+    public synchronized void put(String key, Command command) {
+        requireAllNonNull(key, command);
+        commands.put(key, command);
+    }
+
+    /**
+     * Returns the number of hits and misses so far, and how full the cache is.
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, commands.size(), capacity);
+    }
+
+    /**
+     * The hits and misses of a cache at one point in time.
+     */
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final int size;
+        private final int capacity;
+
+        Statistics(long hits, long misses, int size, int capacity) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Returns the fraction of lookups that were hits, which is 0 if there have been no lookups.
+         */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Statistics)) {
+                return false;
+            }
+
+            Statistics otherStatistics = (Statistics) other;
+            return hits == otherStatistics.hits
+                    && misses == otherStatistics.misses
+                    && size == otherStatistics.size
+                    && capacity == otherStatistics.capacity;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hits, misses, size, capacity);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("hits", hits)
+                    .add("misses", misses)
+                    .add("hitRate", String.format("%.2f", getHitRate()))
+                    .add("size", size)
+                    .add("capacity", capacity)
+                    .toString();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.cc.commons.core.index.Index;
@@ -129,7 +130,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -156,7 +157,7 @@ public class ParserUtil {
         if (!Prescription.isValidPrescription(trimmedPrescription)) {
             throw new ParseException(Prescription.MESSAGE_CONSTRAINTS);
         }
-        return new Prescription(trimmedPrescription);
+        return Prescription.of(trimmedPrescription);
     }
 
     /**
@@ -183,7 +184,7 @@ public class ParserUtil {
         if (!MedicalCondition.isValidMedicalCondition(trimmedMedicalCondition)) {
             throw new ParseException(MedicalCondition.MESSAGE_CONSTRAINTS);
         }
-        return new MedicalCondition(trimmedMedicalCondition);
+        return MedicalCondition.of(trimmedMedicalCondition);
     }
 
     /**
@@ -199,7 +200,7 @@ public class ParserUtil {
             throw new ParseException(Treatment.MESSAGE_CONSTRAINTS);
         }
 
-        return new Treatment(trimmedTreatment);
+        return Treatment.of(trimmedTreatment);
     }
 
     /**
@@ -210,11 +211,11 @@ public class ParserUtil {
      */
     public static Date parseDate(String date) throws ParseException {
         requireNonNull(date);
-        String trimmedDate = date.trim();
-        if (!Date.isValidDate(trimmedDate)) {
+        Optional<Date> parsedDate = Date.parse(date.trim());
+        if (parsedDate.isEmpty()) {
             throw new ParseException(Date.MESSAGE_CONSTRAINTS);
         }
-        return new Date(trimmedDate);
+        return parsedDate.get();
     }
 
     /**
@@ -225,10 +226,10 @@ public class ParserUtil {
      */
     public static Time parseTime(String time) throws ParseException {
         requireNonNull(time);
-        String trimmedTime = time.trim();
-        if (!Time.isValidTime(trimmedTime)) {
+        Optional<Time> parsedTime = Time.parse(time.trim());
+        if (parsedTime.isEmpty()) {
             throw new ParseException(Time.MESSAGE_CONSTRAINTS);
         }
-        return new Time(trimmedTime);
+        return parsedTime.get();
     }
 }
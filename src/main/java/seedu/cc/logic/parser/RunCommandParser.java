@@ -0,0 +1,84 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.cc.commons.util.FileUtil;
+import seedu.cc.logic.commands.Command;
+import seedu.cc.logic.commands.RedoCommand;
+import seedu.cc.logic.commands.RunCommand;
+import seedu.cc.logic.commands.UndoCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINES = "Script %1$s was not run, as these lines are invalid:";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script";
+    public static final String MESSAGE_UNDO_IN_SCRIPT = "A script cannot undo or redo commands";
+
+    private static final String COMMENT_MARKER = "#";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * Every line of the script is parsed, and the invalid lines are all reported together.
+     *
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read,
+     *     or any line of the script is invalid
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        Path scriptPath = Paths.get(trimmedArgs);
+
+        List<String> scriptLines;
+        try {
+            scriptLines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptPath, e.getMessage()), e);
+        }
+
+        ClinicBookParser clinicBookParser = new ClinicBookParser();
+        List<RunCommand.Line> lines = new ArrayList<>();
+        StringBuilder errors = new StringBuilder();
+        for (int i = 0; i < scriptLines.size(); i++) {
+            String scriptLine = scriptLines.get(i).trim();
+            if (scriptLine.isEmpty() || scriptLine.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            try {
+                Command command = clinicBookParser.parseCommand(scriptLine);
+                if (command instanceof RunCommand) {
+                    throw new ParseException(MESSAGE_NESTED_SCRIPT);
+                }
+                if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                    throw new ParseException(MESSAGE_UNDO_IN_SCRIPT);
+                }
+                lines.add(new RunCommand.Line(lineNumber, command));
+            } catch (ParseException pe) {
+                errors.append('\n').append(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (errors.length() > 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINES, scriptPath) + errors);
+        }
+        return new RunCommand(scriptPath, lines);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.cc.logic.commands.SortCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.model.patient.PatientSortOrder;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        PatientSortOrder order = PatientSortOrder.fromKeyword(trimmedArgs)
+                .orElseThrow(() -> new ParseException(PatientSortOrder.MESSAGE_CONSTRAINTS));
+        return new SortCommand(order);
+    }
+
+}
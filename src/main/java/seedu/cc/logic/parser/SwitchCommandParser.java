@@ -3,6 +3,7 @@ package seedu.cc.logic.parser;
 import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.cc.commons.core.index.Index;
+import seedu.cc.commons.core.tabs.Tabs;
 import seedu.cc.logic.commands.SwitchCommand;
 import seedu.cc.logic.parser.exceptions.ParseException;
 
@@ -21,7 +22,7 @@ public class SwitchCommandParser implements Parser<SwitchCommand> {
         try {
             Index index = ParserUtil.parseIndex(args);
 
-            if (index.getOneBased() < 1 || index.getOneBased() > 3) {
+            if (index.getOneBased() < 1 || index.getOneBased() > Tabs.values().length) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
             } else {
@@ -14,6 +14,7 @@ import seedu.cc.commons.core.index.Index;
 import seedu.cc.logic.commands.appointmentcommands.AddAppointmentEventCommand;
 import seedu.cc.logic.parser.ArgumentMultimap;
 import seedu.cc.logic.parser.ArgumentTokenizer;
+import seedu.cc.logic.parser.Parser;
 import seedu.cc.logic.parser.ParserUtil;
 import seedu.cc.logic.parser.exceptions.ParseException;
 import seedu.cc.model.appointment.AppointmentEvent;
@@ -24,7 +25,7 @@ import seedu.cc.model.util.Time;
 /**
  * Parses input arguments and creates a new AddAppointmentEventCommand object.
  */
-public class AddAppointmentCommandParser {
+public class AddAppointmentCommandParser implements Parser<AddAppointmentEventCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -15,6 +15,7 @@ import seedu.cc.logic.commands.appointmentcommands.AddPrescriptionCommand;
 import seedu.cc.logic.commands.appointmentcommands.EditAppointmentEventCommand;
 import seedu.cc.logic.parser.ArgumentMultimap;
 import seedu.cc.logic.parser.ArgumentTokenizer;
+import seedu.cc.logic.parser.Parser;
 import seedu.cc.logic.parser.ParserUtil;
 import seedu.cc.logic.parser.exceptions.ParseException;
 import seedu.cc.model.appointment.Prescription;
@@ -24,7 +25,7 @@ import seedu.cc.model.tag.Tag;
 /**
  * Parses input arguments and creates a new AddAppointmentEventCommand object.
  */
-public class AddPrescriptionCommandParser {
+public class AddPrescriptionCommandParser implements Parser<AddPrescriptionCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -63,7 +64,7 @@ public class AddPrescriptionCommandParser {
                     AddPrescriptionCommand.MESSAGE_USAGE), pe);
         }
 
-        Prescription prescription = new Prescription(argMultimap.getValue(PREFIX_MEDICINE_NAME).get());
+        Prescription prescription = Prescription.of(argMultimap.getValue(PREFIX_MEDICINE_NAME).get());
         Set<Prescription> prescriptions = ParserUtil.parsePrescriptions(argMultimap.getAllValues(PREFIX_MEDICINE_NAME));
 
         editAppointmentEventDescriptor.setPrescriptions(prescriptions);
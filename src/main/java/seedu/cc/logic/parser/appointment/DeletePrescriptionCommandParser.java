@@ -15,6 +15,7 @@ import seedu.cc.logic.commands.appointmentcommands.DeletePrescriptionCommand;
 import seedu.cc.logic.commands.appointmentcommands.EditAppointmentEventCommand;
 import seedu.cc.logic.parser.ArgumentMultimap;
 import seedu.cc.logic.parser.ArgumentTokenizer;
+import seedu.cc.logic.parser.Parser;
 import seedu.cc.logic.parser.ParserUtil;
 import seedu.cc.logic.parser.exceptions.ParseException;
 import seedu.cc.model.appointment.Prescription;
@@ -24,7 +25,7 @@ import seedu.cc.model.tag.Tag;
 /**
  * Parses input arguments and creates a new AddAppointmentEventCommand object.
  */
-public class DeletePrescriptionCommandParser {
+public class DeletePrescriptionCommandParser implements Parser<DeletePrescriptionCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
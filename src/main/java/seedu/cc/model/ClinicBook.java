@@ -1,7 +1,12 @@
 package seedu.cc.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 
@@ -13,17 +18,27 @@ import seedu.cc.model.appointment.Prescription;
 import seedu.cc.model.medicalhistory.ClinicBookMedicalHistory;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.Patient;
+import seedu.cc.model.patient.PatientListChange;
+import seedu.cc.model.patient.PatientTagPredicate;
 import seedu.cc.model.patient.UniquePatientList;
+import seedu.cc.model.tag.TagQuery;
 
 /**
  * Wraps all data at the clinic-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Changes can be grouped into transactions. While a transaction is open, every change to the patients is kept in
+ * an undo log, so that the transaction can be rolled back by reverting the changes, without copying the data.
+ * The changes of each committed transaction are kept in an undo history, so that they can be undone and redone.
  */
 public class ClinicBook implements ReadOnlyClinicBook {
 
     private final UniquePatientList patients;
     private final ClinicBookMedicalHistory clinicBookMedicalHistory;
     private final ClinicBookAppointmentList appointmentsUniqueListClinicBook;
+    private final List<PatientListChange> undoLog = new ArrayList<>();
+    /** The size of the undo log when each open transaction began, innermost first. */
+    private final Deque<Integer> savepoints = new ArrayDeque<>();
+    private final UndoHistory undoHistory = new UndoHistory(UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH);
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +51,7 @@ public class ClinicBook implements ReadOnlyClinicBook {
         patients = new UniquePatientList();
         clinicBookMedicalHistory = new ClinicBookMedicalHistory();
         appointmentsUniqueListClinicBook = new ClinicBookAppointmentList();
+        patients.setChangeListener(this::logChange);
     }
 
     public ClinicBook() {}
@@ -67,6 +83,136 @@ public class ClinicBook implements ReadOnlyClinicBook {
         setPatients(newData.getPatientList());
     }
 
+    /**
+     * Returns an immutable view of the patients in this clinic book as they are now, in constant time.
+     * Later changes to this clinic book are not seen in the snapshot.
+     */
+    public ClinicBookSnapshot snapshot() {
+        return new ClinicBookSnapshot(patients.snapshot());
+    }
+
+    //// transactions
+
+    /**
+     * Begins a transaction. Transactions may be nested, and a nested transaction can be rolled back on its own.
+     */
+    public void beginTransaction() {
+        savepoints.push(undoLog.size());
+    }
+
+    /**
+     * Commits the innermost open transaction, keeping its changes.
+     * The changes can still be rolled back by an enclosing transaction. Once the outermost transaction is committed,
+     * its changes, if any, are added to the undo history.
+     *
+     * @throws IllegalStateException if no transaction is open
+     */
+    public void commitTransaction() {
+        if (savepoints.isEmpty()) {
+            throw new IllegalStateException("No transaction to commit");
+        }
+        savepoints.pop();
+        if (savepoints.isEmpty() && !undoLog.isEmpty()) {
+            undoHistory.push(new ArrayList<>(undoLog));
+            undoLog.clear();
+        }
+    }
+
+    /**
+     * Rolls back the innermost open transaction, reverting every change made since it began.
+     * The lists of medical history events and appointment events are listed again for the same patient.
+     *
+     * @throws IllegalStateException if no transaction is open
+     */
+    public void rollbackTransaction() {
+        if (savepoints.isEmpty()) {
+            throw new IllegalStateException("No transaction to roll back");
+        }
+        int savepoint = savepoints.pop();
+        for (int i = undoLog.size() - 1; i >= savepoint; i--) {
+            undoLog.remove(i).revert(patients);
+        }
+        relistEvents();
+    }
+
+    /**
+     * Returns true if a transaction is open.
+     */
+    public boolean isInTransaction() {
+        return !savepoints.isEmpty();
+    }
+
+    /**
+     * Sets the number of committed transactions that can be undone to {@code depth}.
+     */
+    public void setUndoHistoryDepth(int depth) {
+        undoHistory.setCapacity(depth);
+    }
+
+    /**
+     * Returns true if there is a committed transaction that can be undone.
+     */
+    public boolean canUndo() {
+        return undoHistory.canUndo();
+    }
+
+    /**
+     * Returns true if there is an undone transaction that can be redone.
+     */
+    public boolean canRedo() {
+        return undoHistory.canRedo();
+    }
+
+    /**
+     * Reverts the changes of the latest committed transaction that has not been undone.
+     * Undoing is not part of any open transaction, so it must not be done while a transaction has made changes.
+     *
+     * @throws IllegalStateException if there is nothing to undo, or an open transaction has made changes
+     */
+    public void undo() {
+        if (!canUndo() || !undoLog.isEmpty()) {
+            throw new IllegalStateException("Cannot undo now");
+        }
+        List<PatientListChange> changes = undoHistory.undo();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(patients);
+        }
+        relistEvents();
+    }
+
+    /**
+     * Makes the changes of the latest undone transaction again.
+     * Redoing is not part of any open transaction, so it must not be done while a transaction has made changes.
+     *
+     * @throws IllegalStateException if there is nothing to redo, or an open transaction has made changes
+     */
+    public void redo() {
+        if (!canRedo() || !undoLog.isEmpty()) {
+            throw new IllegalStateException("Cannot redo now");
+        }
+        undoHistory.redo().forEach(change -> change.reapply(patients));
+        relistEvents();
+    }
+
+    private void logChange(PatientListChange change) {
+        if (!savepoints.isEmpty()) {
+            undoLog.add(change);
+        }
+    }
+
+    /**
+     * Lists the events of the listed patient again from its current version, or clears the lists of events
+     * if that patient is no longer in the clinic book.
+     */
+    private void relistEvents() {
+        clinicBookMedicalHistory.getCurrentPatient()
+                .ifPresent(listed -> patients.findById(listed.getId()).ifPresentOrElse(
+                        clinicBookMedicalHistory::listMedicalHistoryEvents, clinicBookMedicalHistory::clear));
+        appointmentsUniqueListClinicBook.getCurrentPatient()
+                .ifPresent(listed -> patients.findById(listed.getId()).ifPresentOrElse(
+                        appointmentsUniqueListClinicBook::listAppointments, appointmentsUniqueListClinicBook::clear));
+    }
+
     //// person-level operations
 
     /**
@@ -77,6 +223,14 @@ public class ClinicBook implements ReadOnlyClinicBook {
         return patients.contains(person);
     }
 
+    /**
+     * Returns the position of {@code patient} in the patient list, or -1 if it is not in the clinic book.
+     */
+    public int indexOfPatient(Patient patient) {
+        requireNonNull(patient);
+        return patients.indexOf(patient);
+    }
+
     /**
      * Adds a patient to the clinic book.
      * The patient must not already exist in the clinic book.
@@ -85,6 +239,14 @@ public class ClinicBook implements ReadOnlyClinicBook {
         patients.add(p);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the clinic book in one change.
+     * None of the patients may already exist in the clinic book, and no two of them may be the same patient.
+     */
+    public void addPatients(List<Patient> toAdd) {
+        patients.addAll(toAdd);
+    }
+
     /**
      * Replaces the given patient {@code target} in the list with {@code editedPatient}.
      * {@code target} must exist in the clinic book.
@@ -105,6 +267,59 @@ public class ClinicBook implements ReadOnlyClinicBook {
         patients.remove(key);
     }
 
+    /**
+     * Returns a predicate that matches the patients whose tags satisfy {@code query},
+     * answered from the tag index of the clinic book.
+     */
+    public PatientTagPredicate getTagPredicate(TagQuery query) {
+        requireNonNull(query);
+        return patients.getTagPredicate(query);
+    }
+
+    /**
+     * Returns the patients whose phone number matches {@code phone}, ignoring formatting.
+     */
+    public List<Patient> findPatientsByPhone(String phone) {
+        return patients.findPatientsByPhone(phone);
+    }
+
+    /**
+     * Returns the patients whose email address matches {@code email}, ignoring case.
+     */
+    public List<Patient> findPatientsByEmail(String email) {
+        return patients.findPatientsByEmail(email);
+    }
+
+    /**
+     * Returns up to {@code count} patients with the latest medical history events, latest first.
+     */
+    public List<Patient> getRecentlySeenPatients(int count) {
+        return patients.getRecentlySeenPatients(count);
+    }
+
+    /**
+     * Returns up to {@code count} patients with the soonest appointments from today onwards, soonest first.
+     */
+    public List<Patient> getUpcomingPatients(int count) {
+        return patients.getUpcomingPatients(count);
+    }
+
+    /**
+     * Returns the number of appointments dated from {@code start} to {@code end}, both inclusive.
+     */
+    public int countAppointmentsBetween(LocalDate start, LocalDate end) {
+        return patients.countAppointmentsBetween(start, end);
+    }
+
+    /**
+     * Moves the medical history events dated before {@code cutoff} into the off-heap archive.
+     *
+     * @return the number of events archived.
+     */
+    public int archiveMedicalHistoryBefore(LocalDate cutoff) {
+        return patients.archiveMedicalHistoryBefore(cutoff);
+    }
+
     //===============Medical History Operations=========================================================
 
     /**
@@ -125,7 +340,7 @@ public class ClinicBook implements ReadOnlyClinicBook {
      * @param patient The patient for whom to list the medical history events.
      */
     public void listMedicalHistoryEvents(Patient patient) {
-        clinicBookMedicalHistory.listMedicalHistoryEvents(patient);
+        clinicBookMedicalHistory.listMedicalHistoryEvents(patients.getCurrentVersion(patient));
     }
 
     /**
@@ -204,7 +419,7 @@ public class ClinicBook implements ReadOnlyClinicBook {
      * @param patient The patient for whom to list the appointment events.
      */
     public void listAppointments(Patient patient) {
-        appointmentsUniqueListClinicBook.listAppointments(patient);
+        appointmentsUniqueListClinicBook.listAppointments(patients.getCurrentVersion(patient));
     }
 
     @Override
@@ -218,8 +433,14 @@ public class ClinicBook implements ReadOnlyClinicBook {
     }
 
     //=========== Prescription Operations =============================================================
+    /**
+     * Adds a set of prescriptions to an appointment event of a patient.
+     * The event is replaced by a new event with the prescriptions added, in both the patient's appointment list
+     * and the list of appointment events, so {@code appointmentEvent} itself is not changed.
+     */
     public void addPrescriptions(Patient patient, AppointmentEvent appointmentEvent, Set<Prescription> prescriptions) {
-        patients.addPrescriptions(patient, appointmentEvent, prescriptions);
+        requireAllNonNull(patient, appointmentEvent, prescriptions);
+        setAppointment(patient, appointmentEvent, appointmentEvent.withPrescriptions(prescriptions));
     }
     //=====================================================================================================
 
@@ -0,0 +1,93 @@
+package seedu.cc.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.cc.commons.util.PersistentVector;
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.model.appointment.AppointmentEvent;
+import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
+import seedu.cc.model.patient.Patient;
+
+/**
+ * An immutable view of the patients of a {@code ClinicBook} at the moment {@link ClinicBook#snapshot()} was called.
+ * The patients are shared with the clinic book rather than copied, and as patients are themselves immutable,
+ * the snapshot can be read from another thread while the clinic book keeps changing.
+ * The lists of medical history events and appointment events of the patient currently listed are not part of
+ * a snapshot, so both are empty.
+ */
+public final class ClinicBookSnapshot implements ReadOnlyClinicBook {
+
+    private final ObservableList<Patient> patients;
+
+    ClinicBookSnapshot(PersistentVector<Patient> patients) {
+        requireNonNull(patients);
+        this.patients = new SnapshotList(patients);
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return patients;
+    }
+
+    @Override
+    public ObservableList<MedicalHistoryEvent> getClinicBookMedicalHistory() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public ObservableList<AppointmentEvent> getClinicBookAppointments() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClinicBookSnapshot)) {
+            return false;
+        }
+
+        ClinicBookSnapshot otherSnapshot = (ClinicBookSnapshot) other;
+        return patients.equals(otherSnapshot.patients);
+    }
+
+    @Override
+    public int hashCode() {
+        return patients.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("patients", patients)
+                .toString();
+    }
+
+    /**
+     * An unmodifiable observable list over a {@code PersistentVector}. It never changes, so it never fires.
+     */
+    private static class SnapshotList extends ObservableListBase<Patient> {
+
+        private final PersistentVector<Patient> patients;
+
+        SnapshotList(PersistentVector<Patient> patients) {
+            this.patients = patients;
+        }
+
+        @Override
+        public Patient get(int index) {
+            return patients.get(index);
+        }
+
+        @Override
+        public int size() {
+            return patients.size();
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package seedu.cc.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.cc.commons.core.GuiSettings;
 import seedu.cc.model.appointment.AppointmentEvent;
 import seedu.cc.model.appointment.Prescription;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.Patient;
+import seedu.cc.model.patient.PatientSortOrder;
+import seedu.cc.model.tag.TagQuery;
 
 /**
  * The API of the Model component.
@@ -58,6 +64,47 @@ public interface Model {
     /** Returns the ClinicBook */
     ReadOnlyClinicBook getClinicBook();
 
+    /**
+     * Returns an immutable snapshot of the ClinicBook, taken in constant time.
+     * It can be read from another thread while the ClinicBook keeps changing.
+     */
+    ReadOnlyClinicBook getClinicBookSnapshot();
+
+    /**
+     * Begins a transaction on the clinic book. Transactions may be nested.
+     */
+    void beginTransaction();
+
+    /**
+     * Commits the innermost open transaction on the clinic book, keeping its changes.
+     */
+    void commitTransaction();
+
+    /**
+     * Rolls back the innermost open transaction on the clinic book, reverting every change made since it began.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if there is a change to the clinic book that can be undone.
+     */
+    boolean canUndoClinicBook();
+
+    /**
+     * Returns true if there is an undone change to the clinic book that can be redone.
+     */
+    boolean canRedoClinicBook();
+
+    /**
+     * Undoes the changes made to the clinic book by the latest command that has not been undone.
+     */
+    void undoClinicBook();
+
+    /**
+     * Redoes the changes made to the clinic book by the latest command that was undone.
+     */
+    void redoClinicBook();
+
     /**
      * Returns true if a patient with the same identity as {@code patient} exists in the clinic book.
      */
@@ -75,6 +122,12 @@ public interface Model {
      */
     void addPatient(Patient patient);
 
+    /**
+     * Adds all of the given patients in one change.
+     * None of {@code patients} may already exist in the clinic book, and no two of them may be the same patient.
+     */
+    void addPatients(List<Patient> patients);
+
     /**
      * Replaces the given patient {@code target} with {@code editedPatient}.
      * {@code target} must exist in the clinic book.
@@ -83,7 +136,7 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPatient);
 
-    /** Returns an unmodifiable view of the filtered patient list */
+    /** Returns an unmodifiable view of the filtered patient list, in the current sort order */
     ObservableList<Patient> getFilteredPatientList();
 
     /**
@@ -92,6 +145,66 @@ public interface Model {
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Updates the filter of the filtered patient list to the patients whose tags satisfy {@code query}.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPatientListByTags(TagQuery query);
+
+    /**
+     * Sorts the filtered patient list by {@code order}, or restores insertion order if {@code order} is null.
+     */
+    void updatePatientSortOrder(PatientSortOrder order);
+
+    /**
+     * Returns the patients whose phone number matches {@code phone}, ignoring formatting.
+     */
+    List<Patient> findPatientsByPhone(String phone);
+
+    /**
+     * Returns the patients whose email address matches {@code email}, ignoring case.
+     */
+    List<Patient> findPatientsByEmail(String email);
+
+    /**
+     * Returns up to {@code count} patients with the latest medical history events, latest first.
+     */
+    List<Patient> getRecentlySeenPatients(int count);
+
+    /**
+     * Returns up to {@code count} patients with the soonest appointments from today onwards, soonest first.
+     */
+    List<Patient> getUpcomingPatients(int count);
+
+    /**
+     * Returns the number of appointments of all patients dated from {@code start} to {@code end}, both inclusive.
+     */
+    int countAppointmentsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Moves the medical history events dated before {@code cutoff} out of the heap into an archive.
+     * Archived events are still listed, edited and saved like any other event.
+     *
+     * @return the number of events archived.
+     */
+    int archiveMedicalHistoryBefore(LocalDate cutoff);
+
+    /**
+     * Sets the patient to be brought into view in the patient list, or clears it if {@code patient} is null.
+     */
+    void setFocusedPatient(Patient patient);
+
+    /**
+     * Returns the patient to be brought into view in the patient list.
+     */
+    ReadOnlyObjectProperty<Patient> focusedPatientProperty();
+
+    /**
+     * Returns the index of the focused patient in the filtered patient list as of when it was focused,
+     * or -1 if it is not in that list.
+     */
+    ReadOnlyIntegerProperty focusedPatientIndexProperty();
+
     //=========== Medical History Events =============================================================
 
     ObservableList<MedicalHistoryEvent> getFilteredMedicalHistoryEventList();
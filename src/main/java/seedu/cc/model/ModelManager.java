@@ -4,12 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.cc.commons.core.GuiSettings;
@@ -18,6 +24,9 @@ import seedu.cc.model.appointment.AppointmentEvent;
 import seedu.cc.model.appointment.Prescription;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.Patient;
+import seedu.cc.model.patient.PatientSortOrder;
+import seedu.cc.model.patient.SortedPatientList;
+import seedu.cc.model.tag.TagQuery;
 
 /**
  * Represents the in-memory model of the clinic book data.
@@ -28,10 +37,13 @@ public class ModelManager implements Model {
     private final ClinicBook clinicBook;
     private final UserPrefs newUserPrefs;
     private final FilteredList<Patient> filteredPatients;
+    private final SortedPatientList sortedPatients;
     private final FilteredList<MedicalHistoryEvent> filteredMedicalHistoryEvents;
     private final FilteredList<AppointmentEvent> filteredAppointmentEvents;
 
     private final IntegerProperty currentTab = new SimpleIntegerProperty(this, "currentTab", 0);
+    private final ObjectProperty<Patient> focusedPatient = new SimpleObjectProperty<>(this, "focusedPatient");
+    private final IntegerProperty focusedPatientIndex = new SimpleIntegerProperty(this, "focusedPatientIndex", -1);
 
     /**
      * Initializes a NewModelManager with the given clinicBook and userPrefs.
@@ -43,7 +55,9 @@ public class ModelManager implements Model {
 
         this.clinicBook = new ClinicBook(clinicBook);
         this.newUserPrefs = new UserPrefs(userPrefs);
+        this.clinicBook.setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
         this.filteredPatients = new FilteredList<>(this.clinicBook.getPatientList());
+        this.sortedPatients = new SortedPatientList(filteredPatients);
         this.filteredMedicalHistoryEvents = new FilteredList<>(this.clinicBook.getClinicBookMedicalHistory());
         this.filteredAppointmentEvents = new FilteredList<>(this.clinicBook.getClinicBookAppointments());
     }
@@ -63,6 +77,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.newUserPrefs.resetData(userPrefs);
+        clinicBook.setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -94,6 +109,46 @@ public class ModelManager implements Model {
         return this.clinicBook;
     }
 
+    @Override
+    public ReadOnlyClinicBook getClinicBookSnapshot() {
+        return clinicBook.snapshot();
+    }
+
+    @Override
+    public void beginTransaction() {
+        clinicBook.beginTransaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        clinicBook.commitTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        clinicBook.rollbackTransaction();
+    }
+
+    @Override
+    public boolean canUndoClinicBook() {
+        return clinicBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoClinicBook() {
+        return clinicBook.canRedo();
+    }
+
+    @Override
+    public void undoClinicBook() {
+        clinicBook.undo();
+    }
+
+    @Override
+    public void redoClinicBook() {
+        clinicBook.redo();
+    }
+
     @Override
     public void setClinicBook(ReadOnlyClinicBook clinicBook) {
         this.clinicBook.resetData(clinicBook);
@@ -116,6 +171,12 @@ public class ModelManager implements Model {
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPatients(List<Patient> patients) {
+        clinicBook.addPatients(patients);
+        updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
@@ -210,7 +271,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
-        return filteredPatients;
+        return sortedPatients;
     }
 
     @Override
@@ -219,6 +280,78 @@ public class ModelManager implements Model {
         filteredPatients.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPatientListByTags(TagQuery query) {
+        requireNonNull(query);
+        filteredPatients.setPredicate(clinicBook.getTagPredicate(query));
+    }
+
+    @Override
+    public void updatePatientSortOrder(PatientSortOrder order) {
+        sortedPatients.setOrder(order);
+    }
+
+    @Override
+    public List<Patient> findPatientsByPhone(String phone) {
+        requireNonNull(phone);
+        return clinicBook.findPatientsByPhone(phone);
+    }
+
+    @Override
+    public List<Patient> findPatientsByEmail(String email) {
+        requireNonNull(email);
+        return clinicBook.findPatientsByEmail(email);
+    }
+
+    @Override
+    public List<Patient> getRecentlySeenPatients(int count) {
+        return clinicBook.getRecentlySeenPatients(count);
+    }
+
+    @Override
+    public List<Patient> getUpcomingPatients(int count) {
+        return clinicBook.getUpcomingPatients(count);
+    }
+
+    @Override
+    public int countAppointmentsBetween(LocalDate start, LocalDate end) {
+        return clinicBook.countAppointmentsBetween(start, end);
+    }
+
+    @Override
+    public int archiveMedicalHistoryBefore(LocalDate cutoff) {
+        requireNonNull(cutoff);
+        return clinicBook.archiveMedicalHistoryBefore(cutoff);
+    }
+
+    @Override
+    public void setFocusedPatient(Patient patient) {
+        // clear first so that focusing the same patient again still notifies listeners
+        focusedPatient.set(null);
+        focusedPatientIndex.set(patient == null ? -1 : getFilteredPatientIndex(patient));
+        focusedPatient.set(patient);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Patient> focusedPatientProperty() {
+        return focusedPatient;
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty focusedPatientIndexProperty() {
+        return focusedPatientIndex;
+    }
+
+    /**
+     * Returns the index of {@code patient} in the filtered patient list, or -1 if it is not shown there.
+     * The patient is found in the clinic book by id, and then in the filtered and sorted views by binary search.
+     */
+    private int getFilteredPatientIndex(Patient patient) {
+        int sourceIndex = clinicBook.indexOfPatient(patient);
+        int filteredIndex = sourceIndex < 0 ? -1 : filteredPatients.getViewIndex(sourceIndex);
+        return filteredIndex < 0 ? -1 : sortedPatients.getViewIndex(filteredIndex);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -233,7 +366,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return clinicBook.equals(otherModelManager.clinicBook)
                 && newUserPrefs.equals(otherModelManager.newUserPrefs)
-                && filteredPatients.equals(otherModelManager.filteredPatients);
+                && sortedPatients.equals(otherModelManager.sortedPatients);
     }
 
 }
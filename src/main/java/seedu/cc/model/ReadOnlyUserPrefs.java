@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getClinicBookFilePath();
 
+    Path getCommandHistoryFilePath();
+
+    int getUndoHistoryDepth();
+
 }
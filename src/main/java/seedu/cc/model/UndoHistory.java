@@ -0,0 +1,114 @@
+package seedu.cc.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.cc.model.patient.PatientListChange;
+
+/**
+ * The changes made by the most recent transactions on a {@code ClinicBook}, which can be undone and redone.
+ * The changes are kept in a ring buffer that holds at most a given number of transactions, dropping the oldest
+ * when it is full. Since each entry holds only the patients that changed, the memory used is proportional to
+ * what changed rather than to the size of the clinic book.
+ */
+class UndoHistory {
+
+    private List<PatientListChange>[] entries;
+    /** The position in {@code entries} of the oldest entry. */
+    private int start = 0;
+    /** The number of entries held, both undoable and redoable. */
+    private int size = 0;
+    /** The number of entries, counting from the oldest, that can be undone. The rest can be redone. */
+    private int undoable = 0;
+
+    /**
+     * Creates an empty history that holds at most {@code capacity} transactions.
+     */
+    UndoHistory(int capacity) {
+        checkArgument(capacity >= 0, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_DEPTH);
+        entries = newEntries(capacity);
+    }
+
+    /**
+     * Adds the {@code changes} made by a transaction as the latest entry, which can be undone next.
+     * The entries that could be redone are dropped, as are the oldest entries if the history is full.
+     */
+    void push(List<PatientListChange> changes) {
+        requireNonNull(changes);
+        size = undoable;
+        if (entries.length == 0) {
+            return;
+        }
+        if (size == entries.length) {
+            entries[start] = null;
+            start = (start + 1) % entries.length;
+            size--;
+            undoable--;
+        }
+        entries[(start + size) % entries.length] = changes;
+        size++;
+        undoable++;
+    }
+
+    boolean canUndo() {
+        return undoable > 0;
+    }
+
+    boolean canRedo() {
+        return undoable < size;
+    }
+
+    /**
+     * Returns the changes of the latest entry that has not been undone, and marks it as undone.
+     */
+    List<PatientListChange> undo() {
+        assert canUndo();
+        undoable--;
+        return entries[(start + undoable) % entries.length];
+    }
+
+    /**
+     * Returns the changes of the earliest entry that has been undone, and marks it as no longer undone.
+     */
+    List<PatientListChange> redo() {
+        assert canRedo();
+        List<PatientListChange> changes = entries[(start + undoable) % entries.length];
+        undoable++;
+        return changes;
+    }
+
+    /**
+     * Returns the number of transactions this history can hold.
+     */
+    int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Changes the number of transactions this history can hold to {@code capacity}, keeping the latest entries
+     * that can be undone. The entries that could be redone are dropped.
+     */
+    void setCapacity(int capacity) {
+        checkArgument(capacity >= 0, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_DEPTH);
+        if (capacity == entries.length) {
+            return;
+        }
+        size = undoable;
+        int dropped = Math.max(0, size - capacity);
+        List<PatientListChange>[] resized = newEntries(capacity);
+        for (int i = dropped; i < size; i++) {
+            resized[i - dropped] = entries[(start + i) % entries.length];
+        }
+        entries = resized;
+        start = 0;
+        size -= dropped;
+        undoable = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<PatientListChange>[] newEntries(int capacity) {
+        return (List<PatientListChange>[]) new List<?>[capacity];
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.cc.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,13 @@ import seedu.cc.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_DEPTH = "The undo history depth cannot be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path clinicBookFilePath = Paths.get("data" , "clinicbook.json");
+    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.txt");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setClinicBookFilePath(newUserPrefs.getClinicBookFilePath());
+        setCommandHistoryFilePath(newUserPrefs.getCommandHistoryFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,27 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.clinicBookFilePath = clinicBookFilePath;
     }
 
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        requireNonNull(commandHistoryFilePath);
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of commands that can be undone to {@code undoHistoryDepth}, which must not be negative.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, MESSAGE_INVALID_UNDO_HISTORY_DEPTH);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +98,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && clinicBookFilePath.equals(otherUserPrefs.clinicBookFilePath);
+                && clinicBookFilePath.equals(otherUserPrefs.clinicBookFilePath)
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, clinicBookFilePath);
+        return Objects.hash(guiSettings, clinicBookFilePath, commandHistoryFilePath, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +113,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + clinicBookFilePath);
+        sb.append("\nCommand history file location : " + commandHistoryFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 }
@@ -57,6 +57,14 @@ public class AppointmentEvent {
         this.prescriptions = prescriptions;
     }
 
+    /**
+     * Constructs an {@code AppointmentEvent} that may already be done, as stored in a {@code PatientAppointmentList}.
+     */
+    AppointmentEvent(Date date, Time time, Set<Prescription> prescriptions, boolean isDone) {
+        this(date, time, prescriptions);
+        this.isDone = isDone;
+    }
+
 
 
     /**
@@ -67,6 +75,17 @@ public class AppointmentEvent {
         this.prescriptions.addAll(prescriptions);
     }
 
+    /**
+     * Returns a copy of this appointment with {@code prescriptions} added to its prescriptions.
+     * This appointment is not changed.
+     */
+    public AppointmentEvent withPrescriptions(Set<Prescription> prescriptions) {
+        requireNonNull(prescriptions);
+        Set<Prescription> merged = new HashSet<>(this.prescriptions);
+        merged.addAll(prescriptions);
+        return new AppointmentEvent(date, time, merged, isDone);
+    }
+
     /**
      * Returns the prescriptions of the appointment.
      *
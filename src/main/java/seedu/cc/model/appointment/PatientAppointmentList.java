@@ -1,60 +1,341 @@
 package seedu.cc.model.appointment;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import seedu.cc.model.util.Date;
+import seedu.cc.model.util.Time;
 
 /**
  * Represents a patient's appointment list.
+ * Appointments are stored column by column in parallel primitive arrays rather than as a list of
+ * {@code AppointmentEvent} objects. The prescriptions of all appointments share one array of prescription ids,
+ * with appointment {@code i} owning the ids from {@code prescriptionOffsets[i]} up to
+ * {@code prescriptionOffsets[i + 1]}. An id is an index into the list's own table of the distinct prescriptions
+ * it holds, which is rebuilt whenever the prescriptions change, so it never holds a prescription no appointment
+ * has. {@code AppointmentEvent}s are created only when they are asked for.
+ * A list is immutable: every change returns a new list that copies only the columns it changes
+ * and shares the rest with this one.
  */
 public class PatientAppointmentList {
 
-    private final ArrayList<AppointmentEvent> appointmentEventList;
+    private static final int[] NO_IDS = new int[0];
+    private static final Prescription[] NO_PRESCRIPTIONS = new Prescription[0];
+
+    private final int size;
+    private final int[] epochDays;
+    private final short[] minutesOfDay;
+    private final boolean[] isDone;
+    private final int[] prescriptionOffsets;
+    private final int[] prescriptionIds;
+    private final Prescription[] prescriptionTable;
 
     /**
      * Creates an empty AppointmentEvent List.
      */
     public PatientAppointmentList() {
-        this.appointmentEventList = new ArrayList<>();
+        this(new int[0], new short[0], new boolean[0], new int[1], NO_IDS, NO_PRESCRIPTIONS);
     }
 
+    private PatientAppointmentList(int[] epochDays, short[] minutesOfDay, boolean[] isDone,
+                                   int[] prescriptionOffsets, int[] prescriptionIds,
+                                   Prescription[] prescriptionTable) {
+        this.size = epochDays.length;
+        this.epochDays = epochDays;
+        this.minutesOfDay = minutesOfDay;
+        this.isDone = isDone;
+        this.prescriptionOffsets = prescriptionOffsets;
+        this.prescriptionIds = prescriptionIds;
+        this.prescriptionTable = prescriptionTable;
+    }
 
     /**
-     * Creates an Appointments using the Appointments in the {@code toBeCopied}
+     * Returns a list with {@code appt} appended to the end of this one.
      */
-    public void addAppointmentList(AppointmentEvent appt) {
-        appointmentEventList.add(appt);
+    public PatientAppointmentList withAppointment(AppointmentEvent appt) {
+        requireNonNull(appt);
+        int[] newEpochDays = Arrays.copyOf(epochDays, size + 1);
+        short[] newMinutesOfDay = Arrays.copyOf(minutesOfDay, size + 1);
+        boolean[] newIsDone = Arrays.copyOf(isDone, size + 1);
+        newEpochDays[size] = appt.getDate().getEpochDay();
+        newMinutesOfDay[size] = (short) appt.getTime().getMinuteOfDay();
+        newIsDone[size] = appt.isDone();
+        int[] newOffsets = Arrays.copyOf(prescriptionOffsets, size + 2);
+        newOffsets[size + 1] = newOffsets[size];
+        PatientAppointmentList appended = new PatientAppointmentList(newEpochDays, newMinutesOfDay, newIsDone,
+                newOffsets, prescriptionIds, prescriptionTable);
+        return appended.withPrescriptionsAt(size, appt.getPrescriptions());
     }
 
     /**
-     * Returns the ArrayList of Appointments.
+     * Returns the appointments in this list, in the order they were added.
+     * The list is newly created, so changing it or its appointments does not change this list.
      */
     public ArrayList<AppointmentEvent> getAppointmentList() {
-        return this.appointmentEventList;
+        ArrayList<AppointmentEvent> appointmentEvents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            appointmentEvents.add(toAppointmentEvent(i));
+        }
+        return appointmentEvents;
+    }
+
+    /**
+     * Returns the number of appointments in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a list with {@code apptToEdit} replaced by {@code editedAppt}.
+     */
+    public PatientAppointmentList withEditedAppointment(AppointmentEvent apptToEdit, AppointmentEvent editedAppt) {
+        requireAllNonNull(apptToEdit, editedAppt);
+        int index = indexOf(apptToEdit);
+        if (index < 0) {
+            return this;
+        }
+        int[] newEpochDays = epochDays.clone();
+        short[] newMinutesOfDay = minutesOfDay.clone();
+        boolean[] newIsDone = isDone.clone();
+        newEpochDays[index] = editedAppt.getDate().getEpochDay();
+        newMinutesOfDay[index] = (short) editedAppt.getTime().getMinuteOfDay();
+        newIsDone[index] = editedAppt.isDone();
+        return new PatientAppointmentList(newEpochDays, newMinutesOfDay, newIsDone, prescriptionOffsets,
+                prescriptionIds, prescriptionTable).withPrescriptionsAt(index, editedAppt.getPrescriptions());
+    }
+
+    /**
+     * Returns a list without {@code eventToDelete}.
+     */
+    public PatientAppointmentList withoutAppointment(AppointmentEvent eventToDelete) {
+        requireNonNull(eventToDelete);
+        int index = indexOf(eventToDelete);
+        if (index < 0) {
+            return this;
+        }
+        PatientAppointmentList withoutIds = withPrescriptionsAt(index, Collections.emptySet());
+        int tail = size - index - 1;
+        int[] newEpochDays = new int[size - 1];
+        short[] newMinutesOfDay = new short[size - 1];
+        boolean[] newIsDone = new boolean[size - 1];
+        int[] newOffsets = new int[size];
+        System.arraycopy(epochDays, 0, newEpochDays, 0, index);
+        System.arraycopy(epochDays, index + 1, newEpochDays, index, tail);
+        System.arraycopy(minutesOfDay, 0, newMinutesOfDay, 0, index);
+        System.arraycopy(minutesOfDay, index + 1, newMinutesOfDay, index, tail);
+        System.arraycopy(isDone, 0, newIsDone, 0, index);
+        System.arraycopy(isDone, index + 1, newIsDone, index, tail);
+        System.arraycopy(withoutIds.prescriptionOffsets, 0, newOffsets, 0, index);
+        System.arraycopy(withoutIds.prescriptionOffsets, index + 1, newOffsets, index, tail + 1);
+        return new PatientAppointmentList(newEpochDays, newMinutesOfDay, newIsDone, newOffsets,
+                withoutIds.prescriptionIds, withoutIds.prescriptionTable);
+    }
+
+    /**
+     * Returns a list with {@code prescriptions} added to the prescriptions of the appointment equal to
+     * {@code appointmentEvent}. Only the prescription columns are copied.
+     */
+    public PatientAppointmentList withPrescriptions(AppointmentEvent appointmentEvent,
+                                                    Set<Prescription> prescriptions) {
+        requireAllNonNull(appointmentEvent, prescriptions);
+        int index = indexOf(appointmentEvent);
+        if (index < 0) {
+            return this;
+        }
+        Set<Prescription> merged = getPrescriptions(index);
+        merged.addAll(prescriptions);
+        return withPrescriptionsAt(index, merged);
+    }
+
+    /**
+     * Calls {@code action} with the epoch day of each appointment, in the order they were added.
+     */
+    public void forEachEpochDay(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(epochDays[i]);
+        }
     }
 
     /**
-     * Sets the AppointmentEvent at the specified index to the edited AppointmentEvent.
+     * Calls {@code action} with each appointment dated from {@code start} to {@code end}, both inclusive, in the
+     * order they were added. Appointments outside the range are skipped by their epoch day, before an
+     * {@code AppointmentEvent} is created for them.
      */
-    public void setAppointment(AppointmentEvent apptToEdit, AppointmentEvent editedAppt) {
-        int index = appointmentEventList.indexOf(apptToEdit);
-        if (index >= 0 && index < appointmentEventList.size()) {
-            appointmentEventList.set(index, editedAppt);
+    public void forEachAppointmentBetween(LocalDate start, LocalDate end, Consumer<AppointmentEvent> action) {
+        requireAllNonNull(start, end, action);
+        long startEpochDay = start.toEpochDay();
+        long endEpochDay = end.toEpochDay();
+        for (int i = 0; i < size; i++) {
+            if (epochDays[i] >= startEpochDay && epochDays[i] <= endEpochDay) {
+                action.accept(toAppointmentEvent(i));
+            }
         }
     }
 
     /**
-     * Deletes the specified AppointmentEvent from the Appointments.
+     * Returns the date of the latest appointment on or before {@code today}, if any.
      */
-    public void deleteAppointment(AppointmentEvent eventToDelete) {
-        int index = appointmentEventList.indexOf(eventToDelete);
-        if (index >= 0 && index < appointmentEventList.size()) {
-            appointmentEventList.remove(index);
+    public Optional<LocalDate> getLastAppointmentDate(LocalDate today) {
+        long todayEpochDay = today.toEpochDay();
+        int last = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (epochDays[i] <= todayEpochDay && epochDays[i] > last) {
+                last = epochDays[i];
+            }
         }
+        return last == Integer.MIN_VALUE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(last));
+    }
+
+    /**
+     * Returns the date of the earliest appointment after {@code today}, if any.
+     */
+    public Optional<LocalDate> getNextAppointmentDate(LocalDate today) {
+        long todayEpochDay = today.toEpochDay();
+        int next = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (epochDays[i] > todayEpochDay && epochDays[i] < next) {
+                next = epochDays[i];
+            }
+        }
+        return next == Integer.MAX_VALUE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(next));
+    }
+
+    /**
+     * Returns the number of appointments dated from {@code start} to {@code end}, both inclusive.
+     */
+    public int countAppointmentsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        long startEpochDay = start.toEpochDay();
+        long endEpochDay = end.toEpochDay();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (epochDays[i] >= startEpochDay && epochDays[i] <= endEpochDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of appointments at which {@code prescription} was prescribed.
+     */
+    public int countPrescribed(Prescription prescription) {
+        int id = Arrays.asList(prescriptionTable).indexOf(prescription);
+        if (id < 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = prescriptionOffsets[i]; j < prescriptionOffsets[i + 1]; j++) {
+                if (prescriptionIds[j] == id) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
     }
 
     /**
      * Returns true if the Appointments contains the specified AppointmentEvent.
      */
     public boolean hasAppointment(AppointmentEvent event) {
-        return appointmentEventList.contains(event);
+        return indexOf(event) >= 0;
+    }
+
+    /**
+     * Returns the index of the appointment at the same date and time as {@code event}, or -1 if there is none.
+     */
+    private int indexOf(AppointmentEvent event) {
+        int epochDay = event.getDate().getEpochDay();
+        short minuteOfDay = (short) event.getTime().getMinuteOfDay();
+        for (int i = 0; i < size; i++) {
+            if (epochDays[i] == epochDay && minutesOfDay[i] == minuteOfDay) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private AppointmentEvent toAppointmentEvent(int index) {
+        return new AppointmentEvent(Date.ofEpochDay(epochDays[index]), Time.ofMinuteOfDay(minutesOfDay[index]),
+                getPrescriptions(index), isDone[index]);
+    }
+
+    private Set<Prescription> getPrescriptions(int index) {
+        Set<Prescription> prescriptions = new HashSet<>();
+        for (int j = prescriptionOffsets[index]; j < prescriptionOffsets[index + 1]; j++) {
+            prescriptions.add(prescriptionTable[prescriptionIds[j]]);
+        }
+        return prescriptions;
+    }
+
+    /**
+     * Returns a list with the prescriptions of the appointment at {@code index} replaced by {@code prescriptions},
+     * sharing every column other than the prescription columns with this list.
+     * The prescription table is rebuilt with only the prescriptions still held, in the order they are first used.
+     */
+    private PatientAppointmentList withPrescriptionsAt(int index, Set<Prescription> prescriptions) {
+        int start = prescriptionOffsets[index];
+        int end = prescriptionOffsets[index + 1];
+        int total = prescriptionOffsets[size];
+        int delta = prescriptions.size() - (end - start);
+        int[] newIds = new int[total + delta];
+        List<Prescription> newTable = new ArrayList<>();
+        Map<Prescription, Integer> newIdsByPrescription = new HashMap<>();
+        int[] oldToNewIds = new int[prescriptionTable.length];
+        Arrays.fill(oldToNewIds, -1);
+        for (int j = 0; j < start; j++) {
+            newIds[j] = newIdOf(prescriptionIds[j], oldToNewIds, newIdsByPrescription, newTable);
+        }
+        int j = start;
+        for (Prescription prescription : prescriptions) {
+            newIds[j++] = idIn(prescription, newIdsByPrescription, newTable);
+        }
+        for (j = end; j < total; j++) {
+            newIds[j + delta] = newIdOf(prescriptionIds[j], oldToNewIds, newIdsByPrescription, newTable);
+        }
+        int[] newOffsets = prescriptionOffsets.clone();
+        for (int i = index + 1; i <= size; i++) {
+            newOffsets[i] += delta;
+        }
+        return new PatientAppointmentList(epochDays, minutesOfDay, isDone, newOffsets, newIds,
+                newTable.toArray(NO_PRESCRIPTIONS));
+    }
+
+    private int newIdOf(int oldId, int[] oldToNewIds, Map<Prescription, Integer> newIdsByPrescription,
+                        List<Prescription> newTable) {
+        if (oldToNewIds[oldId] < 0) {
+            oldToNewIds[oldId] = idIn(prescriptionTable[oldId], newIdsByPrescription, newTable);
+        }
+        return oldToNewIds[oldId];
+    }
+
+    /**
+     * Returns the id of {@code prescription} in {@code table}, adding it to the end of the table if it is not there.
+     */
+    private static int idIn(Prescription prescription, Map<Prescription, Integer> idsByPrescription,
+                            List<Prescription> table) {
+        Integer id = idsByPrescription.get(prescription);
+        if (id == null) {
+            id = table.size();
+            table.add(prescription);
+            idsByPrescription.put(prescription, id);
+        }
+        return id;
     }
 }
@@ -3,6 +3,9 @@ package seedu.cc.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.AppUtil.checkArgument;
 
+import seedu.cc.commons.util.Interner;
+import seedu.cc.commons.util.ValidationUtil;
+
 /**
  * Represents a patient's prescription.
  */
@@ -10,6 +13,8 @@ public class Prescription {
 
     public static final String MESSAGE_CONSTRAINTS = "Prescriptions should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Interner<Prescription> INTERNER =
+            new Interner<>("Prescription", x -> Interner.estimateStringWrapperSize(x.value));
     public final String value;
 
     /**
@@ -23,14 +28,23 @@ public class Prescription {
         this.value = prescription;
     }
 
+    /**
+     * Returns the shared {@code Prescription} for the given prescription, so that equal values held by
+     * different patients are one instance on the heap.
+     *
+     * @param prescription A valid prescription.
+     */
+    public static Prescription of(String prescription) {
+        return INTERNER.intern(new Prescription(prescription));
+    }
+
     /**
      * Returns true if a given string is a valid prescription name.
      */
     public static boolean isValidPrescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
-
     public String getPrescription() {
         return value;
     }
@@ -54,4 +68,9 @@ public class Prescription {
         Prescription otherPrescription = (Prescription) other;
         return value.equals(otherPrescription.value);
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.cc.model.medicalhistory;
+
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Hands out the direct (off-heap) memory that medical history archives are encoded into.
+ * Archives are cut from large shared buffers, or slabs, so that archiving the histories of many patients allocates a
+ * few slabs instead of one small direct buffer per patient. An archive larger than half a slab gets a buffer of its
+ * own. A slab is freed once none of the archives cut from it is reachable.
+ * Not thread-safe: each archiving run is expected to use its own instance.
+ */
+public class ArchiveSlabs {
+
+    public static final int DEFAULT_SLAB_BYTES = 64 * 1024;
+
+    private final int slabBytes;
+    private ByteBuffer slab = null;
+
+    /**
+     * Creates slabs of {@code DEFAULT_SLAB_BYTES} bytes.
+     */
+    public ArchiveSlabs() {
+        this(DEFAULT_SLAB_BYTES);
+    }
+
+    /**
+     * Creates slabs of {@code slabBytes} bytes. With no bytes, every archive gets a buffer of its own.
+     */
+    public ArchiveSlabs(int slabBytes) {
+        checkArgument(slabBytes >= 0, "Slab size must not be negative");
+        this.slabBytes = slabBytes;
+    }
+
+    /**
+     * Returns a new direct buffer of {@code size} bytes, positioned at zero with its limit at {@code size}.
+     */
+    ByteBuffer allocate(int size) {
+        if (size > slabBytes / 2) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        if (slab == null || slab.remaining() < size) {
+            slab = ByteBuffer.allocateDirect(slabBytes);
+        }
+        int start = slab.position();
+        slab.limit(start + size);
+        ByteBuffer archive = slab.slice();
+        slab.limit(slab.capacity()).position(start + size);
+        return archive;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -39,7 +40,7 @@ public class ClinicBookMedicalHistory implements Iterable<MedicalHistoryEvent> {
      */
     public void add(MedicalHistoryEvent toAdd, Patient patient) {
 
-        if (!patient.equals(currentPatient)) {
+        if (!patient.isSameRecord(currentPatient)) {
             return;
         }
 
@@ -61,7 +62,7 @@ public class ClinicBookMedicalHistory implements Iterable<MedicalHistoryEvent> {
             throw new DuplicateMedicalHistoryEventException();
         }
 
-        if (!patient.equals(currentPatient)) {
+        if (!patient.isSameRecord(currentPatient)) {
             return;
         }
 
@@ -75,7 +76,7 @@ public class ClinicBookMedicalHistory implements Iterable<MedicalHistoryEvent> {
     public void delete(MedicalHistoryEvent toDelete, Patient patient) {
         requireAllNonNull(toDelete, patient);
 
-        if (!patient.equals(currentPatient)) {
+        if (!patient.isSameRecord(currentPatient)) {
             return;
         }
 
@@ -95,6 +96,21 @@ public class ClinicBookMedicalHistory implements Iterable<MedicalHistoryEvent> {
         internalList.setAll(patient.getClinicBookMedicalHistory());
     }
 
+    /**
+     * Returns the patient whose medical history events are listed, if any.
+     */
+    public Optional<Patient> getCurrentPatient() {
+        return Optional.ofNullable(currentPatient);
+    }
+
+    /**
+     * Empties the list, so that it no longer lists the events of any patient.
+     */
+    public void clear() {
+        currentPatient = null;
+        internalList.clear();
+    }
+
     /**
      * Returns a list of all medical history events in this list.
      */
@@ -3,6 +3,9 @@ package seedu.cc.model.medicalhistory;
 import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.AppUtil.checkArgument;
 
+import seedu.cc.commons.util.Interner;
+import seedu.cc.commons.util.ValidationUtil;
+
 /**
  * Represents a patient's medical condition.
  */
@@ -14,6 +17,8 @@ public class MedicalCondition {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Interner<MedicalCondition> INTERNER =
+            new Interner<>("MedicalCondition", x -> Interner.estimateStringWrapperSize(x.value));
     public final String value;
 
     /**
@@ -27,11 +32,21 @@ public class MedicalCondition {
         this.value = medicalCondition;
     }
 
+    /**
+     * Returns the shared {@code MedicalCondition} for the given medical condition, so that equal values held by
+     * different patients are one instance on the heap.
+     *
+     * @param medicalCondition A valid medical condition.
+     */
+    public static MedicalCondition of(String medicalCondition) {
+        return INTERNER.intern(new MedicalCondition(medicalCondition));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidMedicalCondition(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
     public String getMedicalCondition() {
@@ -57,4 +72,9 @@ public class MedicalCondition {
         MedicalCondition otherMedicalCondition = (MedicalCondition) other;
         return value.equals(otherMedicalCondition.value);
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
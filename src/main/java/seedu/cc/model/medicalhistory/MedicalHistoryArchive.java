@@ -0,0 +1,185 @@
+package seedu.cc.model.medicalhistory;
+
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.cc.model.util.Date;
+
+/**
+ * Encodes medical history events into direct (off-heap) byte buffers and decodes them back.
+ * Each event is stored as its epoch day followed by its medical condition and treatment, each as a UTF-8 string
+ * prefixed by its length in base-128 variable-length form, so an archived event costs a few dozen bytes
+ * outside the heap instead of five objects on it.
+ * A history also keeps a fingerprint of its archive, a 64-bit Bloom filter of its events, so that most lookups of
+ * an event that is not archived do not read the archive at all.
+ */
+final class MedicalHistoryArchive {
+
+    private static final int EPOCH_DAY_BYTES = Integer.BYTES;
+
+    private MedicalHistoryArchive() {}
+
+    /**
+     * Returns a new direct buffer from {@code slabs} holding the events of {@code archive}, if any, followed by
+     * {@code events}. {@code archive} is not modified.
+     */
+    static ByteBuffer append(ByteBuffer archive, List<MedicalHistoryEvent> events, ArchiveSlabs slabs) {
+        requireAllNonNull(events, slabs);
+        List<byte[]> encodedStrings = new ArrayList<>(events.size() * 2);
+        int size = archive == null ? 0 : archive.limit();
+        for (MedicalHistoryEvent event : events) {
+            byte[] condition = event.getMedicalCondition().value.getBytes(StandardCharsets.UTF_8);
+            byte[] treatment = event.getTreatment().value.getBytes(StandardCharsets.UTF_8);
+            encodedStrings.add(condition);
+            encodedStrings.add(treatment);
+            size += EPOCH_DAY_BYTES + encodedSize(condition) + encodedSize(treatment);
+        }
+
+        ByteBuffer result = slabs.allocate(size);
+        if (archive != null) {
+            result.put(archive.duplicate().rewind());
+        }
+        for (int i = 0; i < events.size(); i++) {
+            result.putInt(events.get(i).getDate().getEpochDay());
+            putString(result, encodedStrings.get(2 * i));
+            putString(result, encodedStrings.get(2 * i + 1));
+        }
+        return result.flip();
+    }
+
+    /**
+     * Returns the events held in {@code archive}, in the order they were archived.
+     */
+    static List<MedicalHistoryEvent> decode(ByteBuffer archive) {
+        List<MedicalHistoryEvent> events = new ArrayList<>();
+        if (archive == null) {
+            return events;
+        }
+        ByteBuffer reader = archive.duplicate().rewind();
+        while (reader.hasRemaining()) {
+            Date date = Date.ofEpochDay(reader.getInt());
+            MedicalCondition condition = MedicalCondition.of(getString(reader));
+            Treatment treatment = Treatment.of(getString(reader));
+            events.add(new MedicalHistoryEvent(condition, treatment, date));
+        }
+        return events;
+    }
+
+    /**
+     * Returns true if {@code archive} holds {@code event}.
+     * Compares the encoded bytes in place, so only events dated the same day as {@code event} are looked at closely,
+     * and no event is decoded.
+     */
+    static boolean contains(ByteBuffer archive, MedicalHistoryEvent event) {
+        if (archive == null) {
+            return false;
+        }
+        int epochDay = event.getDate().getEpochDay();
+        byte[] condition = null;
+        byte[] treatment = null;
+        ByteBuffer reader = archive.duplicate().rewind();
+        while (reader.hasRemaining()) {
+            boolean isSameDay = reader.getInt() == epochDay;
+            if (!isSameDay) {
+                skipString(reader);
+                skipString(reader);
+                continue;
+            }
+            if (condition == null) {
+                condition = event.getMedicalCondition().value.getBytes(StandardCharsets.UTF_8);
+                treatment = event.getTreatment().value.getBytes(StandardCharsets.UTF_8);
+            }
+            // Both strings are always read, so the reader ends up at the next event whatever the outcome.
+            boolean isSameCondition = matchString(reader, condition);
+            if (matchString(reader, treatment) && isSameCondition) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the fingerprint of an archive holding only {@code event}.
+     * The fingerprint of an archive is the bitwise OR of the fingerprints of its events.
+     */
+    static long fingerprintOf(MedicalHistoryEvent event) {
+        int hash = 31 * (31 * event.getDate().getEpochDay() + event.getMedicalCondition().value.hashCode())
+                + event.getTreatment().value.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return 1L << (hash & 63) | 1L << ((hash >>> 6) & 63);
+    }
+
+    /**
+     * Returns false if the archive with {@code fingerprint} certainly does not hold {@code event}.
+     */
+    static boolean mightContain(long fingerprint, MedicalHistoryEvent event) {
+        long eventFingerprint = fingerprintOf(event);
+        return (fingerprint & eventFingerprint) == eventFingerprint;
+    }
+
+    private static int encodedSize(byte[] encoded) {
+        int lengthBytes = 1;
+        for (int length = encoded.length; length >= 0x80; length >>>= 7) {
+            lengthBytes++;
+        }
+        return lengthBytes + encoded.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] encoded) {
+        int length = encoded.length;
+        while (length >= 0x80) {
+            buffer.put((byte) (length | 0x80));
+            length >>>= 7;
+        }
+        buffer.put((byte) length);
+        buffer.put(encoded);
+    }
+
+    private static int getLength(ByteBuffer buffer) {
+        int length = 0;
+        int shift = 0;
+        byte next;
+        do {
+            next = buffer.get();
+            length |= (next & 0x7F) << shift;
+            shift += 7;
+        } while (next < 0);
+        return length;
+    }
+
+    private static void skipString(ByteBuffer buffer) {
+        int length = getLength(buffer);
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Reads past the next string in {@code buffer}, and returns true if it is {@code encoded}.
+     */
+    private static boolean matchString(ByteBuffer buffer, byte[] encoded) {
+        int length = getLength(buffer);
+        int start = buffer.position();
+        buffer.position(start + length);
+        if (length != encoded.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = getLength(buffer);
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
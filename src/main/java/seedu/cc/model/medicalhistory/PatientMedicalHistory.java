@@ -1,60 +1,211 @@
 package seedu.cc.model.medicalhistory;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.cc.commons.util.PersistentVector;
+import seedu.cc.model.util.Date;
 
 /**
  * Represents a patient's medical history.
+ * A history is immutable: every change returns a new history that shares the unchanged events with this one.
+ * Old events can be moved into an off-heap archive with {@link #withEventsArchivedBefore(LocalDate)}.
+ * Archived events are decoded again whenever the history is read, and come before the events still on the heap.
+ * Looking up an archived event reads the archive in place, and only if its fingerprint says the event may be there.
  */
 public class PatientMedicalHistory {
 
-    private final ArrayList<MedicalHistoryEvent> medicalHistoryEvents;
+    private final PersistentVector<MedicalHistoryEvent> medicalHistoryEvents;
+
+    private final ByteBuffer archive;
+    private final int archivedCount;
+    private final int archivedLatestEpochDay;
+    private final long archivedFingerprint;
 
     public PatientMedicalHistory() {
-        this.medicalHistoryEvents = new ArrayList<>();
+        this(PersistentVector.empty(), null, 0, Integer.MIN_VALUE, 0);
+    }
+
+    private PatientMedicalHistory(PersistentVector<MedicalHistoryEvent> medicalHistoryEvents, ByteBuffer archive,
+                                  int archivedCount, int archivedLatestEpochDay, long archivedFingerprint) {
+        this.medicalHistoryEvents = medicalHistoryEvents;
+        this.archive = archive;
+        this.archivedCount = archivedCount;
+        this.archivedLatestEpochDay = archivedLatestEpochDay;
+        this.archivedFingerprint = archivedFingerprint;
     }
 
     /**
-     * Creates a PatientMedicalHistory using the MedicalHistoryEvents in the {@code toBeCopied}
+     * Returns a history with {@code event} added after the events in this one.
      */
-    public void addMedicalHistoryEvent(MedicalHistoryEvent event) {
-        medicalHistoryEvents.add(event);
-
+    public PatientMedicalHistory withMedicalHistoryEvent(MedicalHistoryEvent event) {
+        requireNonNull(event);
+        return new PatientMedicalHistory(medicalHistoryEvents.append(event), archive, archivedCount,
+                archivedLatestEpochDay, archivedFingerprint);
     }
 
     /**
-     * Returns an ArrayList of MedicalHistoryEvents.
+     * Returns an ArrayList of MedicalHistoryEvents, archived events first.
+     * The list is newly created, so changing it does not change this history.
      * @return ArrayList of MedicalHistoryEvents.
      */
     public ArrayList<MedicalHistoryEvent> getMedicalHistoryEvents() {
-        return medicalHistoryEvents;
+        ArrayList<MedicalHistoryEvent> events = new ArrayList<>(archivedCount + medicalHistoryEvents.size());
+        events.addAll(MedicalHistoryArchive.decode(archive));
+        medicalHistoryEvents.forEach(events::add);
+        return events;
     }
 
     /**
-     * Sets the MedicalHistoryEvent at the specified index to the edited MedicalHistoryEvent.
+     * Returns a history with {@code eventToEdit} replaced by {@code editedEvent}.
+     * An archived event that is edited is brought back onto the heap.
      */
-    public void setMedicalHistoryEvent(MedicalHistoryEvent eventToEdit, MedicalHistoryEvent editedEvent) {
+    public PatientMedicalHistory withEditedMedicalHistoryEvent(MedicalHistoryEvent eventToEdit,
+                                                               MedicalHistoryEvent editedEvent) {
         int index = medicalHistoryEvents.indexOf(eventToEdit);
-        if (index >= 0 && index < medicalHistoryEvents.size()) {
-            medicalHistoryEvents.set(index, editedEvent);
+        if (index >= 0) {
+            return new PatientMedicalHistory(medicalHistoryEvents.set(index, editedEvent), archive, archivedCount,
+                    archivedLatestEpochDay, archivedFingerprint);
+        }
+        PatientMedicalHistory withoutArchived = withoutArchivedEvent(eventToEdit);
+        if (withoutArchived == this) {
+            return this;
         }
+        return new PatientMedicalHistory(medicalHistoryEvents.insert(0, editedEvent), withoutArchived.archive,
+                withoutArchived.archivedCount, withoutArchived.archivedLatestEpochDay,
+                withoutArchived.archivedFingerprint);
     }
 
     /**
-     * Deletes the specified MedicalHistoryEvent from the PatientMedicalHistory.
+     * Returns a history without {@code eventToDelete}.
      */
-    public void deleteMedicalHistoryEvent(MedicalHistoryEvent eventToDelete) {
+    public PatientMedicalHistory withoutMedicalHistoryEvent(MedicalHistoryEvent eventToDelete) {
         int index = medicalHistoryEvents.indexOf(eventToDelete);
-        if (index >= 0 && index < medicalHistoryEvents.size()) {
-            medicalHistoryEvents.remove(index);
+        if (index >= 0) {
+            return new PatientMedicalHistory(medicalHistoryEvents.remove(index), archive, archivedCount,
+                    archivedLatestEpochDay, archivedFingerprint);
+        }
+        return withoutArchivedEvent(eventToDelete);
+    }
+
+    /**
+     * Calls {@code action} with each event dated from {@code start} to {@code end}, both inclusive, archived events
+     * first. The archive is decoded only if its latest event is on or after {@code start}.
+     */
+    public void forEachEventBetween(LocalDate start, LocalDate end, Consumer<MedicalHistoryEvent> action) {
+        requireAllNonNull(start, end, action);
+        long startEpochDay = start.toEpochDay();
+        long endEpochDay = end.toEpochDay();
+        Consumer<MedicalHistoryEvent> actionInRange = event -> {
+            int epochDay = event.getDate().getEpochDay();
+            if (epochDay >= startEpochDay && epochDay <= endEpochDay) {
+                action.accept(event);
+            }
+        };
+        if (archivedCount > 0 && archivedLatestEpochDay >= startEpochDay) {
+            MedicalHistoryArchive.decode(archive).forEach(actionInRange);
         }
+        medicalHistoryEvents.forEach(actionInRange);
+    }
+
+    /**
+     * Returns a history with every event dated before {@code cutoff} moved into an off-heap archive of its own.
+     * Returns this history if there is no such event.
+     */
+    public PatientMedicalHistory withEventsArchivedBefore(LocalDate cutoff) {
+        return withEventsArchivedBefore(cutoff, new ArchiveSlabs(0));
+    }
+
+    /**
+     * Returns a history with every event dated before {@code cutoff} moved into an off-heap archive cut from
+     * {@code slabs}. Returns this history if there is no such event.
+     */
+    public PatientMedicalHistory withEventsArchivedBefore(LocalDate cutoff, ArchiveSlabs slabs) {
+        requireAllNonNull(cutoff, slabs);
+        long cutoffEpochDay = cutoff.toEpochDay();
+        List<MedicalHistoryEvent> toArchive = new ArrayList<>();
+        List<MedicalHistoryEvent> toKeep = new ArrayList<>();
+        for (MedicalHistoryEvent event : medicalHistoryEvents) {
+            if (event.getDate().getEpochDay() < cutoffEpochDay) {
+                toArchive.add(event);
+            } else {
+                toKeep.add(event);
+            }
+        }
+        if (toArchive.isEmpty()) {
+            return this;
+        }
+        int latestEpochDay = archivedLatestEpochDay;
+        long fingerprint = archivedFingerprint;
+        for (MedicalHistoryEvent event : toArchive) {
+            latestEpochDay = Math.max(latestEpochDay, event.getDate().getEpochDay());
+            fingerprint |= MedicalHistoryArchive.fingerprintOf(event);
+        }
+        ByteBuffer newArchive = MedicalHistoryArchive.append(archive, toArchive, slabs);
+        return new PatientMedicalHistory(PersistentVector.of(toKeep), newArchive, archivedCount + toArchive.size(),
+                latestEpochDay, fingerprint);
+    }
+
+    /**
+     * Returns the number of events held in the off-heap archive.
+     */
+    public int getArchivedCount() {
+        return archivedCount;
+    }
+
+    /**
+     * Returns the date of the latest MedicalHistoryEvent, if any.
+     */
+    public Optional<LocalDate> getLatestEventDate() {
+        Date latest = archivedCount == 0 ? null : Date.ofEpochDay(archivedLatestEpochDay);
+        for (MedicalHistoryEvent event : medicalHistoryEvents) {
+            Date date = event.getDate();
+            if (latest == null || date.compareTo(latest) > 0) {
+                latest = date;
+            }
+        }
+        return Optional.ofNullable(latest).map(Date::getDate);
     }
 
     /**
      * Returns true if the PatientMedicalHistory contains the specified MedicalHistoryEvent.
      */
     public boolean hasMedicalHistoryEvent(MedicalHistoryEvent event) {
-        return medicalHistoryEvents.contains(event);
+        return medicalHistoryEvents.contains(event) || isArchived(event);
     }
 
+    private boolean isArchived(MedicalHistoryEvent event) {
+        return archivedCount > 0 && MedicalHistoryArchive.mightContain(archivedFingerprint, event)
+                && MedicalHistoryArchive.contains(archive, event);
+    }
+
+    /**
+     * Returns a history without the archived {@code event}, re-encoding the rest of the archive.
+     * Returns this history if {@code event} is not archived.
+     */
+    private PatientMedicalHistory withoutArchivedEvent(MedicalHistoryEvent event) {
+        if (!isArchived(event)) {
+            return this;
+        }
+        List<MedicalHistoryEvent> archived = MedicalHistoryArchive.decode(archive);
+        archived.remove(event);
+        int latestEpochDay = Integer.MIN_VALUE;
+        long fingerprint = 0;
+        for (MedicalHistoryEvent remaining : archived) {
+            latestEpochDay = Math.max(latestEpochDay, remaining.getDate().getEpochDay());
+            fingerprint |= MedicalHistoryArchive.fingerprintOf(remaining);
+        }
+        ByteBuffer newArchive = archived.isEmpty() ? null
+                : MedicalHistoryArchive.append(null, archived, new ArchiveSlabs(0));
+        return new PatientMedicalHistory(medicalHistoryEvents, newArchive, archived.size(), latestEpochDay,
+                fingerprint);
+    }
 
 }
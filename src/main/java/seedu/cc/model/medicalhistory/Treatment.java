@@ -3,6 +3,9 @@ package seedu.cc.model.medicalhistory;
 import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.AppUtil.checkArgument;
 
+import seedu.cc.commons.util.Interner;
+import seedu.cc.commons.util.ValidationUtil;
+
 /**
  * Represents a patient's treatment.
  */
@@ -14,6 +17,8 @@ public class Treatment {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Interner<Treatment> INTERNER =
+            new Interner<>("Treatment", x -> Interner.estimateStringWrapperSize(x.value));
     public final String value;
 
     /**
@@ -27,8 +32,18 @@ public class Treatment {
         this.value = treatment;
     }
 
+    /**
+     * Returns the shared {@code Treatment} for the given treatment, so that equal values held by
+     * different patients are one instance on the heap.
+     *
+     * @param treatment A valid treatment.
+     */
+    public static Treatment of(String treatment) {
+        return INTERNER.intern(new Treatment(treatment));
+    }
+
     public static boolean isValidTreatment(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
     public String getTreatment() {
@@ -54,4 +69,9 @@ public class Treatment {
         Treatment otherTreatment = (Treatment) other;
         return value.equals(otherTreatment.value);
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
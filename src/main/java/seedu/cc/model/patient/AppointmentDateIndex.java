@@ -0,0 +1,78 @@
+package seedu.cc.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+
+import seedu.cc.commons.util.IntIntHashMap;
+
+/**
+ * A count of the appointments of all indexed patients on each day, keyed by epoch day,
+ * so that the number of appointments in a date range is found without scanning every patient.
+ */
+public class AppointmentDateIndex {
+
+    private final IntIntHashMap countsByEpochDay = new IntIntHashMap();
+
+    /**
+     * Counts each appointment of {@code patient}.
+     */
+    public void add(Patient patient) {
+        requireNonNull(patient);
+        patient.getAppointmentList().forEachEpochDay(epochDay -> countsByEpochDay.addTo(epochDay, 1));
+    }
+
+    /**
+     * Stops counting each appointment of {@code patient}.
+     * {@code patient} must have the same appointments as when it was added.
+     */
+    public void remove(Patient patient) {
+        requireNonNull(patient);
+        patient.getAppointmentList().forEachEpochDay(epochDay -> countsByEpochDay.addTo(epochDay, -1));
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPatient}.
+     */
+    public void replace(Patient target, Patient editedPatient) {
+        remove(target);
+        add(editedPatient);
+    }
+
+    /**
+     * Removes every patient from the index.
+     */
+    public void clear() {
+        countsByEpochDay.clear();
+    }
+
+    /**
+     * Returns the number of appointments dated from {@code start} to {@code end}, both inclusive.
+     * Looks up each day of the range, or scans the counted days instead if there are fewer of them.
+     */
+    public int countBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        long startEpochDay = start.toEpochDay();
+        long endEpochDay = end.toEpochDay();
+        if (endEpochDay < startEpochDay) {
+            return 0;
+        }
+
+        if (endEpochDay - startEpochDay < countsByEpochDay.size()) {
+            int count = 0;
+            for (long epochDay = startEpochDay; epochDay <= endEpochDay; epochDay++) {
+                count += countsByEpochDay.getOrDefault((int) epochDay, 0);
+            }
+            return count;
+        }
+
+        int[] count = {0};
+        countsByEpochDay.forEach((epochDay, dayCount) -> {
+            if (epochDay >= startEpochDay && epochDay <= endEpochDay) {
+                count[0] += dayCount;
+            }
+        });
+        return count[0];
+    }
+}
@@ -3,6 +3,8 @@ package seedu.cc.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.AppUtil.checkArgument;
 
+import seedu.cc.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's NRIC in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNric(String)}
@@ -31,7 +33,7 @@ public class Nric {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidNric(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNric(test);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package seedu.cc.model.patient;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Set;
 
@@ -7,6 +8,7 @@ import seedu.cc.commons.util.ToStringBuilder;
 import seedu.cc.model.appointment.AppointmentEvent;
 import seedu.cc.model.appointment.PatientAppointmentList;
 import seedu.cc.model.appointment.Prescription;
+import seedu.cc.model.medicalhistory.ArchiveSlabs;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.medicalhistory.PatientMedicalHistory;
 import seedu.cc.model.person.Age;
@@ -19,11 +21,20 @@ import seedu.cc.model.tag.Tag;
 /**
  * Represents a Patient in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Adding, editing or deleting an appointment or medical history event returns a new version of the patient
+ * that shares its details and unchanged events with this one.
+ * A patient added to a {@code UniquePatientList} is given a dense integer id that stays the same across versions
+ * and edits, and is saved with the patient.
  */
 public class Patient extends Person {
+
+    /** The id of a patient that has not been added to a {@code UniquePatientList}. */
+    public static final int UNASSIGNED_ID = -1;
+
+    private final int id;
     private final Nric nric;
-    private PatientAppointmentList patientAppointmentList;
-    private PatientMedicalHistory patientMedicalHistory;
+    private final PatientAppointmentList patientAppointmentList;
+    private final PatientMedicalHistory patientMedicalHistory;
 
     /**
      * Every field must be present and not null, except appointment and medical history.
@@ -31,10 +42,7 @@ public class Patient extends Person {
      */
     public Patient(Name name, Nric nric, Phone phone, Email email,
                    Age age, Set<Tag> tags) {
-        super(name, phone, email, age, tags);
-        this.nric = nric;
-        this.patientAppointmentList = new PatientAppointmentList();
-        this.patientMedicalHistory = new PatientMedicalHistory();
+        this(name, nric, phone, email, age, new PatientAppointmentList(), new PatientMedicalHistory(), tags);
     }
 
     /**
@@ -43,8 +51,7 @@ public class Patient extends Person {
      */
     public Patient(Name name, Nric nric, Phone phone, Email email, Age age,
                    PatientMedicalHistory patientMedicalHistory, Set<Tag> tags) {
-        this(name, nric, phone, email, age, tags);
-        this.patientMedicalHistory = patientMedicalHistory;
+        this(name, nric, phone, email, age, new PatientAppointmentList(), patientMedicalHistory, tags);
     }
 
     /**
@@ -52,8 +59,7 @@ public class Patient extends Person {
      */
     public Patient(Name name, Nric nric, Phone phone, Email email, Age age,
                    PatientAppointmentList patientAppointmentList, Set<Tag> tags) {
-        this(name, nric, phone, email, age, tags);
-        this.patientAppointmentList = patientAppointmentList;
+        this(name, nric, phone, email, age, patientAppointmentList, new PatientMedicalHistory(), tags);
     }
 
     /**
@@ -62,12 +68,53 @@ public class Patient extends Person {
     public Patient(Name name, Nric nric, Phone phone, Email email, Age age,
                    PatientAppointmentList patientAppointmentList, PatientMedicalHistory patientMedicalHistory,
                    Set<Tag> tags) {
-        this(name, nric, phone, email, age, tags);
+        this(UNASSIGNED_ID, name, nric, phone, email, age, patientAppointmentList, patientMedicalHistory, tags);
+    }
+
+    /**
+     * Constructor for Patient with an id, PatientAppointmentList and PatientMedicalHistory in Storage.
+     */
+    public Patient(int id, Name name, Nric nric, Phone phone, Email email, Age age,
+                   PatientAppointmentList patientAppointmentList, PatientMedicalHistory patientMedicalHistory,
+                   Set<Tag> tags) {
+        super(name, phone, email, age, tags);
+        this.id = id;
+        this.nric = nric;
         this.patientAppointmentList = patientAppointmentList;
         this.patientMedicalHistory = patientMedicalHistory;
     }
 
+    private Patient withRecords(PatientAppointmentList appointmentList, PatientMedicalHistory medicalHistory) {
+        if (appointmentList == patientAppointmentList && medicalHistory == patientMedicalHistory) {
+            return this;
+        }
+        return new Patient(id, getName(), nric, getPhone(), getEmail(), getAge(), appointmentList, medicalHistory,
+                getTags());
+    }
+
+    /**
+     * Returns a version of this patient with the id {@code id}.
+     */
+    public Patient withId(int id) {
+        if (id == this.id) {
+            return this;
+        }
+        return new Patient(id, getName(), nric, getPhone(), getEmail(), getAge(), patientAppointmentList,
+                patientMedicalHistory, getTags());
+    }
+
     //getters and setters
+    /**
+     * Returns the id given to this patient by its {@code UniquePatientList}, or {@link #UNASSIGNED_ID}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
     public Name getName() {
         return super.getName();
     }
@@ -110,6 +157,20 @@ public class Patient extends Person {
                 && this.patientMedicalHistory.equals(otherPatient.getMedicalHistory());
     }
 
+    /**
+     * Returns true if {@code otherPatient} is a version of the same patient record as this patient,
+     * i.e. it has the same id, or is equal if either patient has no id.
+     */
+    public boolean isSameRecord(Patient otherPatient) {
+        if (otherPatient == null) {
+            return false;
+        }
+        if (hasId() && otherPatient.hasId()) {
+            return id == otherPatient.id;
+        }
+        return equals(otherPatient);
+    }
+
     public boolean equals(Object other) {
         return super.equals(other);
     }
@@ -140,16 +201,24 @@ public class Patient extends Person {
         return this.patientMedicalHistory.getMedicalHistoryEvents();
     }
 
-    public void addMedicalHistoryEvent(MedicalHistoryEvent event) {
-        this.patientMedicalHistory.addMedicalHistoryEvent(event);
+    public Patient withMedicalHistoryEvent(MedicalHistoryEvent event) {
+        return withRecords(patientAppointmentList, patientMedicalHistory.withMedicalHistoryEvent(event));
+    }
+
+    /**
+     * Returns a version of this patient with {@code eventToEdit} replaced by {@code editedEvent}.
+     */
+    public Patient withEditedMedicalHistoryEvent(MedicalHistoryEvent eventToEdit, MedicalHistoryEvent editedEvent) {
+        return withRecords(patientAppointmentList,
+                patientMedicalHistory.withEditedMedicalHistoryEvent(eventToEdit, editedEvent));
     }
 
-    public void setMedicalHistoryEvent(MedicalHistoryEvent eventToEdit, MedicalHistoryEvent editedEvent) {
-        this.patientMedicalHistory.setMedicalHistoryEvent(eventToEdit, editedEvent);
+    public Patient withoutMedicalHistoryEvent(MedicalHistoryEvent eventToDelete) {
+        return withRecords(patientAppointmentList, patientMedicalHistory.withoutMedicalHistoryEvent(eventToDelete));
     }
 
-    public void deleteMedicalHistoryEvent(MedicalHistoryEvent eventToDelete) {
-        this.patientMedicalHistory.deleteMedicalHistoryEvent(eventToDelete);
+    public Patient withMedicalHistoryArchivedBefore(LocalDate cutoff, ArchiveSlabs slabs) {
+        return withRecords(patientAppointmentList, patientMedicalHistory.withEventsArchivedBefore(cutoff, slabs));
     }
 
     public boolean hasMedicalHistoryEvent(MedicalHistoryEvent event) {
@@ -174,16 +243,26 @@ public class Patient extends Person {
         return this.patientAppointmentList.hasAppointment(appointmentEvent);
     }
 
-    public void addAppointmentEvent(AppointmentEvent appointmentEvent) {
-        this.patientAppointmentList.addAppointmentList(appointmentEvent);
+    public Patient withAppointmentEvent(AppointmentEvent appointmentEvent) {
+        return withRecords(patientAppointmentList.withAppointment(appointmentEvent), patientMedicalHistory);
     }
 
-    public void setAppointmentEvent(AppointmentEvent appointmentEventToEdit, AppointmentEvent editedAppointmentEvent) {
-        this.patientAppointmentList.setAppointment(appointmentEventToEdit, editedAppointmentEvent);
+    /**
+     * Returns a version of this patient with {@code appointmentEventToEdit} replaced by
+     * {@code editedAppointmentEvent}.
+     */
+    public Patient withEditedAppointmentEvent(AppointmentEvent appointmentEventToEdit,
+                                              AppointmentEvent editedAppointmentEvent) {
+        return withRecords(patientAppointmentList.withEditedAppointment(appointmentEventToEdit,
+                editedAppointmentEvent), patientMedicalHistory);
     }
 
-    public void deleteAppointmentEvent(AppointmentEvent appointmentEventToDelete) {
-        this.patientAppointmentList.deleteAppointment(appointmentEventToDelete);
+    /**
+     * Returns a version of this patient without {@code appointmentEventToDelete}.
+     */
+    public Patient withoutAppointmentEvent(AppointmentEvent appointmentEventToDelete) {
+        return withRecords(patientAppointmentList.withoutAppointment(appointmentEventToDelete),
+                patientMedicalHistory);
     }
 
     /**
@@ -192,13 +271,18 @@ public class Patient extends Person {
      * ==================================
      */
 
-    public void addPrescriptions(AppointmentEvent appointmentEvent, Set<Prescription> prescriptions) {
-        appointmentEvent.addPrescriptions(prescriptions);
-    }
-
     public Set<Prescription> getPrescriptions(AppointmentEvent appointmentEvent) {
         return appointmentEvent.getPrescriptions();
     }
 
+    /**
+     * Returns a version of this patient with {@code prescriptions} added to {@code appointmentEvent}.
+     * {@code appointmentEvent} itself is not changed.
+     */
+    public Patient withPrescriptions(AppointmentEvent appointmentEvent, Set<Prescription> prescriptions) {
+        return withRecords(patientAppointmentList.withPrescriptions(appointmentEvent, prescriptions),
+                patientMedicalHistory);
+    }
+
 
 }
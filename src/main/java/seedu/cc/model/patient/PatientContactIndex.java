@@ -0,0 +1,147 @@
+package seedu.cc.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.cc.commons.util.IntArrayList;
+
+/**
+ * A hash index from normalised phone numbers and email addresses to the ids of the patients that use them,
+ * so that a caller can be identified without scanning every patient.
+ * Several patients may share a contact, e.g. members of the same household, so each key maps to a list of ids.
+ * Only ids are held, so a new version of a patient with the same phone number and email address needs no change
+ * to the index.
+ */
+public class PatientContactIndex {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final Map<String, IntArrayList> idsByPhone = new HashMap<>();
+    private final Map<String, IntArrayList> idsByEmail = new HashMap<>();
+
+    /**
+     * Returns the key under which the phone number {@code phone} is indexed.
+     * Every character that is not a digit is dropped, and only the last 8 digits are kept,
+     * so that caller IDs such as {@code +65 9123-4567} match the stored {@code 91234567}.
+     */
+    public static String normalizePhone(String phone) {
+        requireNonNull(phone);
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        int start = Math.max(0, digits.length() - 8);
+        return digits.substring(start);
+    }
+
+    /**
+     * Returns the key under which the email address {@code email} is indexed.
+     */
+    public static String normalizeEmail(String email) {
+        requireNonNull(email);
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexes {@code patient}, which must have an id, under its phone number and email address.
+     */
+    public void add(Patient patient) {
+        requireNonNull(patient);
+        checkArgument(patient.hasId(), "Patient must have an id to be indexed");
+        put(idsByPhone, phoneKey(patient), patient.getId());
+        put(idsByEmail, emailKey(patient), patient.getId());
+    }
+
+    /**
+     * Removes {@code patient} from the index. Does nothing if the patient is not indexed.
+     */
+    public void remove(Patient patient) {
+        requireNonNull(patient);
+        delete(idsByPhone, phoneKey(patient), patient.getId());
+        delete(idsByEmail, emailKey(patient), patient.getId());
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPatient}, another version of it with the same id.
+     * Only a phone number or email address that differs between the versions is indexed again.
+     */
+    public void replace(Patient target, Patient editedPatient) {
+        requireNonNull(target);
+        requireNonNull(editedPatient);
+        assert target.getId() == editedPatient.getId();
+        String targetPhone = phoneKey(target);
+        String editedPhone = phoneKey(editedPatient);
+        if (!targetPhone.equals(editedPhone)) {
+            delete(idsByPhone, targetPhone, target.getId());
+            put(idsByPhone, editedPhone, editedPatient.getId());
+        }
+        String targetEmail = emailKey(target);
+        String editedEmail = emailKey(editedPatient);
+        if (!targetEmail.equals(editedEmail)) {
+            delete(idsByEmail, targetEmail, target.getId());
+            put(idsByEmail, editedEmail, editedPatient.getId());
+        }
+    }
+
+    /**
+     * Removes every patient from the index.
+     */
+    public void clear() {
+        idsByPhone.clear();
+        idsByEmail.clear();
+    }
+
+    /**
+     * Returns the ids of the patients whose phone number matches {@code phone} once normalised,
+     * in the order they were indexed.
+     */
+    public int[] findByPhone(String phone) {
+        return get(idsByPhone, normalizePhone(phone));
+    }
+
+    /**
+     * Returns the ids of the patients whose email address matches {@code email} once normalised,
+     * in the order they were indexed.
+     */
+    public int[] findByEmail(String email) {
+        return get(idsByEmail, normalizeEmail(email));
+    }
+
+    private static String phoneKey(Patient patient) {
+        return normalizePhone(patient.getPhone().value);
+    }
+
+    private static String emailKey(Patient patient) {
+        return normalizeEmail(patient.getEmail().value);
+    }
+
+    private static void put(Map<String, IntArrayList> index, String key, int id) {
+        index.computeIfAbsent(key, unused -> new IntArrayList(1)).add(id);
+    }
+
+    private static void delete(Map<String, IntArrayList> index, String key, int id) {
+        IntArrayList ids = index.get(key);
+        if (ids == null) {
+            return;
+        }
+        int position = ids.indexOf(id);
+        if (position >= 0) {
+            ids.removeAt(position);
+        }
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static int[] get(Map<String, IntArrayList> index, String key) {
+        IntArrayList ids = index.get(key);
+        return ids == null ? NO_IDS : ids.toArray();
+    }
+}
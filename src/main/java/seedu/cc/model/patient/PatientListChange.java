@@ -0,0 +1,97 @@
+package seedu.cc.model.patient;
+
+import seedu.cc.commons.util.PersistentVector;
+import seedu.cc.commons.util.ToStringBuilder;
+
+/**
+ * A change made to a {@code UniquePatientList}, holding the patients as they were before and after the change.
+ * Patients are immutable and the list keeps them in a {@code PersistentVector}, so a change holds only
+ * references and can be reverted or applied again without copying any records.
+ * Changes must be reverted in the reverse of the order they were made in, and applied again in that order.
+ */
+public final class PatientListChange {
+
+    private final int index;
+    private final Patient before;
+    private final Patient after;
+    private final PersistentVector<Patient> patientsBefore;
+    private final PersistentVector<Patient> patientsAfter;
+
+    private PatientListChange(int index, Patient before, Patient after,
+                              PersistentVector<Patient> patientsBefore, PersistentVector<Patient> patientsAfter) {
+        this.index = index;
+        this.before = before;
+        this.after = after;
+        this.patientsBefore = patientsBefore;
+        this.patientsAfter = patientsAfter;
+    }
+
+    /**
+     * Returns the change of adding {@code added} at {@code index}.
+     */
+    static PatientListChange added(int index, Patient added) {
+        return new PatientListChange(index, null, added, null, null);
+    }
+
+    /**
+     * Returns the change of replacing {@code before} at {@code index} with {@code after}.
+     */
+    static PatientListChange replaced(int index, Patient before, Patient after) {
+        return new PatientListChange(index, before, after, null, null);
+    }
+
+    /**
+     * Returns the change of removing {@code removed} from {@code index}.
+     */
+    static PatientListChange removed(int index, Patient removed) {
+        return new PatientListChange(index, removed, null, null, null);
+    }
+
+    /**
+     * Returns the change of replacing all of {@code patientsBefore} with {@code patientsAfter}.
+     */
+    static PatientListChange reset(PersistentVector<Patient> patientsBefore, PersistentVector<Patient> patientsAfter) {
+        return new PatientListChange(-1, null, null, patientsBefore, patientsAfter);
+    }
+
+    /**
+     * Undoes this change in {@code patients}, which must be as this change left it.
+     */
+    public void revert(UniquePatientList patients) {
+        apply(patients, after, before, patientsBefore);
+    }
+
+    /**
+     * Makes this change again in {@code patients}, which must be as it was before this change.
+     */
+    public void reapply(UniquePatientList patients) {
+        apply(patients, before, after, patientsAfter);
+    }
+
+    private void apply(UniquePatientList patients, Patient from, Patient to, PersistentVector<Patient> allTo) {
+        if (allTo != null) {
+            patients.restoreAll(allTo);
+        } else if (to == null) {
+            patients.removeAt(index);
+        } else if (from == null) {
+            patients.insertAt(index, to);
+        } else {
+            patients.replaceAt(index, to);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (patientsBefore != null) {
+            return new ToStringBuilder(this)
+                    .add("sizeBefore", patientsBefore.size())
+                    .add("sizeAfter", patientsAfter.size())
+                    .toString();
+        }
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
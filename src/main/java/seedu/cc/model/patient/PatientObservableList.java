@@ -0,0 +1,52 @@
+package seedu.cc.model.patient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of patients that can also report that a patient was replaced by a new version of itself.
+ * Views such as {@code FilteredList} and {@code SortedPatientList} handle such an update by re-testing and
+ * re-positioning only the changed patient, instead of treating it as a removal followed by an addition.
+ */
+class PatientObservableList extends ModifiableObservableListBase<Patient> {
+
+    private final List<Patient> patients = new ArrayList<>();
+
+    /**
+     * Replaces the patient at {@code index} with {@code patient}, a new version of the same patient,
+     * and notifies listeners of an update at {@code index} rather than a replacement.
+     */
+    void setUpdated(int index, Patient patient) {
+        patients.set(index, patient);
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    @Override
+    public Patient get(int index) {
+        return patients.get(index);
+    }
+
+    @Override
+    public int size() {
+        return patients.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Patient element) {
+        patients.add(index, element);
+    }
+
+    @Override
+    protected Patient doSet(int index, Patient element) {
+        return patients.set(index, element);
+    }
+
+    @Override
+    protected Patient doRemove(int index) {
+        return patients.remove(index);
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.cc.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Keeps patients ranked by a date derived from their records, e.g. their latest medical history event,
+ * so that the top few patients can be read without scanning every patient's records.
+ * Patients without such a date are not ranked. Patients are identified by id, and ties broken by NRIC.
+ */
+public class PatientRanking {
+
+    private final Function<Patient, Optional<LocalDate>> key;
+    private final Predicate<LocalDate> isStale;
+    private final TreeSet<Entry> ranked;
+    private Entry[] entriesById = new Entry[0];
+
+    /**
+     * Creates a ranking of patients by {@code key}, in {@code order}.
+     * Entries whose date satisfies {@code isStale} when the ranking is read are recomputed from {@code key};
+     * {@code order} must place such entries first.
+     */
+    private PatientRanking(Function<Patient, Optional<LocalDate>> key, Comparator<LocalDate> order,
+                           Predicate<LocalDate> isStale) {
+        this.key = key;
+        this.isStale = isStale;
+        this.ranked = new TreeSet<>(Comparator.<Entry, LocalDate>comparing(entry -> entry.date, order)
+                .thenComparing(entry -> entry.patient.getNric().value)
+                .thenComparingInt(entry -> entry.patient.getId()));
+    }
+
+    /**
+     * Returns a ranking of patients by their latest medical history event, latest first.
+     */
+    public static PatientRanking byLatestMedicalHistoryEvent() {
+        return new PatientRanking(patient -> patient.getMedicalHistory().getLatestEventDate(),
+                Comparator.reverseOrder(), unused -> false);
+    }
+
+    /**
+     * Returns a ranking of patients by their next appointment from today onwards, soonest first.
+     * Appointments that have gone past since the patient was ranked are skipped when the ranking is read.
+     */
+    public static PatientRanking byNextAppointment() {
+        return new PatientRanking(patient -> patient.getAppointmentList()
+                .getNextAppointmentDate(LocalDate.now().minusDays(1)),
+                Comparator.naturalOrder(), date -> date.isBefore(LocalDate.now()));
+    }
+
+    /**
+     * Ranks {@code patient} by its current records, replacing any earlier rank.
+     */
+    public void update(Patient patient) {
+        requireNonNull(patient);
+        checkArgument(patient.hasId(), "Patient must have an id to be ranked");
+        remove(patient);
+        key.apply(patient).ifPresent(date -> {
+            Entry entry = new Entry(date, patient);
+            if (patient.getId() >= entriesById.length) {
+                entriesById = Arrays.copyOf(entriesById, Math.max(patient.getId() + 1, entriesById.length * 2));
+            }
+            entriesById[patient.getId()] = entry;
+            ranked.add(entry);
+        });
+    }
+
+    /**
+     * Removes {@code patient} from the ranking. Does nothing if the patient is not ranked.
+     */
+    public void remove(Patient patient) {
+        requireNonNull(patient);
+        int id = patient.getId();
+        if (id < 0 || id >= entriesById.length || entriesById[id] == null) {
+            return;
+        }
+        ranked.remove(entriesById[id]);
+        entriesById[id] = null;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPatient}.
+     */
+    public void replace(Patient target, Patient editedPatient) {
+        remove(target);
+        update(editedPatient);
+    }
+
+    /**
+     * Removes every patient from the ranking.
+     */
+    public void clear() {
+        Arrays.fill(entriesById, null);
+        ranked.clear();
+    }
+
+    /**
+     * Returns up to {@code count} of the highest ranked patients, in rank order.
+     */
+    public List<Patient> getTop(int count) {
+        while (!ranked.isEmpty() && isStale.test(ranked.first().date)) {
+            update(ranked.first().patient);
+        }
+
+        List<Patient> top = new ArrayList<>(count);
+        Iterator<Entry> iterator = ranked.iterator();
+        while (top.size() < count && iterator.hasNext()) {
+            top.add(iterator.next().patient);
+        }
+        return top;
+    }
+
+    /**
+     * A ranked patient and the date it is ranked by.
+     */
+    private static class Entry {
+        private final LocalDate date;
+        private final Patient patient;
+
+        Entry(LocalDate date, Patient patient) {
+            this.date = date;
+            this.patient = patient;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.cc.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * The orders in which the patient list can be sorted.
+ * Each order gives every patient a sort key, computed once for each version of the patient rather than on every
+ * comparison. Orders by appointment date compute the key as of a given day, so that the day cannot change in the
+ * middle of a sort. Patients with the same sort key are ordered by NRIC, so that every order is total.
+ */
+public enum PatientSortOrder {
+    NAME("name", (patient, today) -> SortKey.ofText(patient.getName().fullName.toLowerCase(Locale.ROOT))),
+    AGE("age", (patient, today) -> SortKey.ofNumber(Integer.parseInt(patient.getAge().value))),
+    NRIC("nric", (patient, today) -> SortKey.ofNumber(0)),
+    // most recent first; patients without a past appointment last
+    LAST_APPOINTMENT("last-appt", (patient, today) -> SortKey.ofNumber(patient.getAppointmentList()
+            .getLastAppointmentDate(today).map(date -> -date.toEpochDay()).orElse(Long.MAX_VALUE))),
+    // soonest first; patients without an upcoming appointment last
+    NEXT_APPOINTMENT("next-appt", (patient, today) -> SortKey.ofNumber(patient.getAppointmentList()
+            .getNextAppointmentDate(today).map(LocalDate::toEpochDay).orElse(Long.MAX_VALUE)));
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Patients can only be sorted by name, age, nric, last-appt or next-appt";
+
+    private final String keyword;
+    private final BiFunction<Patient, LocalDate, SortKey> sortKey;
+
+    PatientSortOrder(String keyword, BiFunction<Patient, LocalDate, SortKey> sortKey) {
+        this.keyword = keyword;
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Returns the sort order named by {@code keyword}, ignoring case.
+     */
+    public static Optional<PatientSortOrder> fromKeyword(String keyword) {
+        for (PatientSortOrder order : values()) {
+            if (order.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the key {@code patient} is sorted by as of {@code today}.
+     */
+    public SortKey getSortKey(Patient patient, LocalDate today) {
+        requireAllNonNull(patient, today);
+        return sortKey.apply(patient, today);
+    }
+
+    /**
+     * Returns a comparator of patients in this order as of {@code today}.
+     * The sort key of a patient is computed on every comparison, so a list that is kept sorted should hold the
+     * sort keys instead, as {@link SortedPatientList} does.
+     */
+    public Comparator<Patient> getComparator(LocalDate today) {
+        requireNonNull(today);
+        return Comparator.<Patient, SortKey>comparing(patient -> getSortKey(patient, today))
+                .thenComparing(patient -> patient.getNric().value);
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+
+    /**
+     * The key a patient is sorted by: a number, and then a text that orders patients with the same number.
+     */
+    public static final class SortKey implements Comparable<SortKey> {
+        private final long number;
+        private final String text;
+
+        private SortKey(long number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+
+        static SortKey ofNumber(long number) {
+            return new SortKey(number, "");
+        }
+
+        static SortKey ofText(String text) {
+            return new SortKey(0, text);
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            int comparison = Long.compare(number, other.number);
+            return comparison != 0 ? comparison : text.compareTo(other.text);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SortKey)) {
+                return false;
+            }
+
+            SortKey otherSortKey = (SortKey) other;
+            return number == otherSortKey.number
+                    && text.equals(otherSortKey.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(number, text);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.cc.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.cc.commons.util.CompressedBitmap;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.tag.TagQuery;
+
+/**
+ * A bitmap index from tag names to the patients carrying them.
+ * Each tag maps to a compressed bitmap over the ids of the patients, so that tag queries are answered with
+ * bitwise operations instead of scanning every patient's tags. Only patients with an id can be indexed.
+ */
+public class PatientTagIndex {
+
+    private final Map<String, CompressedBitmap> tagBitmaps = new HashMap<>();
+    private final CompressedBitmap liveOrdinals = new CompressedBitmap();
+    private long version = 0;
+
+    /**
+     * Indexes {@code patient} under each of its tags.
+     * The patient must have an id and must not already be indexed.
+     */
+    public void add(Patient patient) {
+        requireNonNull(patient);
+        checkArgument(patient.hasId(), "Patient must have an id to be indexed");
+        assert !liveOrdinals.contains(patient.getId());
+        liveOrdinals.add(patient.getId());
+        setTags(patient, patient.getId(), true);
+        version++;
+    }
+
+    /**
+     * Removes {@code patient} from the index. Does nothing if the patient is not indexed.
+     */
+    public void remove(Patient patient) {
+        requireNonNull(patient);
+        if (!patient.hasId() || !liveOrdinals.contains(patient.getId())) {
+            return;
+        }
+        setTags(patient, patient.getId(), false);
+        liveOrdinals.remove(patient.getId());
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPatient}, which has the same id.
+     */
+    public void replace(Patient target, Patient editedPatient) {
+        requireNonNull(target);
+        requireNonNull(editedPatient);
+        remove(target);
+        add(editedPatient);
+    }
+
+    /**
+     * Removes every patient from the index.
+     */
+    public void clear() {
+        tagBitmaps.clear();
+        liveOrdinals.clear();
+        version++;
+    }
+
+    /**
+     * Returns the id of {@code patient}, or -1 if it is not indexed.
+     */
+    public int ordinalOf(Patient patient) {
+        return patient.hasId() && liveOrdinals.contains(patient.getId()) ? patient.getId() : -1;
+    }
+
+    /**
+     * Returns the ordinals of the patients matched by {@code query}.
+     */
+    public CompressedBitmap evaluate(TagQuery query) {
+        requireNonNull(query);
+        return query.evaluate(tagBitmaps::get, liveOrdinals);
+    }
+
+    /**
+     * Returns a counter that changes whenever the index is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void setTags(Patient patient, int ordinal, boolean isTagged) {
+        for (Tag tag : patient.getTags()) {
+            String key = TagQuery.normalize(tag.tagName);
+            if (isTagged) {
+                tagBitmaps.computeIfAbsent(key, unused -> new CompressedBitmap()).add(ordinal);
+                continue;
+            }
+
+            CompressedBitmap bitmap = tagBitmaps.get(key);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                tagBitmaps.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.cc.model.patient;
+
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.cc.commons.util.CompressedBitmap;
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.model.tag.TagQuery;
+
+/**
+ * Tests that a {@code Patient}'s tags satisfy a {@code TagQuery}.
+ * The query is evaluated once against the {@code PatientTagIndex}, and re-evaluated only after the index changes,
+ * so filtering a list tests each patient with a single bit lookup.
+ */
+public class PatientTagPredicate implements Predicate<Patient> {
+    private final TagQuery query;
+    private final PatientTagIndex index;
+
+    private CompressedBitmap matches;
+    private long evaluatedVersion;
+
+    /**
+     * Creates a predicate that evaluates {@code query} against {@code index}.
+     */
+    public PatientTagPredicate(TagQuery query, PatientTagIndex index) {
+        requireAllNonNull(query, index);
+        this.query = query;
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        if (matches == null || evaluatedVersion != index.getVersion()) {
+            matches = index.evaluate(query);
+            evaluatedVersion = index.getVersion();
+        }
+        int ordinal = index.ordinalOf(patient);
+        return ordinal >= 0 && matches.contains(ordinal);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientTagPredicate)) {
+            return false;
+        }
+
+        PatientTagPredicate otherPredicate = (PatientTagPredicate) other;
+        return query.equals(otherPredicate.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.cc.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+import static seedu.cc.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.cc.commons.util.IndexedTreeSet;
+
+/**
+ * A view of a list of patients in a {@link PatientSortOrder}, or in the order of the list if no order is set.
+ *
+ * The sort key of each patient is computed once, when the patient or a new version of it enters the view, and
+ * orders by appointment date use the day the order was set. The patients are kept in an {@code IndexedTreeSet}
+ * ordered by sort key, NRIC and id, so a patient that is added, removed or updated is placed in O(log n) without
+ * re-sorting the others, and the patient at an index is found in O(log n).
+ * Changes that replace most of the list, such as a new filter, rebuild the view instead.
+ */
+public class SortedPatientList extends TransformationList<Patient, Patient> {
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.<Entry, PatientSortOrder.SortKey>comparing(
+            entry -> entry.key)
+            .thenComparing(entry -> entry.patient.getNric().value)
+            .thenComparingInt(entry -> entry.patient.getId());
+
+    private final Supplier<LocalDate> today;
+    private final IndexedTreeSet<Entry> entries = new IndexedTreeSet<>(ENTRY_ORDER);
+    private Entry[] entriesById = new Entry[0];
+    private PatientSortOrder order = null;
+    private LocalDate sortDate = null;
+
+    /**
+     * Creates a view of {@code source} in its own order, which sorts by appointment date as of the current day.
+     */
+    public SortedPatientList(ObservableList<Patient> source) {
+        this(source, LocalDate::now);
+    }
+
+    /**
+     * Creates a view of {@code source} in its own order, which sorts by appointment date as of the day given by
+     * {@code today} when the order is set.
+     */
+    public SortedPatientList(ObservableList<Patient> source, Supplier<LocalDate> today) {
+        super(source);
+        requireNonNull(today);
+        this.today = today;
+    }
+
+    /**
+     * Sorts the view in {@code order}, or in the order of the source list if {@code order} is null.
+     * Listeners see the patients in the view permuted.
+     */
+    public void setOrder(PatientSortOrder order) {
+        if (order == null && this.order == null) {
+            return;
+        }
+        List<Patient> before = new ArrayList<>(this);
+        this.order = order;
+        rebuild();
+        if (before.isEmpty()) {
+            return;
+        }
+
+        int[] permutation = new int[before.size()];
+        if (order == null) {
+            int[] sourcePositionsById = new int[before.stream().mapToInt(Patient::getId).max().getAsInt() + 1];
+            for (int i = 0; i < getSource().size(); i++) {
+                sourcePositionsById[getSource().get(i).getId()] = i;
+            }
+            for (int i = 0; i < before.size(); i++) {
+                permutation[i] = sourcePositionsById[before.get(i).getId()];
+            }
+        } else {
+            for (int i = 0; i < before.size(); i++) {
+                permutation[i] = entries.indexOf(entriesById[before.get(i).getId()]);
+            }
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    public PatientSortOrder getOrder() {
+        return order;
+    }
+
+    @Override
+    public Patient get(int index) {
+        return order == null ? getSource().get(index) : entries.get(index).patient;
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Scans the source list if the view is sorted, as the source positions of the patients are not kept.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return order == null ? index : getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return order == null ? index : entries.indexOf(entriesById[getSource().get(index).getId()]);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Patient> change) {
+        if (order == null) {
+            forward(change);
+            return;
+        }
+
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        if (changedCount > entries.size()) {
+            List<Patient> before = entries.toList().stream().map(entry -> entry.patient).collect(toList());
+            rebuild();
+            if (!before.isEmpty() || !entries.isEmpty()) {
+                beginChange();
+                nextReplace(0, entries.size(), before);
+                endChange();
+            }
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // The view does not depend on the order of the source list.
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    reposition(change.getList().get(i));
+                }
+                continue;
+            }
+            for (Patient removed : change.getRemoved()) {
+                nextRemove(entries.remove(removeEntry(removed)), removed);
+            }
+            for (Patient added : change.getAddedSubList()) {
+                int index = entries.add(addEntry(added));
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Moves {@code patient}, a new version of a patient in the view, to where its current sort key places it.
+     */
+    private void reposition(Patient patient) {
+        Entry previous = removeEntry(patient);
+        int from = entries.remove(previous);
+        int to = entries.add(addEntry(patient));
+        if (from == to) {
+            nextUpdate(to);
+        } else {
+            nextRemove(from, previous.patient);
+            nextAdd(to, to + 1);
+        }
+    }
+
+    /**
+     * Passes on a change to the source list as the same change to this view.
+     */
+    private void forward(ListChangeListener.Change<? extends Patient> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()));
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), new ArrayList<>(change.getRemoved()));
+            } else {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Recomputes the sort key of every patient in the source list, if the view is sorted.
+     */
+    private void rebuild() {
+        entries.clear();
+        Arrays.fill(entriesById, null);
+        if (order == null) {
+            sortDate = null;
+            return;
+        }
+        sortDate = today.get();
+        getSource().forEach(patient -> entries.add(addEntry(patient)));
+    }
+
+    private Entry addEntry(Patient patient) {
+        checkArgument(patient.hasId(), "Patient must have an id to be sorted");
+        int id = patient.getId();
+        if (id >= entriesById.length) {
+            entriesById = Arrays.copyOf(entriesById, Math.max(id + 1, entriesById.length * 2));
+        }
+        Entry entry = new Entry(order.getSortKey(patient, sortDate), patient);
+        entriesById[id] = entry;
+        return entry;
+    }
+
+    private Entry removeEntry(Patient patient) {
+        Entry entry = entriesById[patient.getId()];
+        entriesById[patient.getId()] = null;
+        return entry;
+    }
+
+    /**
+     * A patient in the view and the key it is sorted by.
+     */
+    private static class Entry {
+        private final PatientSortOrder.SortKey key;
+        private final Patient patient;
+
+        Entry(PatientSortOrder.SortKey key, Patient patient) {
+            this.key = key;
+            this.patient = patient;
+        }
+    }
+}
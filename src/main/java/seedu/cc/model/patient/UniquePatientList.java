@@ -3,17 +3,28 @@ package seedu.cc.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.cc.commons.util.PersistentVector;
 import seedu.cc.model.appointment.AppointmentEvent;
 import seedu.cc.model.appointment.Prescription;
+import seedu.cc.model.medicalhistory.ArchiveSlabs;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.exceptions.DuplicatePatientException;
 import seedu.cc.model.patient.exceptions.PatientNotFoundException;
+import seedu.cc.model.person.Name;
+import seedu.cc.model.tag.TagQuery;
 
 /**
  * A list of patients that enforces uniqueness between its elements and does not allow nulls.
@@ -24,14 +35,30 @@ import seedu.cc.model.patient.exceptions.PatientNotFoundException;
  * fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Every patient added is given the next dense integer id, whatever id it held before, and keeps that id when it is
+ * edited. Only reverting a {@code PatientListChange} puts back a patient under an id it held in this list.
+ * The indexes identify patients by id, and a patient is found in the list by id through an array of positions.
+ * Ids are not reused within a list, so a stale id never refers to a different patient.
+ * The patients are also kept in a {@code PersistentVector}, so that {@link #snapshot()} takes constant time.
+ * Every change to the list is reported as a {@code PatientListChange} to the change listener, if one is set,
+ * so that the change can be reverted later.
  *
  * @see Patient#isSamePatient(Patient)
  */
 public class UniquePatientList implements Iterable<Patient> {
 
-    private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
+    private final PatientObservableList internalList = new PatientObservableList();
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PatientTagIndex tagIndex = new PatientTagIndex();
+    private final PatientContactIndex contactIndex = new PatientContactIndex();
+    private final PatientRanking recentlySeenRanking = PatientRanking.byLatestMedicalHistoryEvent();
+    private final PatientRanking upcomingRanking = PatientRanking.byNextAppointment();
+    private final AppointmentDateIndex appointmentDateIndex = new AppointmentDateIndex();
+    private PersistentVector<Patient> versions = PersistentVector.empty();
+    private int[] positionsById = new int[0];
+    private int nextId = 0;
+    private Consumer<PatientListChange> changeListener = null;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -50,7 +77,52 @@ public class UniquePatientList implements Iterable<Patient> {
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
-        internalList.add(toAdd);
+        Patient patient = toAdd.withId(nextId++);
+        setPosition(patient.getId(), internalList.size());
+        tagIndex.add(patient);
+        contactIndex.add(patient);
+        recentlySeenRanking.update(patient);
+        upcomingRanking.update(patient);
+        appointmentDateIndex.add(patient);
+        versions = versions.append(patient);
+        internalList.add(patient);
+        recordChange(PatientListChange.added(internalList.size() - 1, patient));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in one change, so listeners are told once.
+     * None of the persons may already exist in the list, and no two of them may be the same person.
+     * Persons are the same when their names are equal, so the check is made with a set of names rather than by
+     * comparing every pair.
+     */
+    public void addAll(List<Patient> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        internalList.forEach(patient -> names.add(patient.getName()));
+        for (Patient patient : toAdd) {
+            if (!names.add(patient.getName())) {
+                throw new DuplicatePatientException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        PersistentVector<Patient> versionsBefore = versions;
+        List<Patient> added = new ArrayList<>(toAdd.size());
+        for (Patient patient : toAdd) {
+            Patient patientWithId = patient.withId(nextId++);
+            setPosition(patientWithId.getId(), internalList.size() + added.size());
+            tagIndex.add(patientWithId);
+            contactIndex.add(patientWithId);
+            recentlySeenRanking.update(patientWithId);
+            upcomingRanking.update(patientWithId);
+            appointmentDateIndex.add(patientWithId);
+            versions = versions.append(patientWithId);
+            added.add(patientWithId);
+        }
+        internalList.addAll(added);
+        recordChange(PatientListChange.reset(versionsBefore, versions));
     }
 
     /**
@@ -61,7 +133,7 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
@@ -70,7 +142,16 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.set(index, editedPerson);
+        Patient current = internalList.get(index);
+        Patient edited = editedPerson.withId(current.getId());
+        tagIndex.replace(current, edited);
+        contactIndex.replace(current, edited);
+        recentlySeenRanking.replace(current, edited);
+        upcomingRanking.replace(current, edited);
+        appointmentDateIndex.replace(current, edited);
+        versions = versions.set(index, edited);
+        internalList.set(index, edited);
+        recordChange(PatientListChange.replaced(index, current, edited));
     }
 
     /**
@@ -79,19 +160,24 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PatientNotFoundException();
         }
+        Patient removed = removeAt(index);
+        recordChange(PatientListChange.removed(index, removed));
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPatients(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code patients}.
      * {@code patients} must not contain duplicate patients.
+     * The patients are given new ids in the order they are listed, so the ids they hold are not kept, and a list
+     * that is loaded from storage has the ids 0 to n-1 however the stored ids were damaged or edited.
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
@@ -99,7 +185,93 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.setAll(patients);
+        PersistentVector<Patient> versionsBefore = versions;
+        List<Patient> patientsWithIds = new ArrayList<>(patients.size());
+        Arrays.fill(positionsById, -1);
+        for (Patient patient : patients) {
+            Patient patientWithId = patient.withId(nextId++);
+            setPosition(patientWithId.getId(), patientsWithIds.size());
+            patientsWithIds.add(patientWithId);
+        }
+        rebuildIndexes(patientsWithIds);
+        versions = PersistentVector.of(patientsWithIds);
+        internalList.setAll(patientsWithIds);
+        recordChange(PatientListChange.reset(versionsBefore, versions));
+    }
+
+    /**
+     * Sets the listener told of every later change to this list, replacing any listener set before.
+     * A null {@code listener} stops changes from being reported.
+     */
+    public void setChangeListener(Consumer<PatientListChange> listener) {
+        changeListener = listener;
+    }
+
+    /**
+     * Returns a predicate that matches the patients in this list whose tags satisfy {@code query}.
+     * The predicate is answered from the tag index of this list and stays correct as the list changes.
+     */
+    public PatientTagPredicate getTagPredicate(TagQuery query) {
+        requireNonNull(query);
+        return new PatientTagPredicate(query, tagIndex);
+    }
+
+    /**
+     * Returns the patients in this list whose phone number matches {@code phone}, ignoring formatting.
+     */
+    public List<Patient> findPatientsByPhone(String phone) {
+        requireNonNull(phone);
+        return patientsWithIds(contactIndex.findByPhone(phone));
+    }
+
+    /**
+     * Returns the patients in this list whose email address matches {@code email}, ignoring case.
+     */
+    public List<Patient> findPatientsByEmail(String email) {
+        requireNonNull(email);
+        return patientsWithIds(contactIndex.findByEmail(email));
+    }
+
+    /**
+     * Returns up to {@code count} patients with the latest medical history events, latest first.
+     */
+    public List<Patient> getRecentlySeenPatients(int count) {
+        return recentlySeenRanking.getTop(count);
+    }
+
+    /**
+     * Returns up to {@code count} patients with the soonest appointments from today onwards, soonest first.
+     */
+    public List<Patient> getUpcomingPatients(int count) {
+        return upcomingRanking.getTop(count);
+    }
+
+    /**
+     * Returns the number of appointments of all patients dated from {@code start} to {@code end}, both inclusive.
+     */
+    public int countAppointmentsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return appointmentDateIndex.countBetween(start, end);
+    }
+
+    /**
+     * Moves the medical history events of every patient dated before {@code cutoff} into the off-heap archive.
+     * The archives of all the patients are packed into shared slabs.
+     *
+     * @return the number of events archived.
+     */
+    public int archiveMedicalHistoryBefore(LocalDate cutoff) {
+        requireNonNull(cutoff);
+        ArchiveSlabs slabs = new ArchiveSlabs();
+        int archived = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            Patient patient = internalList.get(i);
+            Patient archivedPatient = patient.withMedicalHistoryArchivedBefore(cutoff, slabs);
+            archived += archivedPatient.getMedicalHistory().getArchivedCount()
+                    - patient.getMedicalHistory().getArchivedCount();
+            updateVersion(i, archivedPatient);
+        }
+        return archived;
     }
 
     //=========== Medical History Operations =============================================================
@@ -111,12 +283,11 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void addMedicalHistoryEvent(Patient patient, MedicalHistoryEvent medicalHistoryEvent) {
         requireAllNonNull(patient, medicalHistoryEvent);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
-        patient.addMedicalHistoryEvent(medicalHistoryEvent);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index).withMedicalHistoryEvent(medicalHistoryEvent));
     }
 
     /**
@@ -128,13 +299,13 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setMedicalHistoryEvent(Patient patient, MedicalHistoryEvent medicalHistoryEventToEdit,
                                        MedicalHistoryEvent editedMedicalHistoryEvent) {
         requireAllNonNull(patient, medicalHistoryEventToEdit, editedMedicalHistoryEvent);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
 
-        patient.setMedicalHistoryEvent(medicalHistoryEventToEdit, editedMedicalHistoryEvent);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index)
+                .withEditedMedicalHistoryEvent(medicalHistoryEventToEdit, editedMedicalHistoryEvent));
     }
 
     /**
@@ -144,13 +315,12 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void deleteMedicalHistoryEvent(Patient patient, MedicalHistoryEvent medicalHistoryEventToDelete) {
         requireAllNonNull(patient, medicalHistoryEventToDelete);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
 
-        patient.deleteMedicalHistoryEvent(medicalHistoryEventToDelete);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index).withoutMedicalHistoryEvent(medicalHistoryEventToDelete));
     }
 
     //=============AppointmentEvent Operations=============================================================
@@ -161,12 +331,11 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void addAppointment(Patient patient, AppointmentEvent appointmentEvent) {
         requireAllNonNull(patient, appointmentEvent);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
-        patient.addAppointmentEvent(appointmentEvent);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index).withAppointmentEvent(appointmentEvent));
     }
 
     /**
@@ -178,12 +347,12 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setAppointment(Patient patient, AppointmentEvent appointmentEventToEdit,
                                AppointmentEvent editedAppointmentEvent) {
         requireAllNonNull(patient, appointmentEventToEdit, editedAppointmentEvent);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
-        patient.setAppointmentEvent(appointmentEventToEdit, editedAppointmentEvent);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index)
+                .withEditedAppointmentEvent(appointmentEventToEdit, editedAppointmentEvent));
     }
 
     /**
@@ -193,12 +362,11 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void deleteAppointment(Patient patient, AppointmentEvent appointmentEventToDelete) {
         requireAllNonNull(patient, appointmentEventToDelete);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
-        patient.deleteAppointmentEvent(appointmentEventToDelete);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index).withoutAppointmentEvent(appointmentEventToDelete));
     }
 
     //=========== Prescription Operations =============================================================
@@ -211,16 +379,41 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void addPrescriptions(Patient patient, AppointmentEvent appointmentEvent, Set<Prescription> prescriptions) {
         requireAllNonNull(patient, appointmentEvent, prescriptions);
-        int index = internalList.indexOf(patient);
+        int index = indexOf(patient);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
-        patient.addPrescriptions(appointmentEvent, prescriptions);
-        internalList.set(index, patient);
+        updateVersion(index, internalList.get(index).withPrescriptions(appointmentEvent, prescriptions));
     }
 
     //================================================================================================
 
+    /**
+     * Returns the patient in this list with the id {@code id}, if any.
+     */
+    public Optional<Patient> findById(int id) {
+        int index = positionOf(id);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the version of {@code patient} currently held in this list, or {@code patient} itself
+     * if there is no such patient. Useful when {@code patient} was read before its records were changed.
+     */
+    public Patient getCurrentVersion(Patient patient) {
+        requireNonNull(patient);
+        int index = indexOf(patient);
+        return index == -1 ? patient : internalList.get(index);
+    }
+
+    /**
+     * Returns the patients in this list as they are now, in constant time.
+     * Later changes to this list are not seen in the returned vector.
+     */
+    public PersistentVector<Patient> snapshot() {
+        return versions;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -258,6 +451,150 @@ public class UniquePatientList implements Iterable<Patient> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of {@code patient} in this list, or -1 if it is absent.
+     * A patient is looked up by id first, falling back to a scan if its id is not held by the same person here.
+     */
+    public int indexOf(Patient patient) {
+        requireNonNull(patient);
+        int index = positionOf(patient.getId());
+        if (index != -1 && internalList.get(index).isSamePerson(patient)) {
+            return index;
+        }
+        return internalList.indexOf(patient);
+    }
+
+    private int positionOf(int id) {
+        return id >= 0 && id < positionsById.length ? positionsById[id] : -1;
+    }
+
+    /**
+     * Returns the current versions of the patients with {@code ids}, which must all be in this list.
+     */
+    private List<Patient> patientsWithIds(int[] ids) {
+        List<Patient> patients = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            patients.add(internalList.get(positionsById[id]));
+        }
+        return Collections.unmodifiableList(patients);
+    }
+
+    private void setPosition(int id, int position) {
+        if (id >= positionsById.length) {
+            int oldLength = positionsById.length;
+            positionsById = Arrays.copyOf(positionsById, Math.max(id + 1, oldLength * 2));
+            Arrays.fill(positionsById, oldLength, positionsById.length, -1);
+        }
+        positionsById[id] = position;
+    }
+
+    /**
+     * Replaces the patient at {@code index} with {@code updated}, a new version of it with different records.
+     * The tag and contact indexes are left alone as the version has the same details, and listeners see an update
+     * rather than a replacement.
+     */
+    private void updateVersion(int index, Patient updated) {
+        Patient current = internalList.get(index);
+        if (current == updated) {
+            return;
+        }
+        recentlySeenRanking.replace(current, updated);
+        upcomingRanking.replace(current, updated);
+        appointmentDateIndex.replace(current, updated);
+        versions = versions.set(index, updated);
+        internalList.setUpdated(index, updated);
+        recordChange(PatientListChange.replaced(index, current, updated));
+    }
+
+    private void recordChange(PatientListChange change) {
+        if (changeListener != null) {
+            changeListener.accept(change);
+        }
+    }
+
+    //=========== Changes made when reverting a PatientListChange ========================================
+    // These keep the ids the patients already have, and are not reported to the change listener.
+
+    /**
+     * Inserts {@code patient}, which holds an id that is not in use, at {@code index}.
+     */
+    void insertAt(int index, Patient patient) {
+        assert patient.hasId() && positionOf(patient.getId()) == -1;
+        nextId = Math.max(nextId, patient.getId() + 1);
+        versions = versions.insert(index, patient);
+        for (int i = index; i < versions.size(); i++) {
+            setPosition(versions.get(i).getId(), i);
+        }
+        tagIndex.add(patient);
+        contactIndex.add(patient);
+        recentlySeenRanking.update(patient);
+        upcomingRanking.update(patient);
+        appointmentDateIndex.add(patient);
+        internalList.add(index, patient);
+    }
+
+    /**
+     * Replaces the patient at {@code index} with {@code patient}, another version of it with the same id.
+     */
+    void replaceAt(int index, Patient patient) {
+        Patient current = internalList.get(index);
+        assert current.getId() == patient.getId();
+        tagIndex.replace(current, patient);
+        contactIndex.replace(current, patient);
+        recentlySeenRanking.replace(current, patient);
+        upcomingRanking.replace(current, patient);
+        appointmentDateIndex.replace(current, patient);
+        versions = versions.set(index, patient);
+        internalList.set(index, patient);
+    }
+
+    /**
+     * Removes and returns the patient at {@code index}.
+     */
+    Patient removeAt(int index) {
+        versions = versions.remove(index);
+        positionsById[internalList.get(index).getId()] = -1;
+        for (int i = index; i < versions.size(); i++) {
+            positionsById[versions.get(i).getId()] = i;
+        }
+        Patient removed = internalList.remove(index);
+        tagIndex.remove(removed);
+        contactIndex.remove(removed);
+        recentlySeenRanking.remove(removed);
+        upcomingRanking.remove(removed);
+        appointmentDateIndex.remove(removed);
+        return removed;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code patients}, which were all held by this list before.
+     */
+    void restoreAll(PersistentVector<Patient> patients) {
+        List<Patient> patientList = patients.toList();
+        Arrays.fill(positionsById, -1);
+        for (int i = 0; i < patientList.size(); i++) {
+            Patient patient = patientList.get(i);
+            setPosition(patient.getId(), i);
+            nextId = Math.max(nextId, patient.getId() + 1);
+        }
+        rebuildIndexes(patientList);
+        versions = patients;
+        internalList.setAll(patientList);
+    }
+
+    private void rebuildIndexes(List<Patient> patients) {
+        tagIndex.clear();
+        contactIndex.clear();
+        recentlySeenRanking.clear();
+        upcomingRanking.clear();
+        appointmentDateIndex.clear();
+        patients.forEach(tagIndex::add);
+        patients.forEach(contactIndex::add);
+        patients.forEach(recentlySeenRanking::update);
+        patients.forEach(upcomingRanking::update);
+        patients.forEach(appointmentDateIndex::add);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
@@ -3,6 +3,8 @@ package seedu.cc.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.cc.commons.util.AppUtil.checkArgument;
 
+import seedu.cc.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's age in the clinic book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAge(String)}
@@ -29,10 +31,11 @@ public class Age {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid age.
      */
     public static boolean isValidAge(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isBoundedNumber(test, 2, 99)
+                || (test.length() == 3 && test.charAt(0) == '1' && ValidationUtil.isBoundedNumber(test, 3, 120));
     }
 
     @Override
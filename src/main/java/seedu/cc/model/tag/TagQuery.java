@@ -0,0 +1,181 @@
+package seedu.cc.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+import seedu.cc.commons.util.CompressedBitmap;
+
+/**
+ * Represents a boolean expression over tag names, e.g. {@code tag:Diabetic AND tag:Elderly NOT tag:Deceased}.
+ * Guarantees: immutable. Tag names are matched case-insensitively.
+ */
+public abstract class TagQuery {
+
+    /**
+     * Returns a query that matches patients carrying the tag {@code tagName}.
+     */
+    public static TagQuery tag(String tagName) {
+        return new TagTerm(tagName);
+    }
+
+    /**
+     * Returns a query that matches patients matched by both {@code left} and {@code right}.
+     */
+    public static TagQuery and(TagQuery left, TagQuery right) {
+        return new BinaryTerm(BinaryTerm.Operator.AND, left, right);
+    }
+
+    /**
+     * Returns a query that matches patients matched by either {@code left} or {@code right}.
+     */
+    public static TagQuery or(TagQuery left, TagQuery right) {
+        return new BinaryTerm(BinaryTerm.Operator.OR, left, right);
+    }
+
+    /**
+     * Returns a query that matches patients not matched by {@code operand}.
+     */
+    public static TagQuery not(TagQuery operand) {
+        return new NotTerm(operand);
+    }
+
+    /**
+     * Returns the normalised key under which {@code tagName} is indexed.
+     */
+    public static String normalize(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Evaluates this query with bitwise operations.
+     *
+     * @param lookup returns the bitmap of ordinals carrying a normalised tag name, or null if there are none.
+     * @param universe the bitmap of all ordinals currently in use. It is not modified.
+     * @return a new bitmap of the ordinals matched by this query.
+     */
+    public abstract CompressedBitmap evaluate(Function<String, CompressedBitmap> lookup, CompressedBitmap universe);
+
+    /**
+     * A query that matches a single tag.
+     */
+    private static class TagTerm extends TagQuery {
+        private final String key;
+
+        TagTerm(String tagName) {
+            requireNonNull(tagName);
+            this.key = normalize(tagName);
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> lookup, CompressedBitmap universe) {
+            CompressedBitmap tagged = lookup.apply(key);
+            return tagged == null ? new CompressedBitmap() : tagged.copy();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof TagTerm && key.equals(((TagTerm) other).key));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "tag:" + key;
+        }
+    }
+
+    /**
+     * A query that negates another query.
+     */
+    private static class NotTerm extends TagQuery {
+        private final TagQuery operand;
+
+        NotTerm(TagQuery operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> lookup, CompressedBitmap universe) {
+            CompressedBitmap result = universe.copy();
+            result.andNot(operand.evaluate(lookup, universe));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof NotTerm && operand.equals(((NotTerm) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    /**
+     * A query that combines two queries with AND or OR.
+     */
+    private static class BinaryTerm extends TagQuery {
+        private enum Operator { AND, OR }
+
+        private final Operator operator;
+        private final TagQuery left;
+        private final TagQuery right;
+
+        BinaryTerm(Operator operator, TagQuery left, TagQuery right) {
+            this.operator = operator;
+            this.left = requireNonNull(left);
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> lookup, CompressedBitmap universe) {
+            CompressedBitmap result = left.evaluate(lookup, universe);
+            if (operator == Operator.AND) {
+                result.and(right.evaluate(lookup, universe));
+            } else {
+                result.or(right.evaluate(lookup, universe));
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof BinaryTerm)) {
+                return false;
+            }
+
+            BinaryTerm otherTerm = (BinaryTerm) other;
+            return operator == otherTerm.operator
+                    && left.equals(otherTerm.left)
+                    && right.equals(otherTerm.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operator, left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " " + operator + " " + right + ")";
+        }
+    }
+}
@@ -4,15 +4,25 @@ import static seedu.cc.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Optional;
 
 /**
  * Represents a medical history event's date.
+ * Guarantees: immutable; stored as a day count from 1970-01-01, so that dates compare and hash without allocation.
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS = "Dates should be in the format YYYY-MM-DD.";
-    private final LocalDate date;
+
+    // canonical instances for the days most events fall on, created on first use
+    private static final int CACHE_FIRST_EPOCH_DAY = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final int CACHE_LAST_EPOCH_DAY = (int) LocalDate.of(2049, 12, 31).toEpochDay();
+    private static final Date[] CACHE = new Date[CACHE_LAST_EPOCH_DAY - CACHE_FIRST_EPOCH_DAY + 1];
+
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final long DAYS_0000_TO_1970 = 719528;
+
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -20,22 +30,122 @@ public class Date {
      * @param date A valid date.
      */
     public Date(String date) {
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        this.date = LocalDate.parse(date);
+        long parsed = parseEpochDay(date);
+        checkArgument(parsed != INVALID, MESSAGE_CONSTRAINTS);
+        this.epochDay = (int) parsed;
+    }
+
+    private Date(int epochDay) {
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns the {@code Date} for {@code date}, sharing one instance per day for common days.
+     *
+     * @param date A valid date.
+     */
+    public static Date of(String date) {
+        long parsed = parseEpochDay(date);
+        checkArgument(parsed != INVALID, MESSAGE_CONSTRAINTS);
+        return ofEpochDay(parsed);
+    }
+
+    /**
+     * Returns the {@code Date} for {@code text} in the format YYYY-MM-DD, or an empty {@code Optional}
+     * if {@code text} is not a valid date. The text is validated and converted in one pass, without exceptions.
+     */
+    public static Optional<Date> parse(String text) {
+        long parsed = parseEpochDay(text);
+        return parsed == INVALID ? Optional.empty() : Optional.of(ofEpochDay(parsed));
     }
 
+    /**
+     * Returns the {@code Date} that is {@code epochDay} days after 1970-01-01,
+     * sharing one instance per day for common days.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        if (epochDay < CACHE_FIRST_EPOCH_DAY || epochDay > CACHE_LAST_EPOCH_DAY) {
+            return new Date(Math.toIntExact(epochDay));
+        }
 
+        int slot = (int) epochDay - CACHE_FIRST_EPOCH_DAY;
+        Date cached = CACHE[slot];
+        if (cached == null) {
+            // racing threads may each create an instance; equals does not rely on identity
+            cached = new Date((int) epochDay);
+            CACHE[slot] = cached;
+        }
+        return cached;
+    }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String testDate) {
-        try {
-            LocalDate.parse(testDate, DateTimeFormatter.ISO_LOCAL_DATE);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        return parseEpochDay(testDate) != INVALID;
+    }
+
+    /**
+     * Returns the day count from 1970-01-01 of {@code text} in the format YYYY-MM-DD, or {@code INVALID}.
+     */
+    private static long parseEpochDay(String text) {
+        if (text == null || text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return INVALID;
         }
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 7);
+        int day = parseDigits(text, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Returns the number formed by the digits of {@code text} from {@code start} to {@code end}, or -1 if
+     * any of them is not a digit.
+     */
+    static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Returns the day count from 1970-01-01 of a valid date from year 0 onwards, as {@code LocalDate#toEpochDay}.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
     }
 
     /**
@@ -44,16 +154,28 @@ public class Date {
      * @return true if this date is before the current system date.
      */
     public boolean isFutureDate() {
-        return date.isAfter(LocalDate.now());
+        return epochDay > LocalDate.now().toEpochDay();
     }
 
     public LocalDate getDate() {
-        return date;
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int compareTo(Date other) {
+        return Integer.compare(epochDay, other.epochDay);
     }
 
     @Override
     public String toString() {
-        return date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return getDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
     }
 
     @Override
@@ -68,6 +190,11 @@ public class Date {
         }
 
         Date otherDate = (Date) other;
-        return date.equals(otherDate.date);
+        return epochDay == otherDate.epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(epochDay);
     }
 }
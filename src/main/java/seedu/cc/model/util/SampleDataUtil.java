@@ -24,11 +24,9 @@ import seedu.cc.model.tag.Tag;
 public class SampleDataUtil {
 
     public static PatientMedicalHistory getSampleMedicalHistory() {
-        PatientMedicalHistory samplePatientMedicalHistory = new PatientMedicalHistory();
-        samplePatientMedicalHistory
-                .addMedicalHistoryEvent(new MedicalHistoryEvent(new MedicalCondition("Insomia"),
+        return new PatientMedicalHistory()
+                .withMedicalHistoryEvent(new MedicalHistoryEvent(new MedicalCondition("Insomia"),
                         new Treatment("Medication"), new Date("2023-10-23")));
-        return samplePatientMedicalHistory;
     }
 
     public static Patient[] getSamplePatients() {
@@ -67,7 +65,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Tag::new)
+            .map(Tag::of)
             .collect(Collectors.toSet());
     }
 
@@ -4,14 +4,23 @@ import static seedu.cc.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 /**
  * A utility class for time.
+ * Guarantees: immutable; stored as the minute of the day, so that times compare and hash without allocation.
+ * Seconds are not kept.
  */
-public class Time {
+public class Time implements Comparable<Time> {
 
     public static final String MESSAGE_CONSTRAINTS = "Times should be in the format HH:MM (24-hour-format).";
-    private final LocalTime time;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // one canonical instance per minute of the day, created on first use
+    private static final Time[] CACHE = new Time[MINUTES_PER_DAY];
+    private static final int INVALID = -1;
+
+    private final short minuteOfDay;
 
     /**
      * Constructs a {@code Time}.
@@ -19,20 +28,69 @@ public class Time {
      * @param time A valid time.
      */
     public Time(String time) {
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        this.time = LocalTime.parse(time);
+        int parsed = parseMinuteOfDay(time);
+        checkArgument(parsed != INVALID, MESSAGE_CONSTRAINTS);
+        this.minuteOfDay = (short) parsed;
+    }
+
+    private Time(int minuteOfDay) {
+        this.minuteOfDay = (short) minuteOfDay;
+    }
+
+    /**
+     * Returns the {@code Time} for {@code time}, sharing one instance per minute of the day.
+     *
+     * @param time A valid time.
+     */
+    public static Time of(String time) {
+        int parsed = parseMinuteOfDay(time);
+        checkArgument(parsed != INVALID, MESSAGE_CONSTRAINTS);
+        return ofMinuteOfDay(parsed);
+    }
+
+    /**
+     * Returns the {@code Time} for {@code text} in the format HH:MM, or an empty {@code Optional}
+     * if {@code text} is not a valid time. The text is validated and converted in one pass, without exceptions.
+     */
+    public static Optional<Time> parse(String text) {
+        int parsed = parseMinuteOfDay(text);
+        return parsed == INVALID ? Optional.empty() : Optional.of(ofMinuteOfDay(parsed));
+    }
+
+    /**
+     * Returns the {@code Time} that is {@code minuteOfDay} minutes after midnight.
+     */
+    public static Time ofMinuteOfDay(int minuteOfDay) {
+        checkArgument(minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY, MESSAGE_CONSTRAINTS);
+        Time cached = CACHE[minuteOfDay];
+        if (cached == null) {
+            // racing threads may each create an instance; equals does not rely on identity
+            cached = new Time(minuteOfDay);
+            CACHE[minuteOfDay] = cached;
+        }
+        return cached;
     }
 
     /**
      * Returns true if a given string is a valid time.
      */
     public static boolean isValidTime(String testTime) {
-        try {
-            LocalTime.parse(testTime);
-            return true;
-        } catch (Exception e) {
-            return false;
+        return parseMinuteOfDay(testTime) != INVALID;
+    }
+
+    /**
+     * Returns the minute of the day of {@code text} in the format HH:MM, or {@code INVALID}.
+     */
+    private static int parseMinuteOfDay(String text) {
+        if (text == null || text.length() != 5 || text.charAt(2) != ':') {
+            return INVALID;
+        }
+        int hour = Date.parseDigits(text, 0, 2);
+        int minute = Date.parseDigits(text, 3, 5);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
         }
+        return hour * 60 + minute;
     }
 
     /**
@@ -41,16 +99,28 @@ public class Time {
      * @return true if this time is before the current system time.
      */
     public boolean isPastTime() {
-        return time.isBefore(LocalTime.now());
+        return minuteOfDay < toMinuteOfDay(LocalTime.now());
     }
 
     public LocalTime getTime() {
-        return time;
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    @Override
+    public int compareTo(Time other) {
+        return Short.compare(minuteOfDay, other.minuteOfDay);
     }
 
     @Override
     public String toString() {
-        return time.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return getTime().format(DateTimeFormatter.ofPattern("HH:mm"));
     }
 
     @Override
@@ -65,6 +135,15 @@ public class Time {
         }
 
         Time otherTime = (Time) other;
-        return time.equals(otherTime.time);
+        return minuteOfDay == otherTime.minuteOfDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Short.hashCode(minuteOfDay);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
     }
 }
@@ -0,0 +1,453 @@
+package seedu.cc.storage;
+
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.cc.commons.util.CsvUtil;
+import seedu.cc.model.ReadOnlyClinicBook;
+import seedu.cc.model.appointment.AppointmentEvent;
+import seedu.cc.model.appointment.Prescription;
+import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
+import seedu.cc.model.patient.Patient;
+
+/**
+ * Exports the patients, appointments, prescriptions and medical history events of a clinic book to CSV or NDJSON.
+ *
+ * An NDJSON file holds one JSON object per line, each with a {@code type} of patient, appointment, prescription or
+ * medicalHistory, and the records of each patient follow it. As CSV holds one kind of record per file, exporting to
+ * {@code NAME.csv} writes {@code NAME-patients.csv}, {@code NAME-appointments.csv}, {@code NAME-prescriptions.csv}
+ * and {@code NAME-medical-history.csv}, with events identified by the NRIC of their patient. The patients file has
+ * the columns that {@code PatientFileReader} reads, so it can be imported again.
+ *
+ * The records are written one at a time as the patients are iterated, through a buffered channel, so the memory
+ * used does not grow with the size of the clinic book. The filter is applied before a record is written, and before
+ * appointments are even created, so records that are not exported are never turned into strings. Files are written
+ * beside their targets and moved into place only once every file is complete, so a failed or cancelled export leaves
+ * no partial files behind.
+ */
+public class ClinicBookExporter {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only .csv and .ndjson files can be exported to";
+
+    public static final List<String> PATIENT_COLUMNS = List.of("name", "nric", "age", "phone", "email", "tags");
+    public static final List<String> APPOINTMENT_COLUMNS = List.of("nric", "date", "time", "done");
+    public static final List<String> PRESCRIPTION_COLUMNS = List.of("nric", "date", "time", "prescription");
+    public static final List<String> MEDICAL_HISTORY_COLUMNS = List.of("nric", "date", "condition", "treatment");
+
+    /** The number of bytes buffered before they are written to a file's channel. */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String NDJSON_EXTENSION = ".ndjson";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Returns true if a clinic book can be exported to {@code file}, judging by its extension.
+     */
+    public static boolean isSupported(Path file) {
+        return isCsv(file) || isNdjson(file);
+    }
+
+    /**
+     * Exports the records of {@code clinicBook} selected by {@code filter} to {@code file}, which must be
+     * {@link #isSupported(Path) supported}. {@code clinicBook} must not change during the export, so it is
+     * usually a snapshot.
+     * The export checks whether the current thread is interrupted before each patient, and gives up if it is.
+     *
+     * @throws InterruptedIOException if the thread was interrupted, in which case no file is written
+     * @throws IOException if a file cannot be written
+     */
+    public static Summary export(ReadOnlyClinicBook clinicBook, ExportFilter filter, Path file) throws IOException {
+        requireAllNonNull(clinicBook, filter, file);
+        if (!isSupported(file)) {
+            throw new IllegalArgumentException(MESSAGE_UNSUPPORTED_FORMAT);
+        }
+
+        Summary summary = new Summary();
+        try (RecordWriter writer = isCsv(file) ? new CsvRecordWriter(file) : new NdjsonRecordWriter(file)) {
+            writeRecords(clinicBook, filter, writer, summary);
+            summary.files = writer.commit();
+        } catch (ClosedByInterruptException e) {
+            // The channel being written to was closed because the thread was interrupted.
+            Thread.interrupted();
+            throw new InterruptedIOException();
+        }
+        return summary;
+    }
+
+    private static void writeRecords(ReadOnlyClinicBook clinicBook, ExportFilter filter, RecordWriter writer,
+                                     Summary summary) throws IOException {
+        LocalDate start = filter.getStartDate();
+        LocalDate end = filter.getEndDate();
+        try {
+            for (Patient patient : clinicBook.getPatientList()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedIOException();
+                }
+                if (!filter.matches(patient)) {
+                    continue;
+                }
+                writer.writePatient(patient);
+                summary.patients++;
+                patient.getPatientAppointmentList().forEachAppointmentBetween(start, end, appointment ->
+                        writeAppointment(writer, patient, appointment, summary));
+                patient.getPatientMedicalHistory().forEachEventBetween(start, end, event ->
+                        writeMedicalHistoryEvent(writer, patient, event, summary));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeAppointment(RecordWriter writer, Patient patient, AppointmentEvent appointment,
+                                         Summary summary) {
+        try {
+            writer.writeAppointment(patient, appointment);
+            summary.appointments++;
+            for (Prescription prescription : sorted(appointment)) {
+                writer.writePrescription(patient, appointment, prescription);
+                summary.prescriptions++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMedicalHistoryEvent(RecordWriter writer, Patient patient, MedicalHistoryEvent event,
+                                                 Summary summary) {
+        try {
+            writer.writeMedicalHistoryEvent(patient, event);
+            summary.medicalHistoryEvents++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Prescription> sorted(AppointmentEvent appointment) {
+        return appointment.getPrescriptions().stream()
+                .sorted(Comparator.comparing(Prescription::getPrescription))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> sortedTagNames(Patient patient) {
+        return patient.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isCsv(Path file) {
+        return hasExtension(file, CSV_EXTENSION);
+    }
+
+    private static boolean isNdjson(Path file) {
+        return hasExtension(file, NDJSON_EXTENSION);
+    }
+
+    private static boolean hasExtension(Path file, String extension) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(extension);
+    }
+
+    /**
+     * The number of records of each kind written by an export, and the files they were written to.
+     */
+    public static class Summary {
+        private int patients;
+        private int appointments;
+        private int prescriptions;
+        private int medicalHistoryEvents;
+        private List<Path> files = Collections.emptyList();
+
+        public int getPatients() {
+            return patients;
+        }
+
+        public int getAppointments() {
+            return appointments;
+        }
+
+        public int getPrescriptions() {
+            return prescriptions;
+        }
+
+        public int getMedicalHistoryEvents() {
+            return medicalHistoryEvents;
+        }
+
+        public List<Path> getFiles() {
+            return files;
+        }
+    }
+
+    /**
+     * Writes the records of an export in one format.
+     * Closing a writer that has not been committed discards what it wrote.
+     */
+    private interface RecordWriter extends Closeable {
+        void writePatient(Patient patient) throws IOException;
+
+        void writeAppointment(Patient patient, AppointmentEvent appointment) throws IOException;
+
+        void writePrescription(Patient patient, AppointmentEvent appointment, Prescription prescription)
+                throws IOException;
+
+        void writeMedicalHistoryEvent(Patient patient, MedicalHistoryEvent event) throws IOException;
+
+        /**
+         * Finishes writing, and moves the files written into place. Returns the files written.
+         */
+        List<Path> commit() throws IOException;
+    }
+
+    /**
+     * A file that is written to a temporary file beside it, which replaces it once committed.
+     */
+    private static class ExportFile implements Closeable {
+        private final Path target;
+        private final Path temp;
+        private final Writer writer;
+        private boolean isCommitted = false;
+
+        ExportFile(Path target) throws IOException {
+            Path directory = target.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            this.target = target;
+            this.temp = Files.createTempFile(directory, target.getFileName().toString(), TEMP_FILE_SUFFIX);
+            try {
+                FileChannel channel = FileChannel.open(temp, WRITE, TRUNCATE_EXISTING);
+                this.writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+        }
+
+        Writer getWriter() {
+            return writer;
+        }
+
+        void commit() throws IOException {
+            writer.close();
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            isCommitted = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isCommitted) {
+                return;
+            }
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Writes each kind of record to its own CSV file, named after the target file.
+     */
+    private static class CsvRecordWriter implements RecordWriter {
+        private final List<ExportFile> files = new ArrayList<>();
+        private final Writer patients;
+        private final Writer appointments;
+        private final Writer prescriptions;
+        private final Writer medicalHistory;
+
+        CsvRecordWriter(Path file) throws IOException {
+            try {
+                patients = open(file, "patients", PATIENT_COLUMNS);
+                appointments = open(file, "appointments", APPOINTMENT_COLUMNS);
+                prescriptions = open(file, "prescriptions", PRESCRIPTION_COLUMNS);
+                medicalHistory = open(file, "medical-history", MEDICAL_HISTORY_COLUMNS);
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private Writer open(Path file, String kind, List<String> columns) throws IOException {
+            String fileName = file.getFileName().toString();
+            String baseName = fileName.substring(0, fileName.length() - CSV_EXTENSION.length());
+            ExportFile exportFile = new ExportFile(file.resolveSibling(baseName + "-" + kind + CSV_EXTENSION));
+            files.add(exportFile);
+            writeRow(exportFile.getWriter(), columns.toArray(new String[0]));
+            return exportFile.getWriter();
+        }
+
+        @Override
+        public void writePatient(Patient patient) throws IOException {
+            writeRow(patients, patient.getName().fullName, patient.getNric().value, patient.getAge().value,
+                    patient.getPhone().value, patient.getEmail().value,
+                    String.join(PatientFileReader.CSV_TAG_SEPARATOR, sortedTagNames(patient)));
+        }
+
+        @Override
+        public void writeAppointment(Patient patient, AppointmentEvent appointment) throws IOException {
+            writeRow(appointments, patient.getNric().value, appointment.getDate().toString(),
+                    appointment.getTime().toString(), String.valueOf(appointment.isDone()));
+        }
+
+        @Override
+        public void writePrescription(Patient patient, AppointmentEvent appointment, Prescription prescription)
+                throws IOException {
+            writeRow(prescriptions, patient.getNric().value, appointment.getDate().toString(),
+                    appointment.getTime().toString(), prescription.getPrescription());
+        }
+
+        @Override
+        public void writeMedicalHistoryEvent(Patient patient, MedicalHistoryEvent event) throws IOException {
+            writeRow(medicalHistory, patient.getNric().value, event.getDate().toString(),
+                    event.getMedicalCondition().value, event.getTreatment().value);
+        }
+
+        private static void writeRow(Writer writer, String... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(CsvUtil.toCsvValue(values[i]));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public List<Path> commit() throws IOException {
+            List<Path> written = new ArrayList<>();
+            for (ExportFile file : files) {
+                file.commit();
+                written.add(file.target);
+            }
+            return written;
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (ExportFile file : files) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Writes every record to one NDJSON file, streaming each object with a {@code JsonGenerator}.
+     */
+    private static class NdjsonRecordWriter implements RecordWriter {
+        private static final JsonFactory JSON_FACTORY = new JsonFactory()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        private final ExportFile file;
+        private final JsonGenerator generator;
+
+        NdjsonRecordWriter(Path target) throws IOException {
+            file = new ExportFile(target);
+            generator = JSON_FACTORY.createGenerator(file.getWriter());
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writePatient(Patient patient) throws IOException {
+            startRecord("patient", patient);
+            generator.writeStringField("name", patient.getName().fullName);
+            generator.writeStringField("age", patient.getAge().value);
+            generator.writeStringField("phone", patient.getPhone().value);
+            generator.writeStringField("email", patient.getEmail().value);
+            generator.writeArrayFieldStart("tags");
+            for (String tagName : sortedTagNames(patient)) {
+                generator.writeString(tagName);
+            }
+            generator.writeEndArray();
+            endRecord();
+        }
+
+        @Override
+        public void writeAppointment(Patient patient, AppointmentEvent appointment) throws IOException {
+            startRecord("appointment", patient);
+            generator.writeStringField("date", appointment.getDate().toString());
+            generator.writeStringField("time", appointment.getTime().toString());
+            generator.writeBooleanField("done", appointment.isDone());
+            endRecord();
+        }
+
+        @Override
+        public void writePrescription(Patient patient, AppointmentEvent appointment, Prescription prescription)
+                throws IOException {
+            startRecord("prescription", patient);
+            generator.writeStringField("date", appointment.getDate().toString());
+            generator.writeStringField("time", appointment.getTime().toString());
+            generator.writeStringField("prescription", prescription.getPrescription());
+            endRecord();
+        }
+
+        @Override
+        public void writeMedicalHistoryEvent(Patient patient, MedicalHistoryEvent event) throws IOException {
+            startRecord("medicalHistory", patient);
+            generator.writeStringField("date", event.getDate().toString());
+            generator.writeStringField("condition", event.getMedicalCondition().value);
+            generator.writeStringField("treatment", event.getTreatment().value);
+            endRecord();
+        }
+
+        private void startRecord(String type, Patient patient) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeStringField("nric", patient.getNric().value);
+        }
+
+        private void endRecord() throws IOException {
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public List<Path> commit() throws IOException {
+            generator.close();
+            file.commit();
+            return Collections.singletonList(file.target);
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.cc.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands entered by the user, oldest first.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the commands in the storage, oldest first.
+     * Returns an empty list if the storage file is not found.
+     *
+     * @throws IOException if there was any problem reading from the file.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Adds {@code commands} after the commands already in the storage.
+     * @param commands cannot be null, and no command may contain a line break.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(List<String> commands) throws IOException;
+
+    /**
+     * Replaces the commands in the storage with {@code commands}.
+     * @param commands cannot be null, and no command may contain a line break.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveCommandHistory(List<String> commands) throws IOException;
+
+}
@@ -0,0 +1,111 @@
+package seedu.cc.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.cc.commons.util.ToStringBuilder;
+import seedu.cc.model.patient.Patient;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.util.Date;
+
+/**
+ * Selects the records written by an export: the patients with any of the given tags, and their appointments,
+ * prescriptions and medical history events dated within the given range.
+ * A filter without tags selects every patient, and a range without a start or an end is open on that side.
+ */
+public final class ExportFilter {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start date of an export must not be after its end date";
+
+    private final Date start;
+    private final Date end;
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a filter for the dates from {@code start} to {@code end}, both inclusive, and the patients with any of
+     * {@code tags}. {@code start} and {@code end} may be null for a range that is open on that side.
+     */
+    public ExportFilter(Date start, Date end, Set<Tag> tags) {
+        requireNonNull(tags);
+        if (start != null && end != null && start.compareTo(end) > 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_RANGE);
+        }
+        this.start = start;
+        this.end = end;
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
+    /**
+     * Returns a filter that selects every record.
+     */
+    public static ExportFilter all() {
+        return new ExportFilter(null, null, Collections.emptySet());
+    }
+
+    /**
+     * Returns true if the records of {@code patient} are to be exported, comparing tags case-insensitively.
+     */
+    public boolean matches(Patient patient) {
+        if (tags.isEmpty()) {
+            return true;
+        }
+        for (Tag tag : patient.getTags()) {
+            for (Tag wanted : tags) {
+                if (tag.tagName.equalsIgnoreCase(wanted.tagName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the earliest date of the events to be exported, which is {@code LocalDate.MIN} if there is no start.
+     */
+    public LocalDate getStartDate() {
+        return start == null ? LocalDate.MIN : start.getDate();
+    }
+
+    /**
+     * Returns the latest date of the events to be exported, which is {@code LocalDate.MAX} if there is no end.
+     */
+    public LocalDate getEndDate() {
+        return end == null ? LocalDate.MAX : end.getDate();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportFilter)) {
+            return false;
+        }
+
+        ExportFilter otherFilter = (ExportFilter) other;
+        return Objects.equals(start, otherFilter.start)
+                && Objects.equals(end, otherFilter.end)
+                && tags.equals(otherFilter.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .add("tags", tags)
+                .toString();
+    }
+}
@@ -69,8 +69,10 @@ public class JsonAdaptedAppointmentEvent {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Local Time"));
         }
 
-        Date modelDate = new Date(this.date);
-        Time modelTime = new Time(this.time);
+        Date modelDate = Date.parse(this.date)
+                .orElseThrow(() -> new IllegalValueException(Date.MESSAGE_CONSTRAINTS));
+        Time modelTime = Time.parse(this.time)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
 
         if (prescriptions.isEmpty()) {
             return new AppointmentEvent(modelDate, modelTime);
@@ -52,18 +52,19 @@ public class JsonAdaptedMedicalHistoryEvent {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Medical Condition"));
         }
 
-        MedicalCondition modelMedicalCondition = new MedicalCondition(this.medicalCondition);
+        MedicalCondition modelMedicalCondition = MedicalCondition.of(this.medicalCondition);
 
         if (treatment == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Treatment"));
         }
 
-        Treatment modelTreatment = new Treatment(this.treatment);
+        Treatment modelTreatment = Treatment.of(this.treatment);
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Date"));
         }
 
-        Date modelDate = new Date(this.date);
+        Date modelDate = Date.parse(this.date)
+                .orElseThrow(() -> new IllegalValueException(Date.MESSAGE_CONSTRAINTS));
 
         return new MedicalHistoryEvent(modelMedicalCondition, modelTreatment, modelDate);
     }
@@ -28,6 +28,7 @@ class JsonAdaptedPatient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Patient's %s field is missing!";
 
+    private final Integer id;
     private final String name;
     private final String nric;
     private final String phone;
@@ -37,16 +38,26 @@ class JsonAdaptedPatient {
     private final List<JsonAdaptedAppointmentEvent> appointmentEvents = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPatient(String name, String nric, String phone, String email, String age,
+                              List<JsonAdaptedMedicalHistoryEvent> medicalHistoryEvents,
+                              List<JsonAdaptedAppointmentEvent> appointmentEvents, List<JsonAdaptedTag> tags) {
+        this(null, name, nric, phone, email, age, medicalHistoryEvents, appointmentEvents, tags);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPatient(@JsonProperty("name") String name, @JsonProperty("nric") String nric,
-                              @JsonProperty("phone") String phone, @JsonProperty("email") String email,
-                              @JsonProperty("age") String age,
+    public JsonAdaptedPatient(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+                              @JsonProperty("nric") String nric, @JsonProperty("phone") String phone,
+                              @JsonProperty("email") String email, @JsonProperty("age") String age,
                               @JsonProperty("medicalHistory") List<JsonAdaptedMedicalHistoryEvent> medicalHistoryEvents,
                               @JsonProperty("appointment") List<JsonAdaptedAppointmentEvent> appointmentEvents,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.nric = nric;
         this.phone = phone;
@@ -67,6 +78,7 @@ class JsonAdaptedPatient {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPatient(Patient source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         nric = source.getNric().value;
         phone = source.getPhone().value;
@@ -94,14 +106,14 @@ class JsonAdaptedPatient {
             patientTags.add(tag.toModelType());
         }
 
-        final PatientMedicalHistory modelPatientMedicalHistory = new PatientMedicalHistory();
+        PatientMedicalHistory modelPatientMedicalHistory = new PatientMedicalHistory();
         for (JsonAdaptedMedicalHistoryEvent event : medicalHistoryEvents) {
-            modelPatientMedicalHistory.addMedicalHistoryEvent(event.toModelType());
+            modelPatientMedicalHistory = modelPatientMedicalHistory.withMedicalHistoryEvent(event.toModelType());
         }
 
-        final PatientAppointmentList modelPatientAppointmentList = new PatientAppointmentList();
+        PatientAppointmentList modelPatientAppointmentList = new PatientAppointmentList();
         for (JsonAdaptedAppointmentEvent event : appointmentEvents) {
-            modelPatientAppointmentList.addAppointmentList(event.toModelType());
+            modelPatientAppointmentList = modelPatientAppointmentList.withAppointment(event.toModelType());
         }
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -144,7 +156,8 @@ class JsonAdaptedPatient {
 
         final Age modelAge = new Age(age);
         final Set<Tag> modelTags = new HashSet<>(patientTags);
-        return new Patient(modelName, modelNric, modelPhone, modelEmail,
+        final int modelId = id == null || id < 0 ? Patient.UNASSIGNED_ID : id;
+        return new Patient(modelId, modelName, modelNric, modelPhone, modelEmail,
                 modelAge, modelPatientAppointmentList, modelPatientMedicalHistory, modelTags);
     }
 
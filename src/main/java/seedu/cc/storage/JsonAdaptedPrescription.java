@@ -42,6 +42,6 @@ public class JsonAdaptedPrescription {
             throw new IllegalValueException(Prescription.MESSAGE_CONSTRAINTS);
         }
 
-        return new Prescription(prescription);
+        return Prescription.of(prescription);
     }
 }
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.cc.commons.exceptions.IllegalValueException;
+import seedu.cc.commons.util.IntHashSet;
 import seedu.cc.model.ClinicBook;
 import seedu.cc.model.ReadOnlyClinicBook;
 import seedu.cc.model.patient.Patient;
@@ -20,6 +21,7 @@ import seedu.cc.model.patient.Patient;
 class JsonSerializableClinicBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Patient list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Patient list contains duplicate id(s).";
 
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
 
@@ -40,18 +42,30 @@ class JsonSerializableClinicBook {
         patients.addAll(source.getPatientList().stream().map(JsonAdaptedPatient::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the patients in this clinic book as they were read, before any validation.
+     */
+    List<JsonAdaptedPatient> getPatients() {
+        return patients;
+    }
+
     /**
      * Converts this address book into the model's {@code ClinicBook} object.
+     * The patients are given the ids 0 to n-1 in the order they are saved, rather than the ids they were saved with.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ClinicBook toModelType() throws IllegalValueException {
         ClinicBook clinicBook = new ClinicBook();
+        IntHashSet storedIds = new IntHashSet(patients.size());
         for (JsonAdaptedPatient jsonAdaptedPatient : patients) {
             Patient patient = jsonAdaptedPatient.toModelType();
             if (clinicBook.hasPatient(patient)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
+            if (patient.hasId() && !storedIds.add(patient.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
             clinicBook.addPatient(patient);
         }
         return clinicBook;
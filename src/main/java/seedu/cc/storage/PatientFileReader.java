@@ -0,0 +1,245 @@
+package seedu.cc.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.cc.commons.exceptions.IllegalValueException;
+import seedu.cc.commons.util.CsvUtil;
+import seedu.cc.commons.util.JsonUtil;
+import seedu.cc.model.patient.Patient;
+
+/**
+ * Reads patients to be imported into the clinic book from a CSV or JSON file.
+ * A JSON file has the same format as the data file of the clinic book, so patients are read with their medical
+ * history and appointments, but without the ids they were saved with in that file. A CSV file has a header row
+ * naming its columns, followed by one patient per row. It must have the columns name, nric, age, phone and email,
+ * and may have a tags column with tags separated by semicolons.
+ *
+ * The records are converted to patients and validated in parallel, and every invalid record is reported rather
+ * than only the first.
+ */
+public class PatientFileReader {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only .csv and .json files can be imported";
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty";
+    public static final String MESSAGE_MISSING_COLUMN = "The header row has no %1$s column";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The header row has more than one %1$s column";
+    public static final String MESSAGE_WRONG_VALUE_COUNT = "Expected %1$d values but found %2$d";
+    public static final String MESSAGE_INVALID_RECORD = "Record %1$d: %2$s";
+
+    public static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "nric", "age", "phone", "email");
+    public static final String TAGS_CSV_COLUMN = "tags";
+    public static final String CSV_TAG_SEPARATOR = ";";
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Returns true if patients can be read from {@code file}, judging by its extension.
+     */
+    public static boolean isSupported(Path file) {
+        requireNonNull(file);
+        return isCsv(file) || isJson(file);
+    }
+
+    /**
+     * Reads the patients in {@code file}, which must be {@link #isSupported(Path) supported}.
+     *
+     * @throws IOException if the file cannot be read, or is not valid JSON
+     * @throws IllegalValueException if the file is not in the expected format as a whole, e.g. a CSV file
+     *     without a required column. Invalid records are reported in the result instead.
+     */
+    public static Result read(Path file) throws IOException, IllegalValueException {
+        requireNonNull(file);
+        if (isCsv(file)) {
+            return readCsv(file);
+        }
+        if (isJson(file)) {
+            return readJson(file);
+        }
+        throw new IllegalValueException(MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    private static boolean isCsv(Path file) {
+        return hasExtension(file, CSV_EXTENSION);
+    }
+
+    private static boolean isJson(Path file) {
+        return hasExtension(file, JSON_EXTENSION);
+    }
+
+    private static boolean hasExtension(Path file, String extension) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(extension);
+    }
+
+    private static Result readJson(Path file) throws IOException {
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        JsonSerializableClinicBook clinicBook = JsonUtil.fromJsonString(json, JsonSerializableClinicBook.class);
+        return convert(clinicBook.getPatients().stream().map(Record::new).collect(Collectors.toList()));
+    }
+
+    private static Result readCsv(Path file) throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_FILE);
+            }
+            Map<String, Integer> columns = readHeader(header);
+
+            List<Record> records = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(readCsvRecord(line, columns));
+                }
+            }
+            return convert(records);
+        }
+    }
+
+    /**
+     * Returns the position of each column named in {@code header}, by its name in lower case.
+     */
+    private static Map<String, Integer> readHeader(String header) throws IllegalValueException {
+        List<String> names = CsvUtil.parseLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (columns.put(name, i) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+            }
+        }
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columns;
+    }
+
+    private static Record readCsvRecord(String line, Map<String, Integer> columns) {
+        List<String> values;
+        try {
+            values = CsvUtil.parseLine(line);
+        } catch (IllegalValueException e) {
+            return new Record(e.getMessage());
+        }
+        if (values.size() != columns.size()) {
+            return new Record(String.format(MESSAGE_WRONG_VALUE_COUNT, columns.size(), values.size()));
+        }
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        Integer tagsColumn = columns.get(TAGS_CSV_COLUMN);
+        if (tagsColumn != null) {
+            Arrays.stream(values.get(tagsColumn).split(CSV_TAG_SEPARATOR))
+                    .map(String::trim)
+                    .filter(tag -> !tag.isEmpty())
+                    .map(JsonAdaptedTag::new)
+                    .forEach(tags::add);
+        }
+        return new Record(new JsonAdaptedPatient(value(values, columns, "name"), value(values, columns, "nric"),
+                value(values, columns, "phone"), value(values, columns, "email"), value(values, columns, "age"),
+                null, null, tags));
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        return values.get(columns.get(column)).trim();
+    }
+
+    /**
+     * Converts {@code records} to patients in parallel, keeping their order.
+     */
+    private static Result convert(List<Record> records) {
+        List<Record> converted = records.parallelStream()
+                .map(Record::convert)
+                .collect(Collectors.toList());
+
+        List<Patient> patients = new ArrayList<>(converted.size());
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < converted.size(); i++) {
+            Record record = converted.get(i);
+            if (record.error == null) {
+                patients.add(record.patient);
+            } else {
+                errors.add(String.format(MESSAGE_INVALID_RECORD, i + 1, record.error));
+            }
+        }
+        return new Result(patients, errors);
+    }
+
+    /**
+     * A record read from the file, holding the patient details read, and once converted, either the patient they
+     * describe or why the record is invalid.
+     */
+    private static class Record {
+        private final JsonAdaptedPatient adapted;
+        private final Patient patient;
+        private final String error;
+
+        Record(JsonAdaptedPatient adapted) {
+            this(adapted, null, null);
+        }
+
+        Record(String error) {
+            this(null, null, error);
+        }
+
+        private Record(JsonAdaptedPatient adapted, Patient patient, String error) {
+            this.adapted = adapted;
+            this.patient = patient;
+            this.error = error;
+        }
+
+        Record convert() {
+            if (error != null) {
+                return this;
+            }
+            try {
+                return new Record(null, adapted.toModelType().withId(Patient.UNASSIGNED_ID), null);
+            } catch (IllegalValueException e) {
+                return new Record(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The outcome of reading a file: the patients of its valid records, and a message for each invalid record.
+     */
+    public static class Result {
+        private final List<Patient> patients;
+        private final List<String> errors;
+
+        Result(List<Patient> patients, List<String> errors) {
+            this.patients = Collections.unmodifiableList(patients);
+            this.errors = Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * Returns the patients of the valid records, in the order they are in the file.
+         */
+        public List<Patient> getPatients() {
+            return patients;
+        }
+
+        /**
+         * Returns a message for each invalid record, numbered from 1 in the order the records are in the file.
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
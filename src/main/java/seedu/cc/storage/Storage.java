@@ -12,7 +12,7 @@ import seedu.cc.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends ClinicBookStorage, UserPrefsStorage {
+public interface Storage extends ClinicBookStorage, UserPrefsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -2,6 +2,7 @@ package seedu.cc.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -20,13 +21,17 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ClinicBookStorage clinicBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code ClinicBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code ClinicBookStorage}, {@code UserPrefStorage} and
+     * {@code CommandHistoryStorage}.
      */
-    public StorageManager(ClinicBookStorage clinicBookStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(ClinicBookStorage clinicBookStorage, UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage) {
         this.clinicBookStorage = clinicBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +80,28 @@ public class StorageManager implements Storage {
         clinicBookStorage.saveClinicBook(clinicBook, filePath);
     }
 
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> commands) throws IOException {
+        commandHistoryStorage.appendCommandHistory(commands);
+    }
+
+    @Override
+    public void saveCommandHistory(List<String> commands) throws IOException {
+        logger.fine("Attempting to rewrite command history file: " + getCommandHistoryFilePath());
+        commandHistoryStorage.saveCommandHistory(commands);
+    }
+
 }
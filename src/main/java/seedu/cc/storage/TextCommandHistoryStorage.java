@@ -0,0 +1,73 @@
+package seedu.cc.storage;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.cc.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored in the hard disk as a text file with one command per line.
+ * Commands are appended to the end of the file, so recording a command does not rewrite the commands before it.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private final Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Collections.emptyList();
+        }
+        return Files.readAllLines(filePath, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> commands) throws IOException {
+        requireNonNull(commands);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, commands, StandardCharsets.UTF_8, CREATE, APPEND);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The commands are written to a temporary file that then replaces the file, so the history is never left
+     * half written.
+     */
+    @Override
+    public void saveCommandHistory(List<String> commands) throws IOException {
+        requireNonNull(commands);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, commands, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+}
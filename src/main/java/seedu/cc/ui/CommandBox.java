@@ -1,34 +1,132 @@
 package seedu.cc.ui;
 
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import seedu.cc.logic.commands.CommandResult;
-import seedu.cc.logic.commands.exceptions.CommandException;
-import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.logic.CommandHistory;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * The up and down keys step through the commands entered before, and Ctrl+R searches them for the latest command
+ * starting with what is typed, as in a shell.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String SEARCH_PROMPT = "reverse-i-search: %1$s";
+    public static final String FAILED_SEARCH_PROMPT = "failed reverse-i-search: %1$s";
     private static final String FXML = "CommandBox.fxml";
+    private static final KeyCombination REVERSE_SEARCH = new KeyCodeCombination(KeyCode.R,
+            KeyCombination.CONTROL_DOWN);
+    private static final int NOT_IN_HISTORY = -1;
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final CommandHistory commandHistory;
+
+    /** The index in the history of the command shown, or {@code NOT_IN_HISTORY} if none is shown. */
+    private int historyIndex = NOT_IN_HISTORY;
+    /** What was typed before the history was first shown, to be restored when leaving the history. */
+    private String draft = "";
+    /** The prefix being searched for, or null if not searching. */
+    private String searchPrefix = null;
+    private int searchIndex = NOT_IN_HISTORY;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private Label historySearchLabel;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CommandCompleter} and
+     * {@code CommandHistory}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter,
+                      CommandHistory commandHistory) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
+        this.commandHistory = commandHistory;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, this::handleKeyTyped);
+    }
+
+    private void handleKeyPressed(KeyEvent event) {
+        if (searchPrefix != null) {
+            handleKeyPressedWhileSearching(event);
+            return;
+        }
+
+        if (REVERSE_SEARCH.match(event)) {
+            startSearch();
+            event.consume();
+            return;
+        }
+        switch (event.getCode()) {
+        case TAB:
+            // Tab would otherwise move the focus out of the command box.
+            handleTabPressed();
+            event.consume();
+            break;
+        case UP:
+            showPreviousCommand();
+            event.consume();
+            break;
+        case DOWN:
+            showNextCommand();
+            event.consume();
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void handleKeyPressedWhileSearching(KeyEvent event) {
+        KeyCode code = event.getCode();
+        if (REVERSE_SEARCH.match(event)) {
+            searchBefore(searchIndex == NOT_IN_HISTORY ? commandHistory.size() : searchIndex);
+            event.consume();
+        } else if (code == KeyCode.BACK_SPACE) {
+            if (!searchPrefix.isEmpty()) {
+                searchPrefix = searchPrefix.substring(0, searchPrefix.length() - 1);
+            }
+            searchBefore(commandHistory.size());
+            event.consume();
+        } else if (code == KeyCode.ESCAPE) {
+            endSearch();
+            setCommandText(draft);
+            event.consume();
+        } else if (code.isArrowKey() || code.isNavigationKey() || code == KeyCode.TAB || code == KeyCode.ENTER
+                || event.isShortcutDown()) {
+            // Keep the command found, and let the key act on it, e.g. Enter runs it.
+            endSearch();
+        }
+        // Other keys type characters, which are handled as they are typed.
+    }
+
+    private void handleKeyTyped(KeyEvent event) {
+        if (searchPrefix == null || event.isControlDown() || event.isMetaDown()) {
+            return;
+        }
+        String character = event.getCharacter();
+        if (character.isEmpty() || Character.isISOControl(character.charAt(0))) {
+            return;
+        }
+        searchPrefix += character;
+        searchBefore(commandHistory.size());
+        event.consume();
     }
 
     /**
@@ -41,14 +139,100 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandHistory.add(commandText);
+        historyIndex = NOT_IN_HISTORY;
+        commandExecutor.execute(commandText, isSuccessful -> {
+            if (!isSuccessful) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                // Leave alone anything typed while the command was running.
+                commandTextField.setText("");
+            }
+        });
+    }
+
+    /**
+     * Completes the command word being typed, if nothing but a command word has been typed.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        if (commandText.isEmpty() || commandText.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        }
+        commandTextField.setText(commandCompleter.complete(commandText));
+        commandTextField.end();
+    }
+
+    /**
+     * Shows the command entered before the one shown, or the latest command if none is shown.
+     */
+    private void showPreviousCommand() {
+        if (historyIndex == NOT_IN_HISTORY) {
+            draft = commandTextField.getText();
+            historyIndex = commandHistory.size();
+        }
+        if (historyIndex == 0) {
+            return;
+        }
+        historyIndex--;
+        setCommandText(commandHistory.get(historyIndex));
+    }
+
+    /**
+     * Shows the command entered after the one shown, or what was typed before if the latest command is shown.
+     */
+    private void showNextCommand() {
+        if (historyIndex == NOT_IN_HISTORY) {
+            return;
+        }
+        historyIndex++;
+        if (historyIndex < commandHistory.size()) {
+            setCommandText(commandHistory.get(historyIndex));
+        } else {
+            historyIndex = NOT_IN_HISTORY;
+            setCommandText(draft);
         }
     }
 
+    /**
+     * Starts searching the history for commands starting with what is typed.
+     */
+    private void startSearch() {
+        draft = commandTextField.getText();
+        historyIndex = NOT_IN_HISTORY;
+        searchPrefix = draft;
+        searchIndex = NOT_IN_HISTORY;
+        historySearchLabel.setManaged(true);
+        historySearchLabel.setVisible(true);
+        searchBefore(commandHistory.size());
+    }
+
+    /**
+     * Shows the latest command before {@code index} that starts with the prefix searched for, if there is one.
+     */
+    private void searchBefore(int index) {
+        OptionalInt found = commandHistory.findLatestStartingWith(searchPrefix, index);
+        if (found.isPresent()) {
+            searchIndex = found.getAsInt();
+            setCommandText(commandHistory.get(searchIndex));
+            historySearchLabel.setText(String.format(SEARCH_PROMPT, searchPrefix));
+        } else {
+            historySearchLabel.setText(String.format(FAILED_SEARCH_PROMPT, searchPrefix));
+        }
+    }
+
+    private void endSearch() {
+        searchPrefix = null;
+        searchIndex = NOT_IN_HISTORY;
+        historySearchLabel.setVisible(false);
+        historySearchLabel.setManaged(false);
+    }
+
+    private void setCommandText(String commandText) {
+        commandTextField.setText(commandText);
+        commandTextField.end();
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -75,11 +259,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command, which may finish after this method returns.
+         * {@code onDone} is then called on the JavaFX application thread with whether the command succeeded.
          *
          * @see seedu.cc.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Consumer<Boolean> onDone);
+    }
+
+    /**
+     * Represents a function that completes a partly typed command word.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns {@code commandWordPrefix} completed as far as possible.
+         *
+         * @see seedu.cc.logic.Logic#completeCommandWord(String)
+         */
+        String complete(String commandWordPrefix);
     }
 
 }
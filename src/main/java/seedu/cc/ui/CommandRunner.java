@@ -0,0 +1,299 @@
+package seedu.cc.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cc.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Runs tasks, such as executing commands, one at a time on a single worker thread, so that the JavaFX application
+ * thread is not blocked while they run. The worker thread is the only thread that changes the model.
+ *
+ * The UI must not read the model's observable lists and values while the worker thread may be changing them, so it
+ * reads mirrors of them instead. Each change to a list is recorded on the worker thread as the ranges it added,
+ * removed and updated. After each task, the changes recorded for every mirror are replayed in one task on the UI
+ * executor, as one change of the mirror, so a command that changes a list many times updates its mirror once, and
+ * a patient that is updated in place stays selected. Only if a task changes more elements than a list holds is its
+ * mirror replaced as a whole instead, e.g. when the clinic book is replaced.
+ */
+public class CommandRunner {
+
+    private final ExecutorService worker;
+    private final Consumer<Runnable> uiExecutor;
+    private final List<Runnable> mirrorPublishers = new CopyOnWriteArrayList<>();
+
+    private Thread workerThread;
+    private boolean isTaskRunning = false;
+    private boolean isCancellable = false;
+
+    /**
+     * Creates a {@code CommandRunner} that runs the callbacks of tasks and the updates to mirrors with
+     * {@code uiExecutor}, which is usually {@code Platform::runLater}.
+     */
+    public CommandRunner(Consumer<Runnable> uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            synchronized (this) {
+                workerThread = thread;
+            }
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the worker thread after every task submitted before it.
+     * Once it is done and the mirrors are updated, its result is passed to {@code onSuccess}, or the exception it
+     * threw to {@code onFailure}, on the UI executor.
+     */
+    public <T> void submit(Callable<T> task, Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        requireAllNonNull(task, onSuccess, onFailure);
+        worker.execute(() -> {
+            T result = null;
+            Exception failure = null;
+            setTaskRunning(true);
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                failure = e;
+            } finally {
+                setTaskRunning(false);
+            }
+            publishMirrors();
+
+            T finalResult = result;
+            Exception finalFailure = failure;
+            uiExecutor.accept(() -> {
+                if (finalFailure == null) {
+                    onSuccess.accept(finalResult);
+                } else {
+                    onFailure.accept(finalFailure);
+                }
+            });
+        });
+    }
+
+    /**
+     * Runs {@code task} on the worker thread after every task submitted before it, ignoring its outcome.
+     */
+    public void submit(Runnable task) {
+        requireNonNull(task);
+        submit(() -> {
+            task.run();
+            return null;
+        }, unused -> { }, unused -> { });
+    }
+
+    /**
+     * Asks the task that is running, if any, to stop by interrupting the worker thread.
+     * A task that checks {@code Thread#interrupted()} can then give up early, e.g. a {@code RunCommand} between
+     * the commands of its script. Tasks that are still waiting to run are not affected, and neither is a task that
+     * called {@link #preventCancel()}.
+     */
+    public synchronized void cancel() {
+        if (isTaskRunning && isCancellable && workerThread != null) {
+            workerThread.interrupt();
+        }
+    }
+
+    /**
+     * Stops the task that is running from being cancelled from now on, e.g. before it saves what it has done, as
+     * interrupting a thread that is writing to a file closes the file. Must be called by the task itself.
+     */
+    public synchronized void preventCancel() {
+        assert Thread.currentThread() == workerThread;
+        isCancellable = false;
+        // A request to cancel that came before this must not reach the rest of the task either.
+        Thread.interrupted();
+    }
+
+    /**
+     * Returns a list that mirrors {@code source} for use on the UI thread.
+     * Must be called when no task is running, as {@code source} is copied.
+     */
+    public <T> ObservableList<T> mirror(ObservableList<T> source) {
+        requireNonNull(source);
+        MirrorList<T> mirror = new MirrorList<>(source);
+        List<Edit<T>> edits = new ArrayList<>();
+        int[] editedElements = new int[1];
+        AtomicBoolean isReset = new AtomicBoolean(false);
+        source.addListener((ListChangeListener<T>) change -> {
+            if (isReset.get()) {
+                return;
+            }
+            while (change.next()) {
+                Edit<T> edit = Edit.of(change);
+                edits.add(edit);
+                editedElements[0] += edit.removedCount + edit.elements.size();
+            }
+            // Replaying more changes than the list holds would cost more than copying it.
+            if (editedElements[0] > source.size()) {
+                edits.clear();
+                isReset.set(true);
+            }
+        });
+        mirrorPublishers.add(() -> {
+            if (isReset.getAndSet(false)) {
+                List<T> copy = new ArrayList<>(source);
+                uiExecutor.accept(() -> mirror.replaceAll(copy));
+            } else if (!edits.isEmpty()) {
+                List<Edit<T>> toReplay = new ArrayList<>(edits);
+                uiExecutor.accept(() -> mirror.replay(toReplay));
+            }
+            edits.clear();
+            editedElements[0] = 0;
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns a property that mirrors {@code source} for use on the UI thread.
+     * Must be called when no task is running.
+     */
+    public <T> ReadOnlyObjectProperty<T> mirror(ObservableValue<T> source) {
+        requireNonNull(source);
+        ReadOnlyObjectWrapper<T> mirror = new ReadOnlyObjectWrapper<>(source.getValue());
+        AtomicBoolean isOutOfDate = new AtomicBoolean(false);
+        source.addListener((observable, oldValue, newValue) -> isOutOfDate.set(true));
+        mirrorPublishers.add(() -> {
+            if (isOutOfDate.getAndSet(false)) {
+                T value = source.getValue();
+                uiExecutor.accept(() -> mirror.set(value));
+            }
+        });
+        return mirror.getReadOnlyProperty();
+    }
+
+    /**
+     * Stops the worker thread once the tasks submitted so far are done, waiting at most {@code timeoutMillis}.
+     */
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        worker.shutdown();
+        worker.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void setTaskRunning(boolean isRunning) {
+        isTaskRunning = isRunning;
+        isCancellable = isRunning;
+        if (!isRunning) {
+            // A request to cancel that came too late must not reach the next task.
+            Thread.interrupted();
+        }
+    }
+
+    private void publishMirrors() {
+        mirrorPublishers.forEach(Runnable::run);
+    }
+
+    /**
+     * A change to a list recorded to be replayed on its mirror: {@code removedCount} elements removed at
+     * {@code from} and {@code elements} inserted there, or if it is an update, the elements from {@code from}
+     * replaced by {@code elements}, new versions of them.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int removedCount;
+        private final List<T> elements;
+        private final boolean isUpdate;
+
+        Edit(int from, int removedCount, List<T> elements, boolean isUpdate) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.elements = elements;
+            this.isUpdate = isUpdate;
+        }
+
+        /**
+         * Returns the edit that makes the change at the current step of {@code change}.
+         * The elements are copied, as the list may change again before the edit is replayed.
+         */
+        static <T> Edit<T> of(ListChangeListener.Change<? extends T> change) {
+            List<T> elements = new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()));
+            if (change.wasPermutated()) {
+                return new Edit<>(change.getFrom(), elements.size(), elements, false);
+            }
+            if (change.wasUpdated()) {
+                return new Edit<>(change.getFrom(), 0, elements, true);
+            }
+            return new Edit<>(change.getFrom(), change.getRemovedSize(), elements, false);
+        }
+    }
+
+    /**
+     * A list changed only by replaying the edits recorded from its source, each time as one change.
+     */
+    private static class MirrorList<T> extends ObservableListBase<T> {
+        private final List<T> elements;
+
+        MirrorList(List<T> source) {
+            elements = new ArrayList<>(source);
+        }
+
+        void replay(List<Edit<T>> edits) {
+            beginChange();
+            for (Edit<T> edit : edits) {
+                if (edit.isUpdate) {
+                    for (int i = 0; i < edit.elements.size(); i++) {
+                        elements.set(edit.from + i, edit.elements.get(i));
+                        nextUpdate(edit.from + i);
+                    }
+                    continue;
+                }
+
+                List<T> removedRange = elements.subList(edit.from, edit.from + edit.removedCount);
+                List<T> removed = new ArrayList<>(removedRange);
+                removedRange.clear();
+                elements.addAll(edit.from, edit.elements);
+                int to = edit.from + edit.elements.size();
+                if (!removed.isEmpty() && !edit.elements.isEmpty()) {
+                    nextReplace(edit.from, to, removed);
+                } else if (!removed.isEmpty()) {
+                    nextRemove(edit.from, removed);
+                } else if (!edit.elements.isEmpty()) {
+                    nextAdd(edit.from, to);
+                }
+            }
+            endChange();
+        }
+
+        void replaceAll(List<T> copy) {
+            if (elements.isEmpty() && copy.isEmpty()) {
+                return;
+            }
+            beginChange();
+            List<T> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(copy);
+            nextReplace(0, elements.size(), removed);
+            endChange();
+        }
+
+        @Override
+        public T get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.cc.ui;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.cc.model.patient.Patient;
+
+/**
+ * Panel showing the most recently seen patients and the patients with the soonest appointments.
+ */
+public class DashboardPanel extends UiPart<Region> {
+    public static final int PATIENTS_SHOWN = 10;
+
+    private static final String FXML = "DashboardPanel.fxml";
+
+    @FXML
+    private Label appointmentCountLabel;
+
+    @FXML
+    private ListView<Patient> recentlySeenListView;
+
+    @FXML
+    private ListView<Patient> upcomingListView;
+
+    /**
+     * Creates an empty {@code DashboardPanel}. Call {@link #refresh(List, List, int, int)} to fill it.
+     */
+    public DashboardPanel() {
+        super(FXML);
+        recentlySeenListView.setCellFactory(listView -> new DashboardListViewCell(
+            patient -> patient.getMedicalHistory().getLatestEventDate()));
+        upcomingListView.setCellFactory(listView -> new DashboardListViewCell(
+            patient -> patient.getAppointmentList().getNextAppointmentDate(LocalDate.now().minusDays(1))));
+    }
+
+    /**
+     * Shows {@code recentlySeen} and {@code upcoming} in place of the patients currently shown,
+     * along with the number of appointments today and in the coming week.
+     */
+    public void refresh(List<Patient> recentlySeen, List<Patient> upcoming, int appointmentsToday,
+                        int appointmentsThisWeek) {
+        appointmentCountLabel.setText(String.format("Appointments today: %d    Next 7 days: %d",
+                appointmentsToday, appointmentsThisWeek));
+        recentlySeenListView.getItems().setAll(recentlySeen);
+        upcomingListView.getItems().setAll(upcoming);
+    }
+
+    /**
+     * Custom {@code ListCell} that displays a patient's name and the date the patient is listed by.
+     */
+    class DashboardListViewCell extends ListCell<Patient> {
+        private final Function<Patient, Optional<LocalDate>> date;
+
+        DashboardListViewCell(Function<Patient, Optional<LocalDate>> date) {
+            this.date = date;
+        }
+
+        @Override
+        protected void updateItem(Patient patient, boolean empty) {
+            super.updateItem(patient, empty);
+
+            if (empty || patient == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setText((getIndex() + 1) + ". " + patient.getName().fullName
+                        + date.apply(patient).map(value -> " (" + value + ")").orElse(""));
+            }
+        }
+    }
+}
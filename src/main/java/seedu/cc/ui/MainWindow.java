@@ -1,9 +1,14 @@
 package seedu.cc.ui;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -17,13 +22,15 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.cc.commons.core.GuiSettings;
 import seedu.cc.commons.core.LogsCenter;
 import seedu.cc.commons.core.tabs.Tabs;
 import seedu.cc.logic.Logic;
-import seedu.cc.logic.commands.CommandResult;
+import seedu.cc.logic.commands.LookupCommand;
 import seedu.cc.logic.commands.exceptions.CommandException;
 import seedu.cc.logic.parser.exceptions.ParseException;
+import seedu.cc.model.patient.Patient;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -32,16 +39,22 @@ import seedu.cc.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    /** How long a command runs before the progress indicator is shown. */
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
+    /** How long to wait on exit for the commands still running to be done and saved. */
+    private static final long EXIT_TIMEOUT_MILLIS = 5000;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private final CommandRunner commandRunner = new CommandRunner(Platform::runLater);
 
     // Independent Ui parts residing in this Ui container
     private PatientListPanel patientListPanel;
     private MedicalHistoryPanel medicalHistoryPanel;
     private AppointmentPanel appointmentPanel;
+    private DashboardPanel dashboardPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -59,6 +72,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane appointmentListPanelPlaceholder;
 
+    @FXML
+    private StackPane dashboardPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -76,6 +92,8 @@ public class MainWindow extends UiPart<Stage> {
     private Button sidebarButton2;
     @FXML
     private Button sidebarButton3;
+    @FXML
+    private Button sidebarButton4;
 
     private List<Button> buttons;
 
@@ -112,7 +130,7 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private void initialize() {
         sidebarButton1.getStyleClass().add("sidebar-active-button");
-        this.buttons = Arrays.asList(sidebarButton1, sidebarButton2, sidebarButton3);
+        this.buttons = Arrays.asList(sidebarButton1, sidebarButton2, sidebarButton3, sidebarButton4);
     }
 
 
@@ -154,26 +172,40 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        logic.currentTabProperty().addListener((observable, oldValue, newValue) -> {
+        // Commands change the model on the worker thread of the command runner, so the UI shows mirrors of it.
+        ReadOnlyObjectProperty<Number> currentTab = commandRunner.mirror(logic.currentTabProperty());
+        currentTab.addListener((observable, oldValue, newValue) -> {
             changeTabs(newValue.intValue());
         });
 
-        patientListPanel = new PatientListPanel(logic.getFilteredPatientList());
+        patientListPanel = new PatientListPanel(commandRunner.mirror(logic.getFilteredPatientList()));
         patientListPanelPlaceholder.getChildren().add(patientListPanel.getRoot());
+        // Mirrored before the focused patient, so that it is up to date when the focused patient changes.
+        ReadOnlyObjectProperty<Number> focusedPatientIndex = commandRunner.mirror(logic.focusedPatientIndexProperty());
+        ReadOnlyObjectProperty<Patient> focusedPatient = commandRunner.mirror(logic.focusedPatientProperty());
+        focusedPatient.addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                patientListPanel.focusPatient(newValue, focusedPatientIndex.get().intValue());
+            }
+        });
 
-        medicalHistoryPanel = new MedicalHistoryPanel(logic.getFilteredMedicalHistoryEventList());
+        medicalHistoryPanel = new MedicalHistoryPanel(commandRunner.mirror(logic.getFilteredMedicalHistoryEventList()));
         medicalHistoryListPanelPlaceholder.getChildren().add(medicalHistoryPanel.getRoot());
 
-        appointmentPanel = new AppointmentPanel(logic.getFilteredAppointmentList());
+        appointmentPanel = new AppointmentPanel(commandRunner.mirror(logic.getFilteredAppointmentList()));
         appointmentListPanelPlaceholder.getChildren().add(appointmentPanel.getRoot());
 
+        dashboardPanel = new DashboardPanel();
+        dashboardPanelPlaceholder.getChildren().add(dashboardPanel.getRoot());
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getClinicBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::completeCommandWord,
+                logic.getCommandHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -215,6 +247,12 @@ public class MainWindow extends UiPart<Stage> {
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
+        try {
+            commandRunner.shutdown(EXIT_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the running commands to finish");
+            Thread.currentThread().interrupt();
+        }
     }
 
     public PatientListPanel getPatientListPanel() {
@@ -222,16 +260,28 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the worker thread of the command runner, and then shows the result.
+     * If the command takes a while, a progress indicator with a cancel button is shown until it is done.
+     * {@code onDone} is called with whether the command succeeded.
      *
-     * @see seedu.cc.logic.Logic#execute(String)
+     * @see seedu.cc.logic.Logic#execute(String, Runnable)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private void executeCommand(String commandText, Consumer<Boolean> onDone) {
+        PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+        progressDelay.setOnFinished(event -> resultDisplay.showProgress(commandRunner::cancel));
+        progressDelay.play();
+
+        // Once the command is done, it cannot be cancelled, so that saving the clinic book is never interrupted.
+        commandRunner.submit(() -> logic.execute(commandText, commandRunner::preventCancel), commandResult -> {
+            progressDelay.stop();
+            resultDisplay.hideProgress();
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
+            if (mainTabPane.getSelectionModel().getSelectedIndex() == 3) {
+                refreshDashboard();
+            }
+
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -240,12 +290,26 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            onDone.accept(true);
+        }, e -> {
+            progressDelay.stop();
+            resultDisplay.hideProgress();
+            if (e instanceof CommandException || e instanceof ParseException) {
+                logger.info("An error occurred while executing command: " + commandText);
+            } else {
+                logger.warning("Unexpected error while executing command: " + commandText + ": " + e);
+            }
+            resultDisplay.setFeedbackToUser(e.getMessage() == null ? e.toString() : e.getMessage());
+            onDone.accept(false);
+        });
+    }
+
+    /**
+     * Looks up the patient calling from {@code callerId} and shows the patient in the patient list.
+     * The outcome is shown to the user by {@link #executeCommand(String, Consumer)}.
+     */
+    public void handleIncomingCall(String callerId) {
+        executeCommand(LookupCommand.COMMAND_WORD + " " + callerId, isSuccessful -> { });
     }
 
     /**
@@ -272,6 +336,14 @@ public class MainWindow extends UiPart<Stage> {
         changeTabs(2);
     }
 
+    /**
+     * Switches to the Dashboard tab.
+     */
+    @FXML
+    public void showDashboardTab() {
+        changeTabs(3);
+    }
+
     /**
      * Changes the tab to the specified tab index.
      * @param tabIndex the index of the tab to change to
@@ -280,31 +352,58 @@ public class MainWindow extends UiPart<Stage> {
         mainTabPane.getSelectionModel().select(tabIndex);
         switch (tabIndex) {
         case 0:
-            logic.setCurrentTab(0);
+            setCurrentTab(0);
             tabInfoLabel.setText(Tabs.PATIENTS.toString());
             setActiveButton(sidebarButton1);
             break;
         case 1:
-            logic.setCurrentTab(1);
+            setCurrentTab(1);
             tabInfoLabel.setText(Tabs.MEDICAL_HISTORY.toString());
             setActiveButton(sidebarButton2);
             break;
         case 2:
-            logic.setCurrentTab(2);
+            setCurrentTab(2);
             tabInfoLabel.setText(Tabs.APPOINTMENTS.toString());
             setActiveButton(sidebarButton3);
             break;
+        case 3:
+            setCurrentTab(3);
+            tabInfoLabel.setText(Tabs.DASHBOARD.toString());
+            setActiveButton(sidebarButton4);
+            refreshDashboard();
+            break;
         default:
             tabInfoLabel.setText("Unknown Tab");
             break;
         }
     }
 
+    /**
+     * Records {@code tabIndex} as the current tab in the model, on the worker thread of the command runner.
+     */
+    private void setCurrentTab(int tabIndex) {
+        commandRunner.submit(() -> logic.setCurrentTab(tabIndex));
+    }
+
+    /**
+     * Fills the dashboard with the current top patients, which are read on the worker thread of the command runner.
+     */
+    private void refreshDashboard() {
+        commandRunner.submit(() -> {
+            List<Patient> recentlySeen = logic.getRecentlySeenPatients(DashboardPanel.PATIENTS_SHOWN);
+            List<Patient> upcoming = logic.getUpcomingPatients(DashboardPanel.PATIENTS_SHOWN);
+            int appointmentsToday = logic.countAppointmentsBetween(LocalDate.now(), LocalDate.now());
+            int appointmentsThisWeek = logic.countAppointmentsBetween(LocalDate.now(), LocalDate.now().plusDays(6));
+            Platform.runLater(() -> dashboardPanel.refresh(recentlySeen, upcoming, appointmentsToday,
+                    appointmentsThisWeek));
+        });
+    }
+
     /**
      * Switches to the next tab, used for shortcuts.
      */
     private void switchTab() {
-        int currentTabIndex = logic.getCurrentTab();
+        int currentTabIndex = mainTabPane.getSelectionModel().getSelectedIndex();
         int numberOfTabs = mainTabPane.getTabs().size();
         int nextTabIndex = (currentTabIndex + 1) % numberOfTabs;
         changeTabs(nextTabIndex);
@@ -29,6 +29,22 @@ public class PatientListPanel extends UiPart<Region> {
         patientListView.setCellFactory(listView -> new PatientListViewCell());
     }
 
+    /**
+     * Selects {@code patient}, expected at {@code index}, and scrolls it into view.
+     * The list is searched for the patient only if it has since moved. Does nothing if the patient is not displayed.
+     */
+    public void focusPatient(Patient patient, int index) {
+        ObservableList<Patient> patients = patientListView.getItems();
+        if (index < 0 || index >= patients.size() || !patients.get(index).isSamePerson(patient)) {
+            index = patients.indexOf(patient);
+        }
+        if (index < 0) {
+            return;
+        }
+        patientListView.getSelectionModel().select(index);
+        patientListView.scrollTo(index);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Patient} using a {@code PatientCard}.
      */
@@ -3,19 +3,30 @@ package seedu.cc.ui;
 import static java.util.Objects.requireNonNull;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.TextArea;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * While a long-running command runs, it also shows a progress indicator and a button to cancel the command.
  */
 public class ResultDisplay extends UiPart<Region> {
 
     private static final String FXML = "ResultDisplay.fxml";
 
+    private Runnable onCancel = () -> { };
+
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private HBox progressBox;
+
+    @FXML
+    private Button cancelButton;
+
     public ResultDisplay() {
         super(FXML);
     }
@@ -25,4 +36,30 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows the progress indicator, with a cancel button that calls {@code onCancel}.
+     */
+    public void showProgress(Runnable onCancel) {
+        requireNonNull(onCancel);
+        this.onCancel = onCancel;
+        cancelButton.setDisable(false);
+        progressBox.setManaged(true);
+        progressBox.setVisible(true);
+    }
+
+    /**
+     * Hides the progress indicator.
+     */
+    public void hideProgress() {
+        onCancel = () -> { };
+        progressBox.setVisible(false);
+        progressBox.setManaged(false);
+    }
+
+    @FXML
+    private void handleCancel() {
+        cancelButton.setDisable(true);
+        onCancel.run();
+    }
+
 }
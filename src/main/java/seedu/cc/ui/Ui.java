@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Looks up and shows the patient calling from {@code callerId}. Must be called on the JavaFX thread. */
+    void showCaller(String callerId);
+
 }
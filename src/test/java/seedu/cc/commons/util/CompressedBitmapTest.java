@@ -0,0 +1,120 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new CompressedBitmap().add(-1));
+        assertFalse(new CompressedBitmap().contains(-1));
+    }
+
+    @Test
+    public void add_valuesInDifferentChunks_iteratedInOrder() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertTrue(bitmap.add(200000));
+        assertTrue(bitmap.add(5));
+        assertTrue(bitmap.add(70000));
+        assertFalse(bitmap.add(5));
+
+        assertArrayEquals(new int[] {5, 70000, 200000}, bitmap.toArray());
+        assertEquals(3, bitmap.cardinality());
+        assertTrue(bitmap.remove(70000));
+        assertFalse(bitmap.remove(70000));
+        assertArrayEquals(new int[] {5, 200000}, bitmap.toArray());
+    }
+
+    @Test
+    public void add_manyValues_switchesToBitmapAndBack() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        int count = CompressedBitmap.ARRAY_CONTAINER_LIMIT + 10;
+        for (int i = 0; i < count; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(count, bitmap.cardinality());
+        assertTrue(bitmap.contains(2 * (count - 1)));
+        assertFalse(bitmap.contains(1));
+
+        for (int i = 0; i < 20; i++) {
+            bitmap.remove(i * 2);
+        }
+        assertEquals(count - 20, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(40));
+    }
+
+    @Test
+    public void bitwiseOperations_matchBitSet() {
+        Random random = new Random(3);
+        for (int round = 0; round < 20; round++) {
+            // alternate between sparse and dense chunks so that every pair of container kinds is combined
+            int leftBound = round % 2 == 0 ? 200000 : 70000;
+            int rightBound = round % 4 < 2 ? 140000 : 9000;
+            BitSet leftSet = new BitSet();
+            BitSet rightSet = new BitSet();
+            CompressedBitmap left = randomBitmap(random, leftBound, leftSet);
+            CompressedBitmap right = randomBitmap(random, rightBound, rightSet);
+
+            CompressedBitmap and = left.copy();
+            and.and(right);
+            BitSet expectedAnd = (BitSet) leftSet.clone();
+            expectedAnd.and(rightSet);
+            assertArrayEquals(expectedAnd.stream().toArray(), and.toArray());
+
+            CompressedBitmap or = left.copy();
+            or.or(right);
+            BitSet expectedOr = (BitSet) leftSet.clone();
+            expectedOr.or(rightSet);
+            assertArrayEquals(expectedOr.stream().toArray(), or.toArray());
+
+            CompressedBitmap andNot = left.copy();
+            andNot.andNot(right);
+            BitSet expectedAndNot = (BitSet) leftSet.clone();
+            expectedAndNot.andNot(rightSet);
+            assertArrayEquals(expectedAndNot.stream().toArray(), andNot.toArray());
+
+            // the operands are unchanged
+            assertArrayEquals(leftSet.stream().toArray(), left.toArray());
+            assertArrayEquals(rightSet.stream().toArray(), right.toArray());
+        }
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        bitmap.add(100000);
+        CompressedBitmap copy = bitmap.copy();
+
+        assertTrue(bitmap.equals(copy));
+        assertEquals(bitmap.hashCode(), copy.hashCode());
+        copy.add(2);
+        assertFalse(bitmap.equals(copy));
+        assertFalse(bitmap.equals(null));
+
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        assertTrue(copy.equals(new CompressedBitmap()));
+    }
+
+    private static CompressedBitmap randomBitmap(Random random, int bound, BitSet expected) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        int count = random.nextInt(bound / 2);
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(bound);
+            bitmap.add(value);
+            expected.set(value);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+    }
+
+    @Test
+    public void parseLine_unquotedValues_splitOnCommas() throws Exception {
+        assertEquals(Collections.singletonList(""), CsvUtil.parseLine(""));
+        assertEquals(Arrays.asList("a", " b", "", "c"), CsvUtil.parseLine("a, b,,c"));
+        assertEquals(Arrays.asList("a", ""), CsvUtil.parseLine("a,"));
+    }
+
+    @Test
+    public void parseLine_quotedValues_unquoted() throws Exception {
+        assertEquals(Arrays.asList("Tan, Ah Kow", "say \"hi\"", ""),
+                CsvUtil.parseLine("\"Tan, Ah Kow\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseLine("a,\"b"));
+    }
+
+    @Test
+    public void parseLine_textAfterClosingQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNEXPECTED_QUOTE, () ->
+                CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void toCsvValue() {
+        assertEquals("plain value", CsvUtil.toCsvValue("plain value"));
+        assertEquals("\"Tan, Ah Kow\"", CsvUtil.toCsvValue("Tan, Ah Kow"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvUtil.toCsvValue("say \"hi\""));
+    }
+
+    @Test
+    public void toCsvValue_parseLine_roundTrip() throws Exception {
+        String line = CsvUtil.toCsvValue("a, \"b\"") + "," + CsvUtil.toCsvValue("c");
+        assertEquals(Arrays.asList("a, \"b\"", "c"), CsvUtil.parseLine(line));
+    }
+}
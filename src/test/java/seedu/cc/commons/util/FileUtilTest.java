@@ -1,13 +1,26 @@
 package seedu.cc.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cc.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,28 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new contents");
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertEquals(Collections.singletonList(file), listFolder());
+    }
+
+    @Test
+    public void writeToFile_cannotReplaceFile_noTemporaryFileLeft() throws Exception {
+        Path directory = testFolder.resolve("data.json");
+        Files.createDirectories(directory.resolve("nested"));
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(directory, "new contents"));
+        assertEquals(Collections.singletonList(directory), listFolder());
+    }
+
+    private List<Path> listFolder() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
@@ -0,0 +1,77 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedTreeSetTest {
+
+    @Test
+    public void add_elements_indexInSortedOrder() {
+        IndexedTreeSet<Integer> set = new IndexedTreeSet<>(Comparator.naturalOrder());
+        assertEquals(0, set.add(5));
+        assertEquals(0, set.add(1));
+        assertEquals(1, set.add(3));
+        assertEquals(-1, set.add(3));
+
+        assertEquals(Arrays.asList(1, 3, 5), set.toList());
+        assertEquals(3, set.size());
+        assertEquals(5, set.get(2));
+        assertEquals(1, set.indexOf(3));
+        assertEquals(-1, set.indexOf(4));
+    }
+
+    @Test
+    public void remove_element_indexItHadReturned() {
+        IndexedTreeSet<Integer> set = new IndexedTreeSet<>(Comparator.reverseOrder());
+        set.add(1);
+        set.add(2);
+        set.add(3);
+
+        assertEquals(1, set.remove(2));
+        assertEquals(-1, set.remove(2));
+        assertEquals(Arrays.asList(3, 1), set.toList());
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        IndexedTreeSet<Integer> set = new IndexedTreeSet<>(Comparator.naturalOrder());
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(0));
+        set.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(1));
+    }
+
+    @Test
+    public void addAndRemove_manyElements_sameAsSortedList() {
+        IndexedTreeSet<Integer> set = new IndexedTreeSet<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            int element = random.nextInt(500);
+            int position = Collections.binarySearch(expected, element);
+            if (position >= 0) {
+                assertEquals(position, set.remove(element));
+                expected.remove(position);
+            } else {
+                assertEquals(-position - 1, set.add(element));
+                expected.add(-position - 1, element);
+            }
+        }
+        assertEquals(expected, set.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), set.get(i));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IntArrayListTest {
+
+    @Test
+    public void add_beyondCapacity_grows() {
+        IntArrayList list = new IntArrayList(1);
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(297, list.get(99));
+        assertEquals(33, list.indexOf(99));
+        assertFalse(list.contains(100));
+    }
+
+    @Test
+    public void removeAt_shiftsLaterElements() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertEquals(2, list.removeAt(1));
+        assertArrayEquals(new int[] {1, 3}, list.toArray());
+        assertEquals(3, list.removeLast());
+        assertEquals(1, list.set(0, 7));
+        assertArrayEquals(new int[] {7}, list.toArray());
+    }
+
+    @Test
+    public void get_outOfRange_throwsIndexOutOfBoundsException() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, list::removeLast);
+    }
+
+    @Test
+    public void equals() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        list.add(2);
+        IntArrayList sameElements = new IntArrayList(100);
+        sameElements.add(1);
+        sameElements.add(2);
+
+        assertTrue(list.equals(sameElements));
+        assertEquals(list.hashCode(), sameElements.hashCode());
+        sameElements.add(3);
+        assertFalse(list.equals(sameElements));
+        assertFalse(list.equals(null));
+    }
+}
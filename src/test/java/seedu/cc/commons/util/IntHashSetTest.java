@@ -0,0 +1,73 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHashSetTest {
+
+    @Test
+    public void add_zeroAndNegative_tracked() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.add(0));
+        assertTrue(set.add(-5));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-5));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+        assertFalse(set.remove(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void randomOperations_matchHashSet() {
+        Random random = new Random(42);
+        IntHashSet set = new IntHashSet(0);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(500) - 100;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (int value = -100; value < 400; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+        int[] values = set.toArray();
+        Arrays.sort(values);
+        assertTrue(Arrays.equals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), values));
+    }
+
+    @Test
+    public void equals() {
+        IntHashSet set = new IntHashSet();
+        IntHashSet other = new IntHashSet(100);
+        for (int i = 0; i < 10; i++) {
+            set.add(i);
+            other.add(9 - i);
+        }
+
+        assertTrue(set.equals(other));
+        assertEquals(set.hashCode(), other.hashCode());
+        other.remove(0);
+        assertFalse(set.equals(other));
+        assertFalse(set.equals(null));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntIntHashMapTest {
+
+    @Test
+    public void put_existingKey_returnsPreviousValue() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertEquals(-1, map.put(7, 70, -1));
+        assertEquals(70, map.put(7, 71, -1));
+        assertEquals(-1, map.put(0, 5, -1));
+        assertEquals(5, map.put(0, 6, -1));
+
+        assertEquals(71, map.getOrDefault(7, -1));
+        assertEquals(6, map.getOrDefault(0, -1));
+        assertEquals(-1, map.getOrDefault(8, -1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void addTo_reachesZero_removesKey() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertEquals(1, map.addTo(19000, 1));
+        assertEquals(2, map.addTo(19000, 1));
+        assertEquals(1, map.addTo(19000, -1));
+        assertEquals(0, map.addTo(19000, -1));
+        assertFalse(map.containsKey(19000));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void randomOperations_matchHashMap() {
+        Random random = new Random(7);
+        IntIntHashMap map = new IntIntHashMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(300) - 50;
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                int value = random.nextInt();
+                assertEquals((int) expected.getOrDefault(key, Integer.MIN_VALUE),
+                        map.put(key, value, Integer.MIN_VALUE));
+                expected.put(key, value);
+            } else if (operation == 1) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void equals() {
+        IntIntHashMap map = new IntIntHashMap();
+        IntIntHashMap other = new IntIntHashMap();
+        map.put(1, 10, 0);
+        map.put(0, 3, 0);
+        other.put(0, 3, 0);
+        other.put(1, 10, 0);
+
+        assertTrue(map.equals(other));
+        assertEquals(map.hashCode(), other.hashCode());
+        other.put(1, 11, 0);
+        assertFalse(map.equals(other));
+        assertFalse(map.equals(null));
+    }
+}
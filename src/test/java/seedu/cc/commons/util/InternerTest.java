@@ -0,0 +1,59 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Interner<String> interner = new Interner<>("test", value -> 0);
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>("test", value -> 10);
+        String first = new String("Insulin");
+        String second = new String("Insulin");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+        assertEquals(2, interner.getRequests());
+        assertEquals(1, interner.getHits());
+        assertEquals(10, interner.getBytesSaved());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        Interner<String> interner = new Interner<>("test", value -> 10);
+        assertSame("Insulin", interner.intern("Insulin"));
+        assertSame("Metformin", interner.intern("Metformin"));
+        assertEquals(2, interner.size());
+        assertEquals(0, interner.getHits());
+        assertEquals(0, interner.getBytesSaved());
+    }
+
+    @Test
+    public void estimateStringWrapperSize() {
+        // 16-byte wrapper, 24-byte String, 16-byte array header plus 7 bytes rounded up to 24
+        assertEquals(64, Interner.estimateStringWrapperSize("Insulin"));
+        assertEquals(56, Interner.estimateStringWrapperSize(""));
+    }
+
+    @Test
+    public void report_containsEveryInterner() {
+        Interner<String> interner = new Interner<>("reportTest", value -> 0);
+        interner.intern("Insulin");
+        String report = Interner.report();
+        assertTrue(report.contains("reportTest: 1 canonical instances"));
+        assertTrue(report.contains("Total: ~"));
+    }
+}
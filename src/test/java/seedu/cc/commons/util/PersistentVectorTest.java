@@ -0,0 +1,105 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // large enough for a root two levels deep
+    private static final int LARGE = 32 * 32 * 2 + 7;
+
+    @Test
+    public void append_manyElements_allRetrievable() {
+        PersistentVector<Integer> vector = vectorOfRange(LARGE);
+        assertEquals(LARGE, vector.size());
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(i, vector.get(i));
+        }
+        assertEquals(rangeList(LARGE), vector.toList());
+    }
+
+    @Test
+    public void set_oldVersionUnchanged() {
+        PersistentVector<Integer> original = vectorOfRange(LARGE);
+        PersistentVector<Integer> changed = original.set(5, -5).set(LARGE - 1, -1);
+
+        assertEquals(5, original.get(5));
+        assertEquals(LARGE - 1, original.get(LARGE - 1));
+        assertEquals(-5, changed.get(5));
+        assertEquals(-1, changed.get(LARGE - 1));
+    }
+
+    @Test
+    public void removeLast_downToEmpty_matchesList() {
+        PersistentVector<Integer> vector = vectorOfRange(LARGE);
+        List<Integer> expected = rangeList(LARGE);
+        while (!vector.isEmpty()) {
+            vector = vector.removeLast();
+            expected.remove(expected.size() - 1);
+            if (vector.size() % 97 == 0 || vector.size() < 40) {
+                assertEquals(expected, vector.toList());
+            }
+        }
+        assertTrue(vector.isEmpty());
+        assertThrows(NoSuchElementException.class, vector::removeLast);
+    }
+
+    @Test
+    public void insertAndRemove_sharedPrefix_matchesList() {
+        PersistentVector<Integer> original = vectorOfRange(100);
+        List<Integer> expected = rangeList(100);
+
+        PersistentVector<Integer> inserted = original.insert(0, -1).insert(50, -50).insert(102, -102);
+        expected.add(0, -1);
+        expected.add(50, -50);
+        expected.add(102, -102);
+        assertEquals(expected, inserted.toList());
+
+        PersistentVector<Integer> removed = inserted.remove(50).remove(0);
+        expected.remove(50);
+        expected.remove(0);
+        assertEquals(expected, removed.toList());
+        assertEquals(rangeList(100), original.toList());
+    }
+
+    @Test
+    public void indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = vectorOfRange(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.insert(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.remove(3));
+    }
+
+    @Test
+    public void equalsAndIndexOf() {
+        PersistentVector<Integer> vector = vectorOfRange(40);
+        assertEquals(vector, PersistentVector.of(rangeList(40)));
+        assertEquals(rangeList(40).hashCode(), vector.hashCode());
+        assertEquals(33, vector.indexOf(33));
+        assertEquals(-1, vector.indexOf(40));
+    }
+
+    private static PersistentVector<Integer> vectorOfRange(int size) {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            vector = vector.append(i);
+        }
+        return vector;
+    }
+
+    private static List<Integer> rangeList(int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
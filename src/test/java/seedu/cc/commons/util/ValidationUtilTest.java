@@ -0,0 +1,62 @@
+package seedu.cc.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.model.patient.Nric;
+import seedu.cc.model.person.Age;
+import seedu.cc.model.person.Name;
+import seedu.cc.model.person.Phone;
+import seedu.cc.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "a", "Z", "9", "ab c", " abc", "abc ", "a_b", "a-b",
+            "é", "Alex Yeoh", "S1234567A", "s1234567A", "S1234567", "S12345678A", "S123456AA", "12345678",
+            "1234567", "123456789", "9123 4567", "0", "00", "05", "99", "100", "119", "120", "121", "012", "200",
+            "1000", "-1", "+1", "1.5", "\t", "a\nb");
+
+    @Test
+    public void scanners_agreeWithRegexes() {
+        assertAgrees(Name.VALIDATION_REGEX, ValidationUtil::isAlphanumericWords);
+        assertAgrees(Tag.VALIDATION_REGEX, ValidationUtil::isAlphanumeric);
+        assertAgrees(Phone.VALIDATION_REGEX, value -> ValidationUtil.isDigits(value, 8));
+        assertAgrees(Nric.VALIDATION_REGEX, ValidationUtil::isNric);
+        assertAgrees(Age.VALIDATION_REGEX, Age::isValidAge);
+    }
+
+    @Test
+    public void isBoundedNumber() {
+        assertTrue(ValidationUtil.isBoundedNumber("007", 3, 7));
+        assertFalse(ValidationUtil.isBoundedNumber("008", 3, 7));
+        assertFalse(ValidationUtil.isBoundedNumber("0007", 3, 7));
+        assertFalse(ValidationUtil.isBoundedNumber("", 3, 7));
+    }
+
+    @Test
+    public void compile_matchesWholeString() {
+        Predicate<String> predicate = ValidationUtil.compile("\\d{2}");
+        assertTrue(predicate.test("12"));
+        assertFalse(predicate.test("123"));
+    }
+
+    @Test
+    public void nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isNric(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.compile("a").test(null));
+    }
+
+    private static void assertAgrees(String regex, Predicate<String> scanner) {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), scanner.test(sample), regex + " on \"" + sample + "\"");
+        }
+    }
+}
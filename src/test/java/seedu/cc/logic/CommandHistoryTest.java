@@ -0,0 +1,243 @@
+package seedu.cc.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.storage.CommandHistoryStorage;
+
+public class CommandHistoryTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new CommandHistory(null));
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(new StorageStub(), 0));
+    }
+
+    @Test
+    public void constructor_storageReadOnBackgroundThread() {
+        StorageStub storage = new StorageStub("list");
+        CommandHistory history = new CommandHistory(storage);
+
+        assertEquals(1, history.size());
+        assertEquals(1, history.size());
+        assertEquals(1, storage.reads);
+        assertEquals("command-history-writer", storage.readingThread);
+        history.close();
+        assertEquals(1, storage.reads);
+    }
+
+    @Test
+    public void add_beforeStoredCommandsRead_storedCommandsPutFirst() throws Exception {
+        CountDownLatch canRead = new CountDownLatch(1);
+        StorageStub storage = new StorageStub("list", "find alice") {
+            @Override
+            public List<String> readCommandHistory() throws IOException {
+                try {
+                    canRead.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                return super.readCommandHistory();
+            }
+        };
+        CommandHistory history = new CommandHistory(storage);
+
+        // The first use waits only briefly for the stored commands, and sees what has been read so far.
+        assertEquals(0, history.size());
+        history.add("list-appt 1");
+        assertEquals(Collections.singletonList("list-appt 1"), toList(history));
+
+        canRead.countDown();
+        long deadline = System.currentTimeMillis() + 20 * CommandHistory.LOAD_WAIT_MILLIS;
+        while (history.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(CommandHistory.LOAD_WAIT_MILLIS / 10);
+        }
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), toList(history));
+
+        history.close();
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), storage.commands);
+    }
+
+    @Test
+    public void add_afterStoredCommands_addedLast() {
+        CommandHistory history = new CommandHistory(new StorageStub("list", "", "find alice"));
+        history.add("list-appt 1");
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), toList(history));
+    }
+
+    @Test
+    public void add_blankOrRepeatedCommand_ignored() {
+        CommandHistory history = new CommandHistory(new StorageStub());
+        history.add("list");
+        history.add("   ");
+        history.add("list");
+        history.add("find alice");
+        history.add("list");
+        assertEquals(Arrays.asList("list", "find alice", "list"), toList(history));
+    }
+
+    @Test
+    public void add_lineBreaks_replacedWithSpaces() {
+        CommandHistory history = new CommandHistory(new StorageStub());
+        history.add("find\nalice\r\nbob");
+        assertEquals(Collections.singletonList("find alice bob"), toList(history));
+    }
+
+    @Test
+    public void add_full_oldestCommandDropped() {
+        CommandHistory history = new CommandHistory(new StorageStub("a", "b"), 3);
+        history.add("c");
+        history.add("d");
+        assertEquals(Arrays.asList("b", "c", "d"), toList(history));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(-1));
+    }
+
+    @Test
+    public void findLatestStartingWith_prefix_latestMatchBeforeIndex() {
+        CommandHistory history = new CommandHistory(new StorageStub());
+        history.add("add-appt 1 on/2024-01-01");
+        history.add("list");
+        history.add("add-appt 2 on/2024-01-02");
+        history.add("add-medhist 1 d/2024-01-01");
+
+        assertEquals(OptionalInt.of(2), history.findLatestStartingWith("add-appt", history.size()));
+        assertEquals(OptionalInt.of(0), history.findLatestStartingWith("add-appt", 2));
+        assertEquals(OptionalInt.empty(), history.findLatestStartingWith("add-appt", 0));
+        assertEquals(OptionalInt.of(3), history.findLatestStartingWith("add-", Integer.MAX_VALUE));
+        assertEquals(OptionalInt.of(3), history.findLatestStartingWith("", history.size()));
+        assertEquals(OptionalInt.empty(), history.findLatestStartingWith("delete", history.size()));
+    }
+
+    @Test
+    public void findLatestStartingWith_repeatedCommand_foundOnlyAtLatestIndex() {
+        CommandHistory history = new CommandHistory(new StorageStub(), 3);
+        history.add("find alice");
+        history.add("list");
+        history.add("find alice");
+        assertEquals(OptionalInt.of(2), history.findLatestStartingWith("find", 3));
+        assertEquals(OptionalInt.empty(), history.findLatestStartingWith("find", 2));
+
+        // Dropping the first "find alice" leaves the latest one in the index.
+        history.add("help");
+        assertEquals(OptionalInt.of(1), history.findLatestStartingWith("find", 3));
+        // Dropping "list" removes it from the index.
+        history.add("sort-patients name");
+        assertEquals(OptionalInt.empty(), history.findLatestStartingWith("list", 3));
+    }
+
+    @Test
+    public void close_addedCommands_appendedInOneBatch() {
+        StorageStub storage = new StorageStub("list");
+        CommandHistory history = new CommandHistory(storage);
+        history.add("find alice");
+        history.add("list-appt 1");
+        history.close();
+
+        assertEquals(Collections.singletonList(Arrays.asList("find alice", "list-appt 1")), storage.appended);
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), storage.commands);
+    }
+
+    @Test
+    public void add_commandWrittenOnBackgroundThread() throws Exception {
+        StorageStub storage = new StorageStub();
+        CommandHistory history = new CommandHistory(storage);
+        history.add("list");
+
+        long deadline = System.currentTimeMillis() + 10 * CommandHistory.WRITE_DELAY_MILLIS;
+        while (storage.writingThread == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(CommandHistory.WRITE_DELAY_MILLIS / 5);
+        }
+        assertEquals("command-history-writer", storage.writingThread);
+        assertEquals(Collections.singletonList("list"), storage.commands);
+        history.close();
+    }
+
+    @Test
+    public void close_storageFull_rewrittenWithCommandsKept() {
+        StorageStub storage = new StorageStub("a", "b", "c", "d");
+        CommandHistory history = new CommandHistory(storage, 2);
+        history.add("e");
+        history.close();
+
+        assertTrue(storage.appended.isEmpty());
+        assertEquals(Arrays.asList("d", "e"), storage.commands);
+    }
+
+    @Test
+    public void size_storageCannotBeRead_emptyHistory() {
+        StorageStub storage = new StorageStub() {
+            @Override
+            public List<String> readCommandHistory() throws IOException {
+                throw new IOException("unreadable");
+            }
+        };
+        CommandHistory history = new CommandHistory(storage);
+        assertEquals(0, history.size());
+        history.add("list");
+        assertEquals(Collections.singletonList("list"), toList(history));
+    }
+
+    private static List<String> toList(CommandHistory history) {
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < history.size(); i++) {
+            commands.add(history.get(i));
+        }
+        return commands;
+    }
+
+    /**
+     * A command history storage that keeps the commands in memory, and records how it was used.
+     */
+    private static class StorageStub implements CommandHistoryStorage {
+        private final List<String> commands;
+        private final List<List<String>> appended = new ArrayList<>();
+        private int reads = 0;
+        private String readingThread;
+        private volatile String writingThread;
+
+        StorageStub(String... commands) {
+            this.commands = new ArrayList<>(Arrays.asList(commands));
+        }
+
+        @Override
+        public Path getCommandHistoryFilePath() {
+            return Paths.get("history.txt");
+        }
+
+        @Override
+        public synchronized List<String> readCommandHistory() throws IOException {
+            reads++;
+            readingThread = Thread.currentThread().getName();
+            return new ArrayList<>(commands);
+        }
+
+        @Override
+        public synchronized void appendCommandHistory(List<String> toAppend) {
+            appended.add(new ArrayList<>(toAppend));
+            commands.addAll(toAppend);
+            writingThread = Thread.currentThread().getName();
+        }
+
+        @Override
+        public synchronized void saveCommandHistory(List<String> toSave) {
+            commands.clear();
+            commands.addAll(toSave);
+            writingThread = Thread.currentThread().getName();
+        }
+    }
+}
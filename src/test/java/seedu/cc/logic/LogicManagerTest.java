@@ -1,6 +1,8 @@
 package seedu.cc.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cc.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
 import static seedu.cc.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.cc.logic.commands.CommandTestUtil.AGE_DESC_AMY;
@@ -14,6 +16,7 @@ import static seedu.cc.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +36,7 @@ import seedu.cc.model.patient.Patient;
 import seedu.cc.storage.JsonClinicBookStorage;
 import seedu.cc.storage.JsonUserPrefsStorage;
 import seedu.cc.storage.StorageManager;
+import seedu.cc.storage.TextCommandHistoryStorage;
 import seedu.cc.testutil.PatientBuilder;
 
 public class LogicManagerTest {
@@ -50,7 +54,9 @@ public class LogicManagerTest {
         JsonClinicBookStorage clinicBookStorage =
                 new JsonClinicBookStorage(temporaryFolder.resolve("clinicBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(clinicBookStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("commandHistory.txt"));
+        StorageManager storage = new StorageManager(clinicBookStorage, userPrefsStorage, commandHistoryStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -72,6 +78,15 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_cancelledBeforeSaving_clinicBookSaved() throws Exception {
+        Path clinicBookFile = temporaryFolder.resolve("clinicBook.json");
+        // A request to cancel that comes once the command is done must not interrupt saving.
+        logic.execute(ListCommand.COMMAND_WORD, () -> Thread.currentThread().interrupt());
+        assertFalse(Thread.interrupted());
+        assertTrue(Files.exists(clinicBookFile));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -162,7 +177,9 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(clinicBookStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("ExceptionCommandHistory.txt"));
+        StorageManager storage = new StorageManager(clinicBookStorage, userPrefsStorage, commandHistoryStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -8,14 +8,18 @@ import static seedu.cc.testutil.Assert.assertThrows;
 import static seedu.cc.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.cc.commons.core.GuiSettings;
 import seedu.cc.logic.Messages;
@@ -28,6 +32,8 @@ import seedu.cc.model.appointment.AppointmentEvent;
 import seedu.cc.model.appointment.Prescription;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.Patient;
+import seedu.cc.model.patient.PatientSortOrder;
+import seedu.cc.model.tag.TagQuery;
 import seedu.cc.testutil.PatientBuilder;
 
 public class AddCommandTest {
@@ -128,6 +134,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPatients(List<Patient> patients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setClinicBook(ReadOnlyClinicBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -138,6 +149,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyClinicBook getClinicBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoClinicBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoClinicBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoClinicBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoClinicBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatient(Patient patient) {
             throw new AssertionError("This method should not be called.");
@@ -163,6 +214,61 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPatientListByTags(TagQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePatientSortOrder(PatientSortOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Patient> findPatientsByPhone(String phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Patient> findPatientsByEmail(String email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Patient> getRecentlySeenPatients(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Patient> getUpcomingPatients(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countAppointmentsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archiveMedicalHistoryBefore(LocalDate cutoff) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFocusedPatient(Patient patient) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyObjectProperty<Patient> focusedPatientProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyIntegerProperty focusedPatientIndexProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== Medical History Events =============================================================
 
         @Override
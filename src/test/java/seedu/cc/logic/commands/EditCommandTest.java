@@ -93,10 +93,13 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPatient));
 
+        // the filter is kept, so the renamed patient no longer matches it
         Model expectedModel = new ModelManager(new ClinicBook(model.getClinicBook()), new UserPrefs());
+        showPatientAtIndex(expectedModel, INDEX_FIRST_PATIENT);
         expectedModel.setPatient(model.getFilteredPatientList().get(0), editedPatient);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPatientList().isEmpty());
     }
 
     @Test
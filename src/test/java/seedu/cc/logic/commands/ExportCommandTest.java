@@ -0,0 +1,118 @@
+package seedu.cc.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.util.Date;
+import seedu.cc.storage.ExportFilter;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, ExportFilter.all()));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("a.csv"), null));
+    }
+
+    @Test
+    public void execute_ndjson_exportedWithoutChangingModel() throws Exception {
+        Path file = testFolder.resolve("export.ndjson");
+        CommandResult result = new ExportCommand(file, ExportFilter.all()).execute(model);
+
+        long patients = model.getClinicBook().getPatientList().size();
+        assertTrue(result.getFeedbackToUser().startsWith("Exported " + patients + " patients"));
+        assertTrue(result.getFeedbackToUser().endsWith(" to " + file));
+        assertTrue(Files.lines(file).count() >= patients);
+        assertEquals(new ModelManager(getTypicalClinicBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_noMatchingPatients_emptyFilesWritten() {
+        Path file = testFolder.resolve("export.csv");
+        ExportFilter filter = new ExportFilter(null, null, Set.of(new Tag("nobody")));
+        String files = String.join(", ", testFolder.resolve("export-patients.csv").toString(),
+                testFolder.resolve("export-appointments.csv").toString(),
+                testFolder.resolve("export-prescriptions.csv").toString(),
+                testFolder.resolve("export-medical-history.csv").toString());
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+
+        assertCommandSuccess(new ExportCommand(file, filter), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 0, 0, 0, 0, files), expectedModel);
+    }
+
+    @Test
+    public void execute_cannotWrite_failure() throws Exception {
+        Path notDirectory = Files.createFile(testFolder.resolve("file"));
+        Path file = notDirectory.resolve("export.ndjson");
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ExportCommand(file, ExportFilter.all()).execute(model));
+        assertTrue(exception.getMessage().startsWith(String.format(ExportCommand.MESSAGE_CANNOT_WRITE, file, "")));
+    }
+
+    @Test
+    public void execute_interrupted_cancelled() throws Exception {
+        Path file = testFolder.resolve("export.ndjson");
+
+        Thread.currentThread().interrupt();
+        assertCommandFailure(new ExportCommand(file, ExportFilter.all()), model,
+                String.format(ExportCommand.MESSAGE_CANCELLED, file));
+        assertFalse(Files.exists(file));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void equals() {
+        ExportFilter filter = new ExportFilter(new Date("2024-01-01"), null, Collections.emptySet());
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.csv"), filter);
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("a.csv"),
+                new ExportFilter(new Date("2024-01-01"), null, Collections.emptySet()))));
+        assertEquals(exportCommand.hashCode(), new ExportCommand(Paths.get("a.csv"),
+                new ExportFilter(new Date("2024-01-01"), null, Collections.emptySet())).hashCode());
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("b.csv"), filter)));
+
+        // different filter -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), ExportFilter.all())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("a.csv");
+        ExportFilter filter = ExportFilter.all();
+        String expected = ExportCommand.class.getCanonicalName() + "{file=" + file + ", filter=" + filter + "}";
+        assertEquals(expected, new ExportCommand(file, filter).toString());
+    }
+}
@@ -17,4 +17,10 @@ public class HelpCommandTest {
         CommandResult expectedCommandResult = new CommandResult(SHOWING_HELP_MESSAGE, true, false);
         assertCommandSuccess(new HelpCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_helpWithCommandUsage_showsUsage() {
+        CommandResult expectedCommandResult = new CommandResult(ExitCommand.MESSAGE_USAGE);
+        assertCommandSuccess(new HelpCommand(ExitCommand.MESSAGE_USAGE), model, expectedCommandResult, expectedModel);
+    }
 }
@@ -0,0 +1,167 @@
+package seedu.cc.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.testutil.TypicalPatients.AMY;
+import static seedu.cc.testutil.TypicalPatients.BOB;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.cc.logic.commands.exceptions.CommandException;
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+import seedu.cc.model.patient.Patient;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.storage.PatientFileReader;
+
+public class ImportCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportCommandTest");
+    private static final Path PATIENTS_WITH_IDS_FILE = TEST_DATA_FOLDER.resolve("patientsWithIds.json");
+
+    private static final String HEADER = "name,nric,age,phone,email,tags";
+    private static final String AMY_ROW = "Amy Bee,S1234568A,33,11111111,amy@example.com,hypertension";
+    private static final String BOB_ROW = "Bob Choo,S1234568B,44,22222222,bob@example.com,asthma;hypertension";
+    /** Has the NRIC of Alice Pauline in the typical clinic book. */
+    private static final String ALICE_NRIC_ROW = "Alice Tan,S1234567A,30,12345678,tan@example.com,";
+    /** Has the name of Benson Meier in the typical clinic book. */
+    private static final String BENSON_NAME_ROW = "Benson Meier,S7654321Z,46,98765432,other@example.com,";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+
+    @Test
+    public void execute_newPatients_addedInOneChange() throws Exception {
+        Path file = writeCsv(HEADER, AMY_ROW, BOB_ROW);
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        expectedModel.addPatients(Arrays.asList(AMY, BOB));
+
+        List<String> changes = new ArrayList<>();
+        model.getClinicBook().getPatientList()
+                .addListener((ListChangeListener<Patient>) change -> changes.add("changed"));
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, file),
+                expectedModel);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void execute_jsonPatientsWithIds_givenNewIds() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        expectedModel.addPatients(Arrays.asList(AMY, BOB));
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, PATIENTS_WITH_IDS_FILE);
+        assertCommandSuccess(new ImportCommand(PATIENTS_WITH_IDS_FILE), model, expectedMessage, expectedModel);
+        List<Patient> patients = model.getClinicBook().getPatientList();
+        int typicalCount = getTypicalClinicBook().getPatientList().size();
+        assertEquals(0, patients.get(0).getId());
+        assertEquals(typicalCount, patients.get(typicalCount).getId());
+        assertEquals(typicalCount + 1, patients.get(typicalCount + 1).getId());
+    }
+
+    @Test
+    public void execute_duplicates_skipped() throws Exception {
+        Path file = writeCsv(HEADER, AMY_ROW, ALICE_NRIC_ROW, BENSON_NAME_ROW, AMY_ROW);
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        expectedModel.addPatient(AMY);
+
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 1, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_skippedPatientSharesNameOrNricWithLaterPatient_laterPatientAdded() throws Exception {
+        // Skipped for Alice Pauline's NRIC and Benson Meier's name, but with the name and NRIC of Amy and Bob.
+        String aliceNricAmyName = "Amy Bee,S1234567A,30,12345678,tan@example.com,";
+        String bensonNameBobNric = "Benson Meier,S1234568B,46,98765432,other@example.com,";
+        Path file = writeCsv(HEADER, aliceNricAmyName, bensonNameBobNric, AMY_ROW, BOB_ROW);
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        expectedModel.addPatients(Arrays.asList(AMY, BOB));
+
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRecords_nothingImported() throws Exception {
+        List<String> lines = new ArrayList<>(Arrays.asList(HEADER, AMY_ROW));
+        for (int i = 0; i < ImportCommand.MAX_INVALID_RECORDS_SHOWN + 2; i++) {
+            lines.add("Patient " + i + ",S1234568A,33,11111111,amy@example.com,bad tag!");
+        }
+        Path file = writeCsv(lines.toArray(new String[0]));
+
+        StringBuilder expectedMessage = new StringBuilder(String.format(ImportCommand.MESSAGE_INVALID_RECORDS, file));
+        for (int i = 0; i < ImportCommand.MAX_INVALID_RECORDS_SHOWN; i++) {
+            expectedMessage.append('\n').append(String.format(PatientFileReader.MESSAGE_INVALID_RECORD, i + 2,
+                    Tag.MESSAGE_CONSTRAINTS));
+        }
+        expectedMessage.append(String.format(ImportCommand.MESSAGE_MORE_INVALID_RECORDS, 2));
+        assertCommandFailure(new ImportCommand(file), model, expectedMessage.toString());
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path file = testFolder.resolve("missing.csv");
+        CommandException exception = assertThrows(CommandException.class, () -> new ImportCommand(file).execute(model));
+        assertTrue(exception.getMessage().startsWith(String.format(ImportCommand.MESSAGE_CANNOT_READ, file, "")));
+        assertEquals(new ModelManager(getTypicalClinicBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_interrupted_cancelled() throws Exception {
+        Path file = writeCsv(HEADER, AMY_ROW);
+
+        Thread.currentThread().interrupt();
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_CANCELLED, file));
+        assertFalse(model.hasPatient(AMY));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertEquals(importCommand.hashCode(), new ImportCommand(Paths.get("a.csv")).hashCode());
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("a.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{file=" + file + "}";
+        assertEquals(expected, new ImportCommand(file).toString());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = testFolder.resolve("patients.csv");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
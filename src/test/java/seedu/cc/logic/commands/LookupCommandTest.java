@@ -0,0 +1,87 @@
+package seedu.cc.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.logic.commands.CommandTestUtil.showPatientAtIndex;
+import static seedu.cc.testutil.TypicalIndexes.INDEX_SECOND_PATIENT;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.BENSON;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.Messages;
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+import seedu.cc.model.patient.PatientSortOrder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+
+    @Test
+    public void execute_formattedPhone_patientFocused() {
+        showPatientAtIndex(model, INDEX_SECOND_PATIENT);
+        String expectedMessage = String.format(LookupCommand.MESSAGE_SUCCESS, Messages.format(ALICE));
+
+        assertCommandSuccess(new LookupCommand("+65 9435-1253"), model, expectedMessage, expectedModel);
+        assertEquals(ALICE, model.focusedPatientProperty().get());
+        assertEquals(0, model.focusedPatientIndexProperty().get());
+        assertEquals(0, model.currentTabProperty().get());
+    }
+
+    @Test
+    public void execute_sortedList_indexInSortedList() {
+        model.updatePatientSortOrder(PatientSortOrder.AGE);
+        expectedModel.updatePatientSortOrder(PatientSortOrder.AGE);
+        String expectedMessage = String.format(LookupCommand.MESSAGE_SUCCESS, Messages.format(BENSON));
+
+        assertCommandSuccess(new LookupCommand("johnd@example.com"), model, expectedMessage, expectedModel);
+        assertEquals(model.getFilteredPatientList().indexOf(BENSON), model.focusedPatientIndexProperty().get());
+    }
+
+    @Test
+    public void execute_emailDifferentCase_patientFocused() {
+        String expectedMessage = String.format(LookupCommand.MESSAGE_SUCCESS, Messages.format(BENSON));
+
+        assertCommandSuccess(new LookupCommand("JohnD@Example.com"), model, expectedMessage, expectedModel);
+        assertEquals(BENSON, model.focusedPatientProperty().get());
+    }
+
+    @Test
+    public void execute_unknownContact_throwsCommandException() {
+        assertCommandFailure(new LookupCommand("11112222"), model,
+                String.format(LookupCommand.MESSAGE_NOT_FOUND, "11112222"));
+        assertEquals(null, model.focusedPatientProperty().get());
+        assertEquals(-1, model.focusedPatientIndexProperty().get());
+    }
+
+    @Test
+    public void equals() {
+        LookupCommand lookupPhoneCommand = new LookupCommand("94351253");
+        LookupCommand lookupEmailCommand = new LookupCommand("alice@example.com");
+
+        // same object -> returns true
+        assertTrue(lookupPhoneCommand.equals(lookupPhoneCommand));
+
+        // same values -> returns true
+        assertTrue(lookupPhoneCommand.equals(new LookupCommand("94351253")));
+        assertEquals(lookupPhoneCommand.hashCode(), new LookupCommand("94351253").hashCode());
+
+        // different types -> returns false
+        assertFalse(lookupPhoneCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupPhoneCommand.equals(null));
+
+        // different contact -> returns false
+        assertFalse(lookupPhoneCommand.equals(lookupEmailCommand));
+    }
+}
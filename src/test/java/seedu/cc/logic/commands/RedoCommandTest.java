@@ -0,0 +1,49 @@
+package seedu.cc.logic.commands;
+
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneChange_redone() {
+        Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        expectedModel.deletePatient(ALICE);
+        model.beginTransaction();
+        model.deletePatient(ALICE);
+        model.commitTransaction();
+        model.undoClinicBook();
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() {
+        Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        model.beginTransaction();
+        model.deletePatient(ALICE);
+        model.commitTransaction();
+        model.undoClinicBook();
+        model.beginTransaction();
+        model.setClinicBook(new ModelManager().getClinicBook());
+        model.commitTransaction();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.cc.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.testutil.TypicalPatients.AMY;
+import static seedu.cc.testutil.TypicalPatients.BOB;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.commons.core.index.Index;
+import seedu.cc.logic.Messages;
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final Path SCRIPT_PATH = Paths.get("script.txt");
+
+    private final Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+
+    @Test
+    public void execute_allLinesSucceed_success() {
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, Arrays.asList(
+                new RunCommand.Line(1, new AddCommand(AMY)),
+                new RunCommand.Line(3, new AddCommand(BOB))));
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        expectedModel.addPatient(AMY);
+        expectedModel.addPatient(BOB);
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 2, SCRIPT_PATH),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_lineFails_earlierLinesRolledBack() {
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, Arrays.asList(
+                new RunCommand.Line(1, new AddCommand(AMY)),
+                new RunCommand.Line(2, new DeleteCommand(Index.fromOneBased(100)))));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 2, SCRIPT_PATH,
+                Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX));
+        assertFalse(model.hasPatient(AMY));
+    }
+
+    @Test
+    public void execute_interrupted_cancelledAndRolledBack() {
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, Arrays.asList(
+                new RunCommand.Line(1, new AddCommand(AMY)),
+                new RunCommand.Line(2, new AddCommand(BOB))));
+
+        Thread.currentThread().interrupt();
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_CANCELLED, 0, 2, SCRIPT_PATH));
+        assertFalse(model.hasPatient(AMY));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH,
+                Collections.singletonList(new RunCommand.Line(1, new AddCommand(AMY))));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(SCRIPT_PATH,
+                Collections.singletonList(new RunCommand.Line(1, new AddCommand(AMY))))));
+        assertEquals(runCommand.hashCode(), new RunCommand(SCRIPT_PATH,
+                Collections.singletonList(new RunCommand.Line(1, new AddCommand(AMY)))).hashCode());
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different line number -> returns false
+        assertFalse(runCommand.equals(new RunCommand(SCRIPT_PATH,
+                Collections.singletonList(new RunCommand.Line(2, new AddCommand(AMY))))));
+
+        // different script -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"),
+                Collections.singletonList(new RunCommand.Line(1, new AddCommand(AMY))))));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.cc.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.testutil.TypicalIndexes.INDEX_THIRD_PATIENT;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.BENSON;
+import static seedu.cc.testutil.TypicalPatients.CARL;
+import static seedu.cc.testutil.TypicalPatients.DANIEL;
+import static seedu.cc.testutil.TypicalPatients.ELLE;
+import static seedu.cc.testutil.TypicalPatients.FIONA;
+import static seedu.cc.testutil.TypicalPatients.GEORGE;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.Messages;
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+import seedu.cc.model.patient.Patient;
+import seedu.cc.model.patient.PatientSortOrder;
+import seedu.cc.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+
+    @Test
+    public void execute_sortByAge_patientsSorted() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, PatientSortOrder.AGE);
+        expectedModel.updatePatientSortOrder(PatientSortOrder.AGE);
+
+        assertCommandSuccess(new SortCommand(PatientSortOrder.AGE), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, GEORGE, FIONA, CARL, ELLE), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_addAndEditAfterSort_orderMaintained() {
+        model.updatePatientSortOrder(PatientSortOrder.AGE);
+
+        Patient youngest = new PatientBuilder().withNric("S7654321A").withAge("1").build();
+        model.addPatient(youngest);
+        assertEquals(youngest, model.getFilteredPatientList().get(0));
+
+        Patient olderAlice = new PatientBuilder(ALICE).withAge("99").build();
+        model.setPatient(ALICE, olderAlice);
+        assertEquals(olderAlice, model.getFilteredPatientList().get(model.getFilteredPatientList().size() - 1));
+    }
+
+    @Test
+    public void execute_deleteAfterSort_resolvesAgainstSortedList() {
+        model.updatePatientSortOrder(PatientSortOrder.AGE);
+        expectedModel.updatePatientSortOrder(PatientSortOrder.AGE);
+        expectedModel.deletePatient(DANIEL);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(DANIEL));
+        assertCommandSuccess(new DeleteCommand(INDEX_THIRD_PATIENT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByNameCommand = new SortCommand(PatientSortOrder.NAME);
+        SortCommand sortByAgeCommand = new SortCommand(PatientSortOrder.AGE);
+
+        // same object -> returns true
+        assertTrue(sortByNameCommand.equals(sortByNameCommand));
+
+        // same values -> returns true
+        assertTrue(sortByNameCommand.equals(new SortCommand(PatientSortOrder.NAME)));
+        assertEquals(sortByNameCommand.hashCode(), new SortCommand(PatientSortOrder.NAME).hashCode());
+
+        // different types -> returns false
+        assertFalse(sortByNameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByNameCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortByNameCommand.equals(sortByAgeCommand));
+    }
+}
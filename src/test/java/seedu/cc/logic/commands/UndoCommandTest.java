@@ -0,0 +1,45 @@
+package seedu.cc.logic.commands;
+
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cc.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.model.Model;
+import seedu.cc.model.ModelManager;
+import seedu.cc.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChanges_failure() {
+        Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_committedChange_undone() {
+        Model model = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalClinicBook(), new UserPrefs());
+        model.beginTransaction();
+        model.deletePatient(ALICE);
+        model.commitTransaction();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_historyDepthZero_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        Model model = new ModelManager(getTypicalClinicBook(), userPrefs);
+        model.beginTransaction();
+        model.deletePatient(ALICE);
+        model.commitTransaction();
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
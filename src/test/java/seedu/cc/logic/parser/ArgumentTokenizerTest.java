@@ -136,6 +136,26 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestMatched() {
+        Prefix p = new Prefix("p");
+        Prefix pi = new Prefix("pi/");
+        String argsString = " 1 pi/2 p 3 pit/4";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, p, pSlash, pi);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, pi, "2");
+        assertArgumentPresent(argMultimap, p, "3", "it/4");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void tokenize_duplicatePrefixes_valuesRecordedOnce() {
+        String argsString = "preamble p/ one p/two";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, new Prefix("p/"));
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "one", "two");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,8 +1,12 @@
 package seedu.cc.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.Messages.MESSAGE_UNABBREVIATED_COMMAND;
 import static seedu.cc.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.cc.testutil.Assert.assertThrows;
 import static seedu.cc.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.cc.logic.commands.AddCommand;
 import seedu.cc.logic.commands.ClearCommand;
+import seedu.cc.logic.commands.Command;
 import seedu.cc.logic.commands.DeleteCommand;
 import seedu.cc.logic.commands.EditCommand;
 import seedu.cc.logic.commands.EditCommand.EditPatientDescriptor;
@@ -22,6 +27,9 @@ import seedu.cc.logic.commands.ExitCommand;
 import seedu.cc.logic.commands.FindCommand;
 import seedu.cc.logic.commands.HelpCommand;
 import seedu.cc.logic.commands.ListCommand;
+import seedu.cc.logic.commands.RedoCommand;
+import seedu.cc.logic.commands.UndoCommand;
+import seedu.cc.logic.commands.appointmentcommands.DeleteAppointmentEventCommand;
 import seedu.cc.logic.parser.exceptions.ParseException;
 import seedu.cc.model.patient.Patient;
 import seedu.cc.model.patient.PatientNameContainsKeywordsPredicate;
@@ -62,6 +70,12 @@ public class ClinicBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PATIENT, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -80,6 +94,32 @@ public class ClinicBookParserTest {
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
+        assertEquals(new HelpCommand(AddCommand.MESSAGE_USAGE),
+                parser.parseCommand(HelpCommand.COMMAND_WORD + " " + AddCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_abbreviationAndAlias() throws Exception {
+        assertTrue(parser.parseCommand("exi") instanceof ExitCommand);
+        assertEquals(parser.parseCommand(DeleteAppointmentEventCommand.COMMAND_WORD + " 1 pi/1"),
+                parser.parseCommand("delete-appointment 1 pi/1"));
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND,
+                "delete-appointment, delete-appt, delete-medical-history, delete-patient, delete-prescription"), ()
+                -> parser.parseCommand("del 1"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedDeletingCommand_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND, ClearCommand.COMMAND_WORD), ()
+                -> parser.parseCommand("c"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND, ClearCommand.COMMAND_WORD), ()
+                -> parser.parseCommand("clea"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND, DeleteCommand.COMMAND_WORD), ()
+                -> parser.parseCommand("delete-pa " + INDEX_FIRST_PATIENT.getOneBased()));
     }
 
     @Test
@@ -98,4 +138,33 @@ public class ClinicBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_repeatedReadOnlyCommand_parsedOnce() throws Exception {
+        ClinicBookParser cachingParser = new ClinicBookParser();
+        Command first = cachingParser.parseCommand("find-tag tag:Diabetic");
+        assertSame(first, cachingParser.parseCommand("  find-tag   tag:Diabetic "));
+        // An abbreviation of the command word shares the entry of the whole word.
+        assertSame(first, cachingParser.parseCommand("find-t tag:Diabetic"));
+        assertNotSame(first, cachingParser.parseCommand("find-tag tag:Elderly"));
+        assertEquals(new ParsedCommandCache.Statistics(2, 2, 2, ParsedCommandCache.DEFAULT_CAPACITY),
+                cachingParser.getCacheStatistics());
+    }
+
+    @Test
+    public void parseCommand_commandThatChangesClinicBook_notCached() throws Exception {
+        ClinicBookParser cachingParser = new ClinicBookParser();
+        Command first = cachingParser.parseCommand(DeleteCommand.COMMAND_WORD + " 1");
+        assertNotSame(first, cachingParser.parseCommand(DeleteCommand.COMMAND_WORD + " 1"));
+        assertEquals(0, cachingParser.getCacheStatistics().getHits() + cachingParser.getCacheStatistics().getMisses());
+    }
+
+    @Test
+    public void parseCommand_invalidReadOnlyCommand_notCached() {
+        ClinicBookParser cachingParser = new ClinicBookParser();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ParseException.class, () -> cachingParser.parseCommand(FindCommand.COMMAND_WORD));
+        }
+        assertEquals(0, cachingParser.getCacheStatistics().getSize());
+    }
 }
@@ -0,0 +1,120 @@
+package seedu.cc.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.commands.ClearCommand;
+import seedu.cc.logic.commands.Command;
+import seedu.cc.logic.commands.ExitCommand;
+import seedu.cc.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<ListCommand> listParser = args -> new ListCommand();
+    private final Parser<ClearCommand> clearParser = args -> new ClearCommand();
+    private final Parser<ExitCommand> exitParser = args -> new ExitCommand();
+
+    private CommandRegistry createRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", "list usage", listParser);
+        registry.register("list-all", "list-all usage", clearParser, "ls");
+        registry.register("exit", "exit usage", exitParser, "exit-now");
+        return registry;
+    }
+
+    @Test
+    public void getParser_wordsAndAliases_sameParserEveryTime() {
+        CommandRegistry registry = createRegistry();
+        assertSame(listParser, registry.getParser("list").get());
+        assertSame(clearParser, registry.getParser("list-all").get());
+        assertSame(clearParser, registry.getParser("ls").get());
+        assertEquals(Optional.of("list-all usage"), registry.getUsage("ls"));
+        assertEquals(Optional.of("list-all"), registry.getCommandWord("ls"));
+        assertEquals(Optional.empty(), registry.getParser("unknown"));
+    }
+
+    @Test
+    public void getParser_abbreviations_resolvedOnlyIfUnambiguous() {
+        CommandRegistry registry = createRegistry();
+        // "li" starts both list and list-all, but "list-" starts list-all only.
+        assertEquals(Optional.empty(), registry.getParser("li"));
+        assertSame(clearParser, registry.getParser("list-").get());
+        // "ex" starts exit and its alias exit-now, which are the same command.
+        assertSame(exitParser, registry.getParser("ex").get());
+        assertSame(exitParser, registry.getParser("exit-n").get());
+        // "l" also starts the alias ls.
+        assertEquals(Optional.empty(), registry.getParser("l"));
+    }
+
+    @Test
+    public void registerUnabbreviated_abbreviations_notResolved() {
+        CommandRegistry registry = createRegistry();
+        registry.registerUnabbreviated("clear", "clear usage", clearParser, "wipe");
+        registry.register("clone", "clone usage", listParser);
+        assertSame(clearParser, registry.getParser("clear").get());
+        assertSame(clearParser, registry.getParser("wipe").get());
+        assertEquals(Optional.empty(), registry.getParser("clea"));
+        assertEquals(Optional.empty(), registry.getParser("w"));
+        // "cl" also starts clone, but could be meant as clear.
+        assertEquals(Optional.empty(), registry.getParser("cl"));
+        assertSame(listParser, registry.getParser("clo").get());
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = createRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.register("ls", "usage", exitParser));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("new", "usage", exitParser, "exit"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("two words", "usage", exitParser));
+        assertEquals(Arrays.asList("list", "list-all", "exit"), registry.getCommandWords());
+    }
+
+    @Test
+    public void getCompletions_prefix_sortedWordsAndAliases() {
+        CommandRegistry registry = createRegistry();
+        assertEquals(Arrays.asList("list", "list-all", "ls"), registry.getCompletions("l"));
+        assertEquals(Arrays.asList("exit", "exit-now"), registry.getCompletions("exit"));
+        assertEquals(Collections.emptyList(), registry.getCompletions("x"));
+    }
+
+    @Test
+    public void complete_prefix_extendedToCommonPrefix() {
+        CommandRegistry registry = createRegistry();
+        assertEquals("list", registry.complete("li"));
+        assertEquals("list-all ", registry.complete("list-"));
+        assertEquals("exit", registry.complete("e"));
+        assertEquals("ls ", registry.complete("ls"));
+        assertEquals("x", registry.complete("x"));
+    }
+
+    @Test
+    public void isCacheable_registeredAsCacheable_trueForWordsAliasesAndAbbreviations() {
+        CommandRegistry registry = createRegistry();
+        registry.registerCacheable("find", "find usage", listParser, "search");
+        assertTrue(registry.isCacheable("find"));
+        assertTrue(registry.isCacheable("search"));
+        assertTrue(registry.isCacheable("fi"));
+        assertFalse(registry.isCacheable("list"));
+        assertFalse(registry.isCacheable("unknown"));
+    }
+
+    @Test
+    public void getParser_clinicBookCommands_allRegistered() throws Exception {
+        CommandRegistry registry = new ClinicBookParser().getCommandRegistry();
+        for (String commandWord : registry.getCommandWords()) {
+            Optional<Parser<? extends Command>> parser = registry.getParser(commandWord);
+            assertTrue(parser.isPresent());
+            assertSame(parser.get(), registry.getParser(commandWord).get());
+            assertTrue(registry.getUsage(commandWord).get().startsWith(commandWord));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.Messages;
+import seedu.cc.logic.commands.ExportCommand;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.util.Date;
+import seedu.cc.storage.ClinicBookExporter;
+import seedu.cc.storage.ExportFilter;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_exportsEverything() {
+        assertParseSuccess(parser, " reports/export.csv ",
+                new ExportCommand(Paths.get("reports", "export.csv"), ExportFilter.all()));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        ExportFilter filter = new ExportFilter(new Date("2024-01-01"), new Date("2024-03-31"),
+                Set.of(new Tag("Diabetes"), new Tag("Asthma")));
+        assertParseSuccess(parser, " export.ndjson from/2024-01-01 to/2024-03-31 t/Diabetes t/Asthma",
+                new ExportCommand(Paths.get("export.ndjson"), filter));
+    }
+
+    @Test
+    public void parse_openRange_success() {
+        assertParseSuccess(parser, " export.ndjson to/2024-03-31", new ExportCommand(Paths.get("export.ndjson"),
+                new ExportFilter(null, new Date("2024-03-31"), Collections.emptySet())));
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        assertParseFailure(parser, " from/2024-01-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_failure() {
+        assertParseFailure(parser, " export.json", ClinicBookExporter.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDate_failure() {
+        assertParseFailure(parser, " export.csv from/2024-13-01", Date.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_startAfterEnd_failure() {
+        assertParseFailure(parser, " export.csv from/2024-03-31 to/2024-01-01", ExportFilter.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_duplicateFrom_failure() {
+        assertParseFailure(parser, " export.csv from/2024-01-01 from/2024-02-01",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FROM));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.commands.FindTagCommand;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.tag.TagQuery;
+
+public class FindTagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE);
+
+    private FindTagCommandParser parser = new FindTagCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        // dangling operator
+        assertParseFailure(parser, "tag:Asthma AND", MESSAGE_INVALID_FORMAT);
+
+        // leading binary operator
+        assertParseFailure(parser, "OR tag:Asthma", MESSAGE_INVALID_FORMAT);
+
+        // unbalanced parentheses
+        assertParseFailure(parser, "(tag:Asthma OR tag:Diabetic", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:Asthma)", MESSAGE_INVALID_FORMAT);
+
+        // invalid tag name
+        assertParseFailure(parser, "tag:Asthma AND tag:#friend", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindTagCommand() {
+        TagQuery diabetic = TagQuery.tag("diabetic");
+        TagQuery elderly = TagQuery.tag("elderly");
+        TagQuery deceased = TagQuery.tag("deceased");
+
+        // single tag, with and without the tag: prefix
+        assertParseSuccess(parser, "tag:Diabetic", new FindTagCommand(diabetic));
+        assertParseSuccess(parser, " Diabetic ", new FindTagCommand(diabetic));
+
+        // NOT reads as AND NOT, evaluated left to right
+        FindTagCommand expected = new FindTagCommand(
+                TagQuery.and(TagQuery.and(diabetic, elderly), TagQuery.not(deceased)));
+        assertParseSuccess(parser, "tag:diabetic AND tag:elderly NOT tag:deceased", expected);
+
+        // implicit AND and lowercase operators
+        assertParseSuccess(parser, "tag:diabetic tag:elderly and not tag:deceased", expected);
+
+        // AND binds tighter than OR
+        assertParseSuccess(parser, "tag:diabetic OR tag:elderly AND tag:deceased",
+                new FindTagCommand(TagQuery.or(diabetic, TagQuery.and(elderly, deceased))));
+
+        // parentheses override precedence
+        assertParseSuccess(parser, "(tag:diabetic OR tag:elderly) AND tag:deceased",
+                new FindTagCommand(TagQuery.and(TagQuery.or(diabetic, elderly), deceased)));
+    }
+
+}
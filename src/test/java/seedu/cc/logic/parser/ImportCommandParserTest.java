@@ -0,0 +1,33 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.commands.ImportCommand;
+import seedu.cc.storage.PatientFileReader;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_supportedFile_returnsImportCommand() {
+        assertParseSuccess(parser, " data/patients.csv ", new ImportCommand(Paths.get("data", "patients.csv")));
+        assertParseSuccess(parser, " patients.json", new ImportCommand(Paths.get("patients.json")));
+    }
+
+    @Test
+    public void parse_emptyArgs_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_failure() {
+        assertParseFailure(parser, " patients.txt", PatientFileReader.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.commands.LookupCommand;
+import seedu.cc.model.person.Email;
+import seedu.cc.model.person.Phone;
+
+public class LookupCommandParserTest {
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidContact_throwsParseException() {
+        assertParseFailure(parser, "9435", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "alice@", Email.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        assertParseSuccess(parser, " 94351253 ", new LookupCommand("94351253"));
+        assertParseSuccess(parser, "+65 9435 1253", new LookupCommand("+65 9435 1253"));
+        assertParseSuccess(parser, "alice@example.com", new LookupCommand("alice@example.com"));
+    }
+}
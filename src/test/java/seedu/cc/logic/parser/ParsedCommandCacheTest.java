@@ -0,0 +1,66 @@
+package seedu.cc.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.commands.Command;
+import seedu.cc.logic.commands.ExitCommand;
+import seedu.cc.logic.commands.ListCommand;
+
+public class ParsedCommandCacheTest {
+
+    private final Command list = new ListCommand();
+    private final Command exit = new ExitCommand();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParsedCommandCache(0));
+    }
+
+    @Test
+    public void get_cachedAndUncached_countsHitsAndMisses() {
+        ParsedCommandCache cache = new ParsedCommandCache(2);
+        assertEquals(Optional.empty(), cache.get("list"));
+        cache.put("list", list);
+        assertSame(list, cache.get("list").get());
+        assertSame(list, cache.get("list").get());
+
+        ParsedCommandCache.Statistics statistics = cache.getStatistics();
+        assertEquals(new ParsedCommandCache.Statistics(2, 1, 1, 2), statistics);
+        assertEquals(2.0 / 3, statistics.getHitRate());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        ParsedCommandCache cache = new ParsedCommandCache(2);
+        cache.put("list", list);
+        cache.put("exit", exit);
+        // Using list makes exit the least recently used.
+        cache.get("list");
+        cache.put("list 3", list);
+
+        assertTrue(cache.get("list").isPresent());
+        assertTrue(cache.get("list 3").isPresent());
+        assertFalse(cache.get("exit").isPresent());
+        assertEquals(2, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void getHitRate_noLookups_zero() {
+        assertEquals(0, new ParsedCommandCache(1).getStatistics().getHitRate());
+    }
+
+    @Test
+    public void statisticsToStringMethod() {
+        String expected = ParsedCommandCache.Statistics.class.getCanonicalName()
+                + "{hits=1, misses=3, hitRate=0.25, size=2, capacity=8}";
+        assertEquals(expected, new ParsedCommandCache.Statistics(1, 3, 2, 8).toString());
+    }
+}
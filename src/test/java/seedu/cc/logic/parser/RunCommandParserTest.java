@@ -0,0 +1,81 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cc.commons.core.index.Index;
+import seedu.cc.logic.commands.DeleteCommand;
+import seedu.cc.logic.commands.RunCommand;
+import seedu.cc.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validScript_returnsRunCommand() throws IOException {
+        Path script = writeScript("# end of day", "", "delete-patient 2", "  delete-patient 1  ");
+        RunCommand expectedRunCommand = new RunCommand(script, Arrays.asList(
+                new RunCommand.Line(3, new DeleteCommand(Index.fromOneBased(2))),
+                new RunCommand.Line(4, new DeleteCommand(Index.fromOneBased(1)))));
+        assertParseSuccess(parser, " " + script, expectedRunCommand);
+    }
+
+    @Test
+    public void parse_invalidLines_allReported() throws IOException {
+        Path script = writeScript("delete-patient 2", "unknown", "delete-patient x");
+        String expectedMessage = String.format(RunCommandParser.MESSAGE_INVALID_LINES, script)
+                + "\n" + String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommandParser.MESSAGE_INVALID_LINE, 3,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + script, expectedMessage);
+    }
+
+    @Test
+    public void parse_nestedScript_failure() throws IOException {
+        Path inner = writeScript("list-patients");
+        Path outer = testFolder.resolve("outer.txt");
+        Files.write(outer, Arrays.asList("run " + inner));
+        assertParseFailure(parser, " " + outer, String.format(RunCommandParser.MESSAGE_INVALID_LINES, outer)
+                + "\n"
+                + String.format(RunCommandParser.MESSAGE_INVALID_LINE, 1, RunCommandParser.MESSAGE_NESTED_SCRIPT));
+    }
+
+    @Test
+    public void parse_undoInScript_failure() throws IOException {
+        Path script = writeScript("undo");
+        assertParseFailure(parser, " " + script, String.format(RunCommandParser.MESSAGE_INVALID_LINES, script)
+                + "\n"
+                + String.format(RunCommandParser.MESSAGE_INVALID_LINE, 1, RunCommandParser.MESSAGE_UNDO_IN_SCRIPT));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" " + testFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.cc.logic.parser;
+
+import static seedu.cc.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.cc.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.logic.commands.SortCommand;
+import seedu.cc.model.patient.PatientSortOrder;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownKey_throwsParseException() {
+        assertParseFailure(parser, "height", PatientSortOrder.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " name ", new SortCommand(PatientSortOrder.NAME));
+        assertParseSuccess(parser, "AGE", new SortCommand(PatientSortOrder.AGE));
+        assertParseSuccess(parser, "last-appt", new SortCommand(PatientSortOrder.LAST_APPOINTMENT));
+        assertParseSuccess(parser, "next-appt", new SortCommand(PatientSortOrder.NEXT_APPOINTMENT));
+    }
+}
@@ -2,26 +2,34 @@ package seedu.cc.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cc.logic.commands.CommandTestUtil.VALID_AGE_BOB;
 import static seedu.cc.logic.commands.CommandTestUtil.VALID_TAG_ASTHMA;
 import static seedu.cc.testutil.Assert.assertThrows;
 import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.BENSON;
+import static seedu.cc.testutil.TypicalPatients.CARL;
 import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.cc.model.appointment.AppointmentEvent;
+import seedu.cc.model.appointment.Prescription;
 import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.Patient;
 import seedu.cc.model.patient.exceptions.DuplicatePatientException;
+import seedu.cc.testutil.AppointmentEventBuilder;
+import seedu.cc.testutil.MedicalHistoryEventBuilder;
 import seedu.cc.testutil.PatientBuilder;
 
 public class ClinicBookTest {
@@ -85,6 +93,143 @@ public class ClinicBookTest {
         assertThrows(UnsupportedOperationException.class, () -> clinicBook.getPatientList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_notSeen() {
+        clinicBook.addPatient(ALICE);
+        Patient storedAlice = clinicBook.getPatientList().get(0);
+        ReadOnlyClinicBook snapshot = clinicBook.snapshot();
+        Patient bob = new PatientBuilder().withName("Bob").withNric("S7654321B").build();
+
+        clinicBook.addPatient(bob);
+        clinicBook.addMedicalHistoryEvent(ALICE, new MedicalHistoryEventBuilder().build());
+        clinicBook.removePatient(ALICE);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPatientList());
+        assertSame(storedAlice, snapshot.getPatientList().get(0));
+        assertEquals(Collections.singletonList(bob), clinicBook.snapshot().getPatientList());
+        assertEquals(Collections.singletonList(bob), new ClinicBook(clinicBook.snapshot()).getPatientList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPatientList().remove(0));
+    }
+
+    @Test
+    public void rollbackTransaction_revertsChangesSinceBegin() {
+        clinicBook.addPatient(ALICE);
+        clinicBook.addPatient(BENSON);
+        List<Patient> before = new ArrayList<>(clinicBook.getPatientList());
+
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(CARL);
+        clinicBook.addMedicalHistoryEvent(ALICE, new MedicalHistoryEventBuilder().build());
+        clinicBook.setPatient(BENSON, new PatientBuilder(BENSON).withAge(VALID_AGE_BOB).build());
+        clinicBook.removePatient(ALICE);
+        clinicBook.setPatients(Collections.emptyList());
+        clinicBook.rollbackTransaction();
+
+        assertEquals(before, clinicBook.getPatientList());
+        assertSame(before.get(0), clinicBook.getPatientList().get(0));
+        assertSame(before.get(1), clinicBook.getPatientList().get(1));
+        assertTrue(clinicBook.hasPatient(ALICE));
+        assertFalse(clinicBook.hasPatient(CARL));
+        assertFalse(clinicBook.isInTransaction());
+    }
+
+    @Test
+    public void rollbackTransaction_nested_revertsInnerChangesOnly() {
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(ALICE);
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(BENSON);
+        clinicBook.rollbackTransaction();
+
+        assertEquals(Collections.singletonList(ALICE), clinicBook.getPatientList());
+        assertTrue(clinicBook.isInTransaction());
+
+        clinicBook.rollbackTransaction();
+        assertEquals(Collections.emptyList(), clinicBook.getPatientList());
+    }
+
+    @Test
+    public void commitTransaction_keepsChanges() {
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(ALICE);
+        clinicBook.commitTransaction();
+
+        assertEquals(Collections.singletonList(ALICE), clinicBook.getPatientList());
+        assertFalse(clinicBook.isInTransaction());
+        assertThrows(IllegalStateException.class, clinicBook::rollbackTransaction);
+        assertThrows(IllegalStateException.class, clinicBook::commitTransaction);
+    }
+
+    @Test
+    public void rollbackTransaction_listedEvents_listedAgain() {
+        clinicBook.addPatient(ALICE);
+        clinicBook.listMedicalHistoryEvents(ALICE);
+        List<MedicalHistoryEvent> listedBefore = new ArrayList<>(clinicBook.getClinicBookMedicalHistory());
+        MedicalHistoryEvent event = new MedicalHistoryEventBuilder().withDate("2024-01-02").build();
+
+        clinicBook.beginTransaction();
+        clinicBook.addMedicalHistoryEvent(ALICE, event);
+        assertTrue(clinicBook.getClinicBookMedicalHistory().contains(event));
+        clinicBook.rollbackTransaction();
+        assertEquals(listedBefore, clinicBook.getClinicBookMedicalHistory());
+
+        // the listed patient is removed by the rollback
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(BENSON);
+        clinicBook.addMedicalHistoryEvent(BENSON, event);
+        clinicBook.listMedicalHistoryEvents(BENSON);
+        clinicBook.rollbackTransaction();
+        assertEquals(Collections.emptyList(), clinicBook.getClinicBookMedicalHistory());
+    }
+
+    @Test
+    public void undoRedo_committedTransaction_revertedAndReapplied() {
+        clinicBook.addPatient(ALICE);
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(BENSON);
+        clinicBook.removePatient(ALICE);
+        clinicBook.commitTransaction();
+        List<Patient> after = new ArrayList<>(clinicBook.getPatientList());
+
+        assertTrue(clinicBook.canUndo());
+        clinicBook.undo();
+        assertEquals(Collections.singletonList(ALICE), clinicBook.getPatientList());
+        assertFalse(clinicBook.canUndo());
+
+        assertTrue(clinicBook.canRedo());
+        clinicBook.redo();
+        assertEquals(after, clinicBook.getPatientList());
+        assertFalse(clinicBook.canRedo());
+    }
+
+    @Test
+    public void undo_transactionWithChangesOpen_throwsIllegalStateException() {
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(ALICE);
+        clinicBook.commitTransaction();
+
+        clinicBook.beginTransaction();
+        clinicBook.addPatient(BENSON);
+        assertThrows(IllegalStateException.class, clinicBook::undo);
+    }
+
+    @Test
+    public void addPrescriptions_listedAppointment_replacedWithoutChangingGivenEvent() {
+        AppointmentEvent appointment = new AppointmentEventBuilder().withDateTime("2024-01-01", "09:00")
+                .withPrescriptions("Insulin").build();
+        Patient patient = new PatientBuilder(ALICE).build();
+        clinicBook.addPatient(patient);
+        clinicBook.listAppointments(patient);
+        clinicBook.addAppointment(patient, appointment);
+
+        Set<Prescription> prescriptions = Set.of(new Prescription("Insulin"), new Prescription("Aspirin"));
+        clinicBook.addPrescriptions(patient, appointment, Set.of(new Prescription("Aspirin")));
+        assertEquals(Set.of(new Prescription("Insulin")), appointment.getPrescriptions());
+        assertEquals(prescriptions, clinicBook.getClinicBookAppointments().get(0).getPrescriptions());
+        assertEquals(prescriptions, clinicBook.getPatientList().get(0).getClinicBookAppointmentList().get(0)
+                .getPrescriptions());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = ClinicBook.class.getCanonicalName() + "{patients=" + clinicBook.getPatientList() + "}";
@@ -0,0 +1,94 @@
+package seedu.cc.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.model.patient.PatientListChange;
+
+public class UndoHistoryTest {
+
+    private final List<PatientListChange> first = new ArrayList<>();
+    private final List<PatientListChange> second = new ArrayList<>();
+    private final List<PatientListChange> third = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(-1));
+    }
+
+    @Test
+    public void undoRedo_entriesInOrder() {
+        UndoHistory history = new UndoHistory(3);
+        assertFalse(history.canUndo());
+        history.push(first);
+        history.push(second);
+
+        assertSame(second, history.undo());
+        assertSame(first, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(first, history.redo());
+        assertSame(second, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void push_afterUndo_dropsRedoableEntries() {
+        UndoHistory history = new UndoHistory(3);
+        history.push(first);
+        history.push(second);
+        history.undo();
+
+        history.push(third);
+        assertFalse(history.canRedo());
+        assertSame(third, history.undo());
+        assertSame(first, history.undo());
+    }
+
+    @Test
+    public void push_full_dropsOldestEntry() {
+        UndoHistory history = new UndoHistory(2);
+        history.push(first);
+        history.push(second);
+        history.push(third);
+
+        assertSame(third, history.undo());
+        assertSame(second, history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void push_zeroCapacity_nothingToUndo() {
+        UndoHistory history = new UndoHistory(0);
+        history.push(first);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void setCapacity_smaller_keepsLatestEntries() {
+        UndoHistory history = new UndoHistory(3);
+        history.push(first);
+        history.push(second);
+        history.push(third);
+        history.undo();
+
+        history.setCapacity(1);
+        assertEquals(1, history.getCapacity());
+        assertFalse(history.canRedo());
+        assertSame(second, history.undo());
+        assertFalse(history.canUndo());
+
+        history.setCapacity(2);
+        history.push(first);
+        history.push(third);
+        assertTrue(history.canUndo());
+        assertSame(third, history.undo());
+    }
+}
@@ -24,6 +24,18 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setClinicBookFilePath(null));
     }
 
+    @Test
+    public void setCommandHistoryFilePath_nullPath_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setCommandHistoryFilePath(null));
+    }
+
+    @Test
+    public void setUndoHistoryDepth_negativeDepth_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(-1));
+    }
+
     @Test
     public void equals_sameValues_returnsTrue() {
         UserPrefs userPrefsA = new UserPrefs();
@@ -54,6 +66,28 @@ public class UserPrefsTest {
         assertNotEquals(userPrefsA, userPrefsB);
     }
 
+    @Test
+    public void equals_differentCommandHistoryFilePath_returnsFalse() {
+        UserPrefs userPrefsA = new UserPrefs();
+        userPrefsA.setCommandHistoryFilePath(Paths.get("pathA"));
+
+        UserPrefs userPrefsB = new UserPrefs();
+        userPrefsB.setCommandHistoryFilePath(Paths.get("pathB"));
+
+        assertNotEquals(userPrefsA, userPrefsB);
+    }
+
+    @Test
+    public void equals_differentUndoHistoryDepth_returnsFalse() {
+        UserPrefs userPrefsA = new UserPrefs();
+        userPrefsA.setUndoHistoryDepth(5);
+
+        UserPrefs userPrefsB = new UserPrefs();
+        userPrefsB.setUndoHistoryDepth(6);
+
+        assertNotEquals(userPrefsA, userPrefsB);
+    }
+
     @Test
     public void equals_otherObject_returnsFalse() {
         UserPrefs userPrefs = new UserPrefs();
@@ -0,0 +1,134 @@
+package seedu.cc.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.testutil.AppointmentEventBuilder;
+
+public class PatientAppointmentListTest {
+
+    private static final AppointmentEvent FIRST = new AppointmentEventBuilder()
+            .withDateTime("2024-01-01", "09:00").withPrescriptions("Insulin").build();
+    private static final AppointmentEvent SECOND = new AppointmentEventBuilder()
+            .withDateTime("2024-01-05", "14:30").withPrescriptions("Metformin").build();
+    private static final AppointmentEvent THIRD = new AppointmentEventBuilder()
+            .withDateTime("2024-02-01", "10:00").withPrescriptions("Insulin").build();
+
+    private PatientAppointmentList appointmentList = new PatientAppointmentList();
+
+    @Test
+    public void getAppointmentList_returnsAppointmentsInOrder() {
+        addAll();
+        List<AppointmentEvent> appointmentEvents = appointmentList.getAppointmentList();
+        assertEquals(List.of(FIRST, SECOND, THIRD), appointmentEvents);
+        assertEquals(FIRST.getPrescriptions(), appointmentEvents.get(0).getPrescriptions());
+        assertEquals(SECOND.getPrescriptions(), appointmentEvents.get(1).getPrescriptions());
+        assertEquals(THIRD.getPrescriptions(), appointmentEvents.get(2).getPrescriptions());
+    }
+
+    @Test
+    public void deleteAppointment_middleAppointment_keepsOtherPrescriptions() {
+        addAll();
+        appointmentList = appointmentList.withoutAppointment(SECOND);
+
+        List<AppointmentEvent> appointmentEvents = appointmentList.getAppointmentList();
+        assertEquals(List.of(FIRST, THIRD), appointmentEvents);
+        assertEquals(THIRD.getPrescriptions(), appointmentEvents.get(1).getPrescriptions());
+        assertFalse(appointmentList.hasAppointment(SECOND));
+    }
+
+    @Test
+    public void setAppointment_morePrescriptions_shiftsLaterPrescriptions() {
+        addAll();
+        AppointmentEvent edited = new AppointmentEvent(FIRST.getDate(), FIRST.getTime(),
+                Set.of(new Prescription("Insulin"), new Prescription("Aspirin")));
+        appointmentList = appointmentList.withEditedAppointment(FIRST, edited);
+
+        List<AppointmentEvent> appointmentEvents = appointmentList.getAppointmentList();
+        assertEquals(edited.getPrescriptions(), appointmentEvents.get(0).getPrescriptions());
+        assertEquals(SECOND.getPrescriptions(), appointmentEvents.get(1).getPrescriptions());
+        assertEquals(THIRD.getPrescriptions(), appointmentEvents.get(2).getPrescriptions());
+    }
+
+    @Test
+    public void addPrescriptions_existingAppointment_mergesPrescriptions() {
+        addAll();
+        appointmentList = appointmentList.withPrescriptions(SECOND, Set.of(new Prescription("Aspirin")));
+
+        assertEquals(Set.of(new Prescription("Metformin"), new Prescription("Aspirin")),
+                appointmentList.getAppointmentList().get(1).getPrescriptions());
+        assertEquals(1, appointmentList.countPrescribed(new Prescription("Aspirin")));
+    }
+
+    @Test
+    public void withoutAppointment_oldVersion_unchanged() {
+        addAll();
+        PatientAppointmentList oldVersion = appointmentList;
+        appointmentList = appointmentList.withoutAppointment(FIRST)
+                .withPrescriptions(SECOND, Set.of(new Prescription("Aspirin")));
+
+        assertEquals(List.of(FIRST, SECOND, THIRD), oldVersion.getAppointmentList());
+        assertEquals(SECOND.getPrescriptions(), oldVersion.getAppointmentList().get(1).getPrescriptions());
+        assertEquals(List.of(SECOND, THIRD), appointmentList.getAppointmentList());
+    }
+
+    @Test
+    public void withoutAppointment_lastAppointmentWithPrescription_prescriptionDropped() {
+        addAll();
+        appointmentList = appointmentList.withoutAppointment(SECOND);
+        assertEquals(0, appointmentList.countPrescribed(new Prescription("Metformin")));
+
+        appointmentList = appointmentList.withoutAppointment(FIRST);
+        assertEquals(1, appointmentList.countPrescribed(new Prescription("Insulin")));
+        assertEquals(THIRD.getPrescriptions(), appointmentList.getAppointmentList().get(0).getPrescriptions());
+    }
+
+    @Test
+    public void getAppointmentList_changedCopy_doesNotChangeList() {
+        addAll();
+        appointmentList.getAppointmentList().get(0).addPrescriptions(Set.of(new Prescription("Aspirin")));
+        assertEquals(FIRST.getPrescriptions(), appointmentList.getAppointmentList().get(0).getPrescriptions());
+    }
+
+    @Test
+    public void aggregates() {
+        addAll();
+        assertEquals(3, appointmentList.size());
+        assertEquals(2, appointmentList.countAppointmentsBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)));
+        assertEquals(0, appointmentList.countAppointmentsBetween(LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 31)));
+        assertEquals(2, appointmentList.countPrescribed(new Prescription("Insulin")));
+        assertEquals(0, appointmentList.countPrescribed(new Prescription("NeverPrescribed")));
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 5)),
+                appointmentList.getLastAppointmentDate(LocalDate.of(2024, 1, 10)));
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 1)),
+                appointmentList.getNextAppointmentDate(LocalDate.of(2024, 1, 10)));
+        assertTrue(appointmentList.hasAppointment(new AppointmentEventBuilder()
+                .withDateTime("2024-01-05", "14:30").build()));
+    }
+
+    @Test
+    public void forEachAppointmentBetween_range_onlyAppointmentsInRangeInOrder() {
+        addAll();
+        List<AppointmentEvent> visited = new ArrayList<>();
+        appointmentList.forEachAppointmentBetween(LocalDate.of(2024, 1, 5), LocalDate.MAX, visited::add);
+        assertEquals(List.of(SECOND, THIRD), visited);
+        assertEquals(SECOND.getPrescriptions(), visited.get(0).getPrescriptions());
+
+        visited.clear();
+        appointmentList.forEachAppointmentBetween(LocalDate.MIN, LocalDate.of(2023, 12, 31), visited::add);
+        assertTrue(visited.isEmpty());
+    }
+
+    private void addAll() {
+        appointmentList = appointmentList.withAppointment(FIRST).withAppointment(SECOND).withAppointment(THIRD);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.cc.model.medicalhistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class ArchiveSlabsTest {
+
+    @Test
+    public void constructor_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveSlabs(-1));
+    }
+
+    @Test
+    public void allocate_smallArchives_cutFromOneSlabWithoutOverlapping() {
+        ArchiveSlabs slabs = new ArchiveSlabs(16);
+        ByteBuffer first = slabs.allocate(8);
+        ByteBuffer second = slabs.allocate(8);
+        first.putLong(1L);
+        second.putLong(2L);
+
+        assertTrue(first.isDirect());
+        assertEquals(8, first.capacity());
+        assertEquals(1L, first.getLong(0));
+        assertEquals(2L, second.getLong(0));
+    }
+
+    @Test
+    public void allocate_archiveLargerThanHalfASlab_ownBuffer() {
+        ArchiveSlabs slabs = new ArchiveSlabs(16);
+        ByteBuffer large = slabs.allocate(100);
+        assertEquals(100, large.capacity());
+        assertEquals(0, large.position());
+        assertEquals(100, large.limit());
+
+        ByteBuffer unshared = new ArchiveSlabs(0).allocate(1);
+        assertEquals(1, unshared.capacity());
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.cc.model.medicalhistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.testutil.MedicalHistoryEventBuilder;
+
+public class PatientMedicalHistoryTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2023, 1, 1);
+
+    private static final MedicalHistoryEvent OLD_FLU = new MedicalHistoryEventBuilder()
+            .withDate("2020-03-04").withMedicalCondition("Flu").withTreatment("Rest").build();
+    private static final MedicalHistoryEvent OLD_FRACTURE = new MedicalHistoryEventBuilder()
+            .withDate("2021-11-30").withMedicalCondition("Fractured wrist").withTreatment("Cast").build();
+    private static final MedicalHistoryEvent RECENT_ASTHMA = new MedicalHistoryEventBuilder()
+            .withDate("2023-06-01").withMedicalCondition("Asthma").withTreatment("Inhaler").build();
+
+    private PatientMedicalHistory history = new PatientMedicalHistory();
+
+    @Test
+    public void archiveEventsBefore_oldEvents_stillListedArchivedFirst() {
+        history = history.withMedicalHistoryEvent(OLD_FLU);
+        history = history.withMedicalHistoryEvent(RECENT_ASTHMA);
+        history = history.withMedicalHistoryEvent(OLD_FRACTURE);
+
+        PatientMedicalHistory unarchived = history;
+        history = history.withEventsArchivedBefore(CUTOFF);
+        assertEquals(2, history.getArchivedCount());
+        assertEquals(0, unarchived.getArchivedCount());
+        assertEquals(List.of(OLD_FLU, RECENT_ASTHMA, OLD_FRACTURE), unarchived.getMedicalHistoryEvents());
+        assertEquals(List.of(OLD_FLU, OLD_FRACTURE, RECENT_ASTHMA), history.getMedicalHistoryEvents());
+        assertTrue(history.hasMedicalHistoryEvent(OLD_FRACTURE));
+        assertEquals(Optional.of(LocalDate.of(2023, 6, 1)), history.getLatestEventDate());
+
+        // archiving again finds nothing left to move
+        assertSame(history, history.withEventsArchivedBefore(CUTOFF));
+    }
+
+    @Test
+    public void forEachEventBetween_archivedAndHeldEvents_onlyEventsInRange() {
+        history = history.withMedicalHistoryEvent(OLD_FLU);
+        history = history.withMedicalHistoryEvent(RECENT_ASTHMA);
+        history = history.withMedicalHistoryEvent(OLD_FRACTURE);
+        history = history.withEventsArchivedBefore(CUTOFF);
+
+        List<MedicalHistoryEvent> visited = new ArrayList<>();
+        history.forEachEventBetween(LocalDate.of(2021, 1, 1), LocalDate.of(2023, 6, 1), visited::add);
+        assertEquals(List.of(OLD_FRACTURE, RECENT_ASTHMA), visited);
+
+        visited.clear();
+        history.forEachEventBetween(CUTOFF, LocalDate.MAX, visited::add);
+        assertEquals(List.of(RECENT_ASTHMA), visited);
+    }
+
+    @Test
+    public void getLatestEventDate_onlyArchivedEvents_returnsLatestArchivedDate() {
+        history = history.withMedicalHistoryEvent(OLD_FRACTURE);
+        history = history.withMedicalHistoryEvent(OLD_FLU);
+        history = history.withEventsArchivedBefore(CUTOFF);
+
+        assertEquals(Optional.of(LocalDate.of(2021, 11, 30)), history.getLatestEventDate());
+    }
+
+    @Test
+    public void deleteMedicalHistoryEvent_archivedEvent_removedFromArchive() {
+        history = history.withMedicalHistoryEvent(OLD_FLU);
+        history = history.withMedicalHistoryEvent(OLD_FRACTURE);
+        history = history.withEventsArchivedBefore(CUTOFF);
+
+        history = history.withoutMedicalHistoryEvent(OLD_FRACTURE);
+        assertEquals(1, history.getArchivedCount());
+        assertEquals(List.of(OLD_FLU), history.getMedicalHistoryEvents());
+        assertFalse(history.hasMedicalHistoryEvent(OLD_FRACTURE));
+        assertEquals(Optional.of(LocalDate.of(2020, 3, 4)), history.getLatestEventDate());
+
+        history = history.withoutMedicalHistoryEvent(OLD_FLU);
+        assertEquals(0, history.getArchivedCount());
+        assertEquals(Optional.empty(), history.getLatestEventDate());
+    }
+
+    @Test
+    public void setMedicalHistoryEvent_archivedEvent_movedBackToHeap() {
+        history = history.withMedicalHistoryEvent(OLD_FLU);
+        history = history.withMedicalHistoryEvent(RECENT_ASTHMA);
+        history = history.withEventsArchivedBefore(CUTOFF);
+        MedicalHistoryEvent edited = new MedicalHistoryEventBuilder(OLD_FLU).withTreatment("Antivirals").build();
+
+        history = history.withEditedMedicalHistoryEvent(OLD_FLU, edited);
+        assertEquals(0, history.getArchivedCount());
+        assertEquals(List.of(edited, RECENT_ASTHMA), history.getMedicalHistoryEvents());
+    }
+
+    @Test
+    public void getMedicalHistoryEvents_longStrings_roundTrip() {
+        String longCondition = "Condition" + "x".repeat(300);
+        MedicalHistoryEvent event = new MedicalHistoryEventBuilder().withDate("2000-01-01")
+                .withMedicalCondition(longCondition).withTreatment("T").build();
+        history = history.withMedicalHistoryEvent(event);
+        history = history.withEventsArchivedBefore(CUTOFF);
+
+        assertEquals(List.of(event), history.getMedicalHistoryEvents());
+    }
+
+    @Test
+    public void hasMedicalHistoryEvent_sameDayAsArchivedEvent_matchedOnWholeEvent() {
+        history = history.withMedicalHistoryEvent(OLD_FLU);
+        history = history.withMedicalHistoryEvent(OLD_FRACTURE);
+        history = history.withEventsArchivedBefore(CUTOFF);
+
+        assertTrue(history.hasMedicalHistoryEvent(OLD_FLU));
+        assertTrue(history.hasMedicalHistoryEvent(new MedicalHistoryEventBuilder(OLD_FLU).build()));
+        assertFalse(history.hasMedicalHistoryEvent(new MedicalHistoryEventBuilder(OLD_FLU)
+                .withTreatment("Antivirals").build()));
+        assertFalse(history.hasMedicalHistoryEvent(new MedicalHistoryEventBuilder(OLD_FLU)
+                .withMedicalCondition("Fractured wrist").withTreatment("Cast").build()));
+        assertFalse(history.hasMedicalHistoryEvent(RECENT_ASTHMA));
+    }
+
+    @Test
+    public void archiveEventsBefore_sharedSlabs_eachHistoryKeepsItsOwnEvents() {
+        ArchiveSlabs slabs = new ArchiveSlabs(128);
+        PatientMedicalHistory other = new PatientMedicalHistory().withMedicalHistoryEvent(OLD_FRACTURE);
+        history = history.withMedicalHistoryEvent(OLD_FLU).withMedicalHistoryEvent(RECENT_ASTHMA);
+
+        history = history.withEventsArchivedBefore(CUTOFF, slabs);
+        other = other.withEventsArchivedBefore(CUTOFF, slabs);
+        // archiving again appends to a new archive, leaving the old one in the slab unchanged
+        PatientMedicalHistory otherArchivedTwice = other.withMedicalHistoryEvent(OLD_FLU)
+                .withEventsArchivedBefore(CUTOFF, slabs);
+
+        assertEquals(List.of(OLD_FLU, RECENT_ASTHMA), history.getMedicalHistoryEvents());
+        assertEquals(List.of(OLD_FRACTURE), other.getMedicalHistoryEvents());
+        assertEquals(List.of(OLD_FRACTURE, OLD_FLU), otherArchivedTwice.getMedicalHistoryEvents());
+        assertFalse(other.hasMedicalHistoryEvent(OLD_FLU));
+        assertTrue(otherArchivedTwice.hasMedicalHistoryEvent(OLD_FLU));
+    }
+}
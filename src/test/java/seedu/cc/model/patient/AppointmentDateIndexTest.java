@@ -0,0 +1,61 @@
+package seedu.cc.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.model.appointment.AppointmentEvent;
+import seedu.cc.testutil.AppointmentEventBuilder;
+import seedu.cc.testutil.PatientBuilder;
+
+public class AppointmentDateIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Test
+    public void countBetween_shortAndLongRanges_countAppointments() {
+        AppointmentDateIndex index = new AppointmentDateIndex();
+        Patient first = new PatientBuilder().withName("First").withNric("S1234567A").build()
+                .withAppointmentEvent(appointmentOn(DAY, "09:00"))
+                .withAppointmentEvent(appointmentOn(DAY, "10:00"))
+                .withAppointmentEvent(appointmentOn(DAY.plusDays(3), "10:00"));
+        Patient second = new PatientBuilder().withName("Second").withNric("S7654321B").build()
+                .withAppointmentEvent(appointmentOn(DAY.plusDays(400), "10:00"));
+        index.add(first);
+        index.add(second);
+
+        assertEquals(2, index.countBetween(DAY, DAY));
+        assertEquals(3, index.countBetween(DAY, DAY.plusDays(6)));
+        assertEquals(4, index.countBetween(DAY.minusYears(5), DAY.plusYears(5)));
+        assertEquals(0, index.countBetween(DAY.plusDays(1), DAY));
+
+        index.remove(first);
+        assertEquals(0, index.countBetween(DAY, DAY.plusDays(6)));
+        assertEquals(1, index.countBetween(DAY, DAY.plusYears(5)));
+    }
+
+    @Test
+    public void uniquePatientList_appointmentChanges_countsKeptInStep() {
+        UniquePatientList patients = new UniquePatientList();
+        Patient patient = new PatientBuilder().build();
+        patients.add(patient);
+        AppointmentEvent appointment = appointmentOn(DAY, "09:00");
+
+        patients.addAppointment(patient, appointment);
+        assertEquals(1, patients.countAppointmentsBetween(DAY, DAY));
+
+        AppointmentEvent moved = appointmentOn(DAY.plusDays(1), "09:00");
+        patients.setAppointment(patient, appointment, moved);
+        assertEquals(0, patients.countAppointmentsBetween(DAY, DAY));
+        assertEquals(1, patients.countAppointmentsBetween(DAY, DAY.plusDays(1)));
+
+        patients.deleteAppointment(patient, moved);
+        assertEquals(0, patients.countAppointmentsBetween(DAY, DAY.plusDays(1)));
+    }
+
+    private static AppointmentEvent appointmentOn(LocalDate date, String time) {
+        return new AppointmentEventBuilder().withDateTime(date.toString(), time).build();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.cc.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.cc.testutil.Assert.assertThrows;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.testutil.PatientBuilder;
+
+public class PatientContactIndexTest {
+
+    private final PatientContactIndex index = new PatientContactIndex();
+    private final Patient alice = new PatientBuilder(ALICE).withId(0).build();
+    private final Patient benson = new PatientBuilder(BENSON).withId(1).withPhone("94351253").build();
+
+    @Test
+    public void normalizePhone_formattedNumber_lastEightDigitsKept() {
+        assertEquals("91234567", PatientContactIndex.normalizePhone("+65 9123-4567"));
+        assertEquals("123", PatientContactIndex.normalizePhone("1-2-3"));
+    }
+
+    @Test
+    public void findByPhone_sharedPhone_idsInOrderAdded() {
+        index.add(alice);
+        index.add(benson);
+        assertArrayEquals(new int[] {0, 1}, index.findByPhone("+65 9435 1253"));
+        assertArrayEquals(new int[] {1}, index.findByEmail(" JohnD@example.com "));
+        assertArrayEquals(new int[0], index.findByPhone("99999999"));
+    }
+
+    @Test
+    public void add_patientWithoutId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.add(ALICE));
+    }
+
+    @Test
+    public void replace_changedContact_onlyThatContactMoved() {
+        index.add(alice);
+        index.add(benson);
+        Patient editedAlice = new PatientBuilder(alice).withEmail("pauline@example.com").build();
+
+        index.replace(alice, editedAlice);
+        assertArrayEquals(new int[] {0, 1}, index.findByPhone("94351253"));
+        assertArrayEquals(new int[0], index.findByEmail("alice@example.com"));
+        assertArrayEquals(new int[] {0}, index.findByEmail("pauline@example.com"));
+
+        index.remove(benson);
+        assertArrayEquals(new int[] {0}, index.findByPhone("94351253"));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.cc.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.model.appointment.AppointmentEvent;
+import seedu.cc.testutil.AppointmentEventBuilder;
+import seedu.cc.testutil.MedicalHistoryEventBuilder;
+import seedu.cc.testutil.PatientBuilder;
+
+public class PatientRankingTest {
+
+    private Patient first = new PatientBuilder().withId(0).withNric("S1111111A").build();
+    private Patient second = new PatientBuilder().withId(1).withNric("S2222222B").build();
+    private Patient third = new PatientBuilder().withId(2).withNric("S3333333C").build();
+
+    @Test
+    public void getTop_latestMedicalHistoryEvent_latestFirst() {
+        PatientRanking ranking = PatientRanking.byLatestMedicalHistoryEvent();
+        first = first.withMedicalHistoryEvent(new MedicalHistoryEventBuilder().withDate("2023-01-01").build());
+        second = second.withMedicalHistoryEvent(new MedicalHistoryEventBuilder().withDate("2023-06-01").build());
+        ranking.update(first);
+        ranking.update(second);
+        ranking.update(third); // no medical history, not ranked
+
+        assertEquals(Arrays.asList(second, first), ranking.getTop(5));
+        assertEquals(Collections.singletonList(second), ranking.getTop(1));
+
+        first = first.withMedicalHistoryEvent(new MedicalHistoryEventBuilder().withDate("2023-12-01").build());
+        ranking.update(first);
+        assertEquals(Arrays.asList(first, second), ranking.getTop(5));
+
+        ranking.remove(first);
+        assertEquals(Collections.singletonList(second), ranking.getTop(5));
+    }
+
+    @Test
+    public void getTop_nextAppointment_soonestFirstAndPastSkipped() {
+        PatientRanking ranking = PatientRanking.byNextAppointment();
+        LocalDate today = LocalDate.now();
+        first = first.withAppointmentEvent(appointmentOn(today.plusDays(10)));
+        second = second.withAppointmentEvent(appointmentOn(today));
+        third = third.withAppointmentEvent(appointmentOn(today.minusDays(1)));
+        ranking.update(first);
+        ranking.update(second);
+        ranking.update(third);
+
+        assertEquals(Arrays.asList(second, first), ranking.getTop(5));
+
+        Patient editedSecond = new PatientBuilder(second).withName("Edited").build();
+        ranking.replace(second, editedSecond);
+        assertEquals(Collections.singletonList(first), ranking.getTop(5));
+    }
+
+    private static AppointmentEvent appointmentOn(LocalDate date) {
+        return new AppointmentEventBuilder().withDateTime(date.toString(), "10:00").build();
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.cc.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.BENSON;
+import static seedu.cc.testutil.TypicalPatients.CARL;
+import static seedu.cc.testutil.TypicalPatients.DANIEL;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cc.commons.util.CompressedBitmap;
+import seedu.cc.model.tag.TagQuery;
+import seedu.cc.testutil.PatientBuilder;
+
+public class PatientTagIndexTest {
+
+    private final PatientTagIndex index = new PatientTagIndex();
+    private final Patient alice = new PatientBuilder(ALICE).withId(0).build();
+    private final Patient benson = new PatientBuilder(BENSON).withId(1).build();
+    private final Patient carl = new PatientBuilder(CARL).withId(2).build();
+
+    @Test
+    public void evaluate_tagQueries_returnsMatchingOrdinals() {
+        index.add(alice); // Hypertension
+        index.add(benson); // Asthma, Hypertension
+        index.add(carl); // no tags
+
+        assertEquals(bits(alice, benson), index.evaluate(TagQuery.tag("hypertension")));
+        assertEquals(bits(benson), index.evaluate(TagQuery.and(TagQuery.tag("Hypertension"),
+                TagQuery.tag("Asthma"))));
+        assertEquals(bits(alice), index.evaluate(TagQuery.and(TagQuery.tag("Hypertension"),
+                TagQuery.not(TagQuery.tag("Asthma")))));
+        assertEquals(bits(carl), index.evaluate(TagQuery.not(TagQuery.or(TagQuery.tag("Hypertension"),
+                TagQuery.tag("Asthma")))));
+        assertEquals(new CompressedBitmap(), index.evaluate(TagQuery.tag("Diabetic")));
+    }
+
+    @Test
+    public void remove_patient_ordinalIsId() {
+        index.add(alice);
+        index.add(benson);
+        assertEquals(alice.getId(), index.ordinalOf(alice));
+
+        index.remove(alice);
+        assertEquals(-1, index.ordinalOf(alice));
+        assertEquals(bits(benson), index.evaluate(TagQuery.tag("Hypertension")));
+
+        index.add(carl);
+        assertEquals(carl.getId(), index.ordinalOf(carl));
+    }
+
+    @Test
+    public void add_patientWithoutId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.add(DANIEL));
+        assertEquals(-1, index.ordinalOf(DANIEL));
+    }
+
+    @Test
+    public void replace_patient_keepsOrdinalAndUpdatesTags() {
+        index.add(alice);
+        int ordinal = index.ordinalOf(alice);
+        Patient editedAlice = new PatientBuilder(alice).withTags("Diabetic").build();
+
+        index.replace(alice, editedAlice);
+        assertEquals(ordinal, index.ordinalOf(editedAlice));
+        assertEquals(new CompressedBitmap(), index.evaluate(TagQuery.tag("Hypertension")));
+        assertEquals(bits(editedAlice), index.evaluate(TagQuery.tag("Diabetic")));
+    }
+
+    @Test
+    public void tagPredicate_listChanges_reevaluated() {
+        UniquePatientList patients = new UniquePatientList();
+        patients.add(ALICE);
+        PatientTagPredicate predicate = patients.getTagPredicate(TagQuery.tag("Asthma"));
+        assertFalse(predicate.test(patients.getCurrentVersion(ALICE)));
+        assertFalse(predicate.test(BENSON));
+
+        patients.add(BENSON);
+        assertTrue(predicate.test(patients.getCurrentVersion(BENSON)));
+    }
+
+    private CompressedBitmap bits(Patient... patients) {
+        CompressedBitmap expected = new CompressedBitmap();
+        for (Patient patient : patients) {
+            expected.add(index.ordinalOf(patient));
+        }
+        return expected;
+    }
+}
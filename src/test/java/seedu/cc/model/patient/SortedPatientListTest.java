@@ -0,0 +1,106 @@
+package seedu.cc.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.cc.model.appointment.AppointmentEvent;
+import seedu.cc.testutil.AppointmentEventBuilder;
+import seedu.cc.testutil.PatientBuilder;
+
+public class SortedPatientListTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+
+    private final Patient amy = new PatientBuilder().withId(0).withName("Amy").withAge("30")
+            .withNric("S1111111A").build();
+    private final Patient bob = new PatientBuilder().withId(1).withName("bob").withAge("20")
+            .withNric("S2222222B").build();
+    private final Patient carl = new PatientBuilder().withId(2).withName("Carl").withAge("20")
+            .withNric("S0000000C").build();
+
+    private final PatientObservableList source = new PatientObservableList();
+    private final SortedPatientList sorted = new SortedPatientList(source, () -> TODAY);
+
+    @Test
+    public void setOrder_order_sortedWithNricBreakingTies() {
+        source.addAll(amy, bob, carl);
+        assertEquals(Arrays.asList(amy, bob, carl), sorted);
+
+        sorted.setOrder(PatientSortOrder.AGE);
+        assertEquals(Arrays.asList(carl, bob, amy), sorted);
+        sorted.setOrder(PatientSortOrder.NAME);
+        assertEquals(Arrays.asList(amy, bob, carl), sorted);
+        sorted.setOrder(PatientSortOrder.NRIC);
+        assertEquals(Arrays.asList(carl, amy, bob), sorted);
+        sorted.setOrder(null);
+        assertEquals(Arrays.asList(amy, bob, carl), sorted);
+    }
+
+    @Test
+    public void setOrder_appointmentOrder_sortedAsOfDayOrderWasSet() {
+        Patient withAppointment = amy.withAppointmentEvent(appointmentOn(TODAY.plusDays(1)));
+        source.addAll(bob, withAppointment);
+        LocalDate[] today = {TODAY};
+        SortedPatientList sortedByDay = new SortedPatientList(source, () -> today[0]);
+
+        sortedByDay.setOrder(PatientSortOrder.NEXT_APPOINTMENT);
+        assertEquals(Arrays.asList(withAppointment, bob), sortedByDay);
+
+        // The appointment is past on the new day, but only setting the order again sorts as of the new day.
+        today[0] = TODAY.plusDays(2);
+        source.add(carl);
+        assertEquals(Arrays.asList(withAppointment, carl, bob), sortedByDay);
+        sortedByDay.setOrder(PatientSortOrder.NEXT_APPOINTMENT);
+        assertEquals(Arrays.asList(carl, withAppointment, bob), sortedByDay);
+    }
+
+    @Test
+    public void sourceChanged_patientUpdated_onlyThatPatientMoved() {
+        source.addAll(amy, bob, carl);
+        sorted.setOrder(PatientSortOrder.AGE);
+        List<String> changes = new ArrayList<>();
+        sorted.addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                changes.add(change.wasUpdated() ? "updated " + change.getFrom()
+                        : "removed " + change.getRemovedSize() + ", added " + change.getAddedSize());
+            }
+        });
+
+        Patient olderCarl = new PatientBuilder(carl).withAge("40").build();
+        source.setUpdated(2, olderCarl);
+        assertEquals(Arrays.asList(bob, amy, olderCarl), sorted);
+
+        Patient renamedBob = new PatientBuilder(bob).withName("Bobby").build();
+        source.setUpdated(1, renamedBob);
+        assertEquals(Arrays.asList(renamedBob, amy, olderCarl), sorted);
+        assertEquals(Arrays.asList("removed 1, added 0", "removed 0, added 1", "updated 0"), changes);
+    }
+
+    @Test
+    public void sourceChanged_patientsAddedAndRemoved_sortedPositions() {
+        source.addAll(amy, bob);
+        sorted.setOrder(PatientSortOrder.AGE);
+        source.add(carl);
+        assertEquals(Arrays.asList(carl, bob, amy), sorted);
+        assertEquals(0, sorted.getViewIndex(2));
+        assertEquals(2, sorted.getSourceIndex(0));
+
+        source.remove(bob);
+        assertEquals(Arrays.asList(carl, amy), sorted);
+
+        // Replacing every patient rebuilds the view.
+        source.setAll(bob, amy, carl);
+        assertEquals(Arrays.asList(carl, bob, amy), sorted);
+    }
+
+    private static AppointmentEvent appointmentOn(LocalDate date) {
+        return new AppointmentEventBuilder().withDateTime(date.toString(), "10:00").build();
+    }
+}
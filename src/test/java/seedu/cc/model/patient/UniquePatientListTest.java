@@ -3,19 +3,27 @@ package seedu.cc.model.patient;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cc.testutil.TypicalPatients.ALICE;
 import static seedu.cc.testutil.TypicalPatients.BENSON;
+import static seedu.cc.testutil.TypicalPatients.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.cc.model.medicalhistory.MedicalHistoryEvent;
 import seedu.cc.model.patient.exceptions.DuplicatePatientException;
 import seedu.cc.model.patient.exceptions.PatientNotFoundException;
+import seedu.cc.testutil.MedicalHistoryEventBuilder;
+import seedu.cc.testutil.PatientBuilder;
 
 public class UniquePatientListTest {
 
@@ -48,6 +56,44 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPatients_addedInOneChange() {
+        uniquePatientList.add(ALICE);
+        List<String> changes = new ArrayList<>();
+        uniquePatientList.asUnmodifiableObservableList().addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                changes.add("added " + change.getFrom() + " to " + change.getTo());
+            }
+        });
+        List<PatientListChange> recorded = new ArrayList<>();
+        uniquePatientList.setChangeListener(recorded::add);
+
+        uniquePatientList.addAll(Arrays.asList(BENSON, CARL));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList("added 1 to 3"), changes);
+        assertEquals(CARL, uniquePatientList.findById(2).get());
+        assertEquals(1, recorded.size());
+
+        recorded.get(0).revert(uniquePatientList);
+        assertEquals(Collections.singletonList(ALICE), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_patientAlreadyInList_throwsDuplicatePatientException() {
+        uniquePatientList.add(ALICE);
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.addAll(Arrays.asList(BENSON, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatePatients_throwsDuplicatePatientException() {
+        Patient editedBenson = new PatientBuilder(BENSON).withNric("S7654321Z").build();
+        assertThrows(DuplicatePatientException.class, () ->
+                uniquePatientList.addAll(Arrays.asList(BENSON, editedBenson)));
+        assertTrue(uniquePatientList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void setPatient_nullTargetPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatient(null, ALICE));
@@ -160,6 +206,121 @@ public class UniquePatientListTest {
         assertTrue(uniquePatientListFirst.equals(uniquePatientListSecond));
     }
 
+    @Test
+    public void addMedicalHistoryEvent_patientInList_firesUpdateOnly() {
+        Patient patient = new PatientBuilder().build();
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(patient);
+
+        List<String> changes = new ArrayList<>();
+        uniquePatientList.asUnmodifiableObservableList().addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                changes.add((change.wasUpdated() ? "updated " : "changed ") + change.getFrom());
+            }
+        });
+        uniquePatientList.addMedicalHistoryEvent(patient, new MedicalHistoryEventBuilder().build());
+
+        assertEquals(Collections.singletonList("updated 1"), changes);
+    }
+
+    @Test
+    public void addMedicalHistoryEvent_patientInList_newVersionStoredOldUnchanged() {
+        Patient patient = new PatientBuilder().build();
+        uniquePatientList.add(patient);
+        MedicalHistoryEvent event = new MedicalHistoryEventBuilder().build();
+        uniquePatientList.addMedicalHistoryEvent(patient, event);
+
+        Patient current = uniquePatientList.getCurrentVersion(patient);
+        assertNotSame(patient, current);
+        assertTrue(current.hasMedicalHistoryEvent(event));
+        assertFalse(patient.hasMedicalHistoryEvent(event));
+        assertSame(current, uniquePatientList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void add_patients_idsStableAcrossEditAndRemove() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        Patient storedAlice = uniquePatientList.getCurrentVersion(ALICE);
+        Patient storedBenson = uniquePatientList.getCurrentVersion(BENSON);
+        assertNotEquals(storedAlice.getId(), storedBenson.getId());
+
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Edited").build();
+        uniquePatientList.setPatient(storedBenson, editedBenson);
+        assertEquals(storedBenson.getId(), uniquePatientList.getCurrentVersion(editedBenson).getId());
+
+        uniquePatientList.remove(storedAlice);
+        assertTrue(uniquePatientList.findById(storedAlice.getId()).isEmpty());
+        assertEquals(editedBenson, uniquePatientList.findById(storedBenson.getId()).get());
+
+        uniquePatientList.add(ALICE);
+        assertNotEquals(storedAlice.getId(), uniquePatientList.getCurrentVersion(ALICE).getId());
+    }
+
+    @Test
+    public void findPatientsByPhone_recordsChanged_currentVersionFound() {
+        uniquePatientList.add(ALICE);
+        MedicalHistoryEvent event = new MedicalHistoryEventBuilder().withDate("2024-01-02").build();
+        uniquePatientList.addMedicalHistoryEvent(ALICE, event);
+        Patient current = uniquePatientList.getCurrentVersion(ALICE);
+
+        assertEquals(Collections.singletonList(current), uniquePatientList.findPatientsByPhone("9435 1253"));
+        assertSame(current, uniquePatientList.findPatientsByEmail("ALICE@example.com").get(0));
+
+        uniquePatientList.setPatient(current, new PatientBuilder(current).withPhone("91234567").build());
+        assertTrue(uniquePatientList.findPatientsByPhone("94351253").isEmpty());
+        assertEquals(1, uniquePatientList.findPatientsByPhone("91234567").size());
+    }
+
+    @Test
+    public void setPatients_storedIds_reassignedInOrder() {
+        Patient alice = new PatientBuilder(ALICE).withId(2000000000).build();
+        Patient benson = new PatientBuilder(BENSON).withId(3).build();
+        uniquePatientList.setPatients(Arrays.asList(alice, benson));
+        assertEquals(0, uniquePatientList.getCurrentVersion(alice).getId());
+        assertEquals(1, uniquePatientList.getCurrentVersion(benson).getId());
+        assertEquals(benson, uniquePatientList.findById(1).get());
+        assertTrue(uniquePatientList.findById(3).isEmpty());
+    }
+
+    @Test
+    public void add_patientWithId_nextIdTaken() {
+        uniquePatientList.add(ALICE);
+        Patient storedAlice = uniquePatientList.getCurrentVersion(ALICE);
+        uniquePatientList.remove(storedAlice);
+
+        uniquePatientList.add(new PatientBuilder(BENSON).withId(storedAlice.getId()).build());
+        uniquePatientList.addAll(Collections.singletonList(new PatientBuilder(CARL).withId(1000).build()));
+        assertEquals(storedAlice.getId() + 1, uniquePatientList.getCurrentVersion(BENSON).getId());
+        assertEquals(storedAlice.getId() + 2, uniquePatientList.getCurrentVersion(CARL).getId());
+    }
+
+    @Test
+    public void setChangeListener_changesRevertedAndReapplied() {
+        uniquePatientList.add(ALICE);
+        List<Patient> before = new ArrayList<>(uniquePatientList.asUnmodifiableObservableList());
+        List<PatientListChange> changes = new ArrayList<>();
+        uniquePatientList.setChangeListener(changes::add);
+        MedicalHistoryEvent event = new MedicalHistoryEventBuilder().withDate("2024-01-02").build();
+
+        uniquePatientList.add(BENSON);
+        uniquePatientList.addMedicalHistoryEvent(ALICE, event);
+        uniquePatientList.remove(ALICE);
+        uniquePatientList.setPatients(Collections.singletonList(ALICE));
+        List<Patient> after = new ArrayList<>(uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(4, changes.size());
+
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(uniquePatientList);
+        }
+        assertEquals(before, uniquePatientList.asUnmodifiableObservableList());
+        assertSame(before.get(0), uniquePatientList.findById(before.get(0).getId()).get());
+
+        changes.forEach(change -> change.reapply(uniquePatientList));
+        assertEquals(after, uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(4, changes.size());
+    }
+
     @Test
     public void hashCode_sameList_sameHashCode() {
         UniquePatientList uniquePatientListFirst = new UniquePatientList();
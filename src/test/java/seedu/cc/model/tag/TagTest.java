@@ -1,5 +1,7 @@
 package seedu.cc.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.cc.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +25,17 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        Tag tag = Tag.of(new String("Diabetic"));
+        assertSame(tag, Tag.of(new String("Diabetic")));
+        assertEquals(new Tag("Diabetic"), tag);
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
 }
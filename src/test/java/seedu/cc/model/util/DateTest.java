@@ -2,8 +2,12 @@ package seedu.cc.model.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTest {
@@ -64,4 +68,54 @@ public class DateTest {
         Date date2 = new Date("2023-11-02");
         assertFalse(date1.equals(date2));
     }
+
+    @Test
+    public void hashCode_sameDate_sameHashCode() {
+        assertEquals(new Date("2023-11-01").hashCode(), Date.of("2023-11-01").hashCode());
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        assertTrue(new Date("2023-11-01").compareTo(new Date("2023-11-02")) < 0);
+        assertTrue(new Date("2024-01-01").compareTo(new Date("2023-12-31")) > 0);
+        assertEquals(0, new Date("2023-11-01").compareTo(Date.of("2023-11-01")));
+    }
+
+    @Test
+    public void of_commonDate_returnsCachedInstance() {
+        assertSame(Date.of("2023-11-01"), Date.of("2023-11-01"));
+        assertSame(Date.of("2023-11-01"), Date.ofEpochDay(new Date("2023-11-01").getEpochDay()));
+    }
+
+    @Test
+    public void of_uncommonDate_returnsEqualInstance() {
+        assertEquals(new Date("1900-02-28"), Date.of("1900-02-28"));
+        assertEquals("1900-02-28", Date.of("1900-02-28").toString());
+    }
+
+    @Test
+    public void parse_everyDayOfSeveralCenturies_matchesLocalDate() {
+        for (LocalDate day = LocalDate.of(1599, 12, 1); day.getYear() < 2401; day = day.plusDays(1)) {
+            assertEquals(day.toEpochDay(), Date.parse(day.toString()).get().getEpochDay(), day.toString());
+        }
+        assertEquals(LocalDate.of(0, 1, 1).toEpochDay(), Date.parse("0000-01-01").get().getEpochDay());
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay(), Date.parse("9999-12-31").get().getEpochDay());
+    }
+
+    @Test
+    public void parse_invalidDate_returnsEmpty() {
+        assertEquals(Optional.empty(), Date.parse("2023-02-29")); // not a leap year
+        assertEquals(Optional.empty(), Date.parse("1900-02-29")); // not a leap year
+        assertEquals(Optional.empty(), Date.parse("2023-04-31"));
+        assertEquals(Optional.empty(), Date.parse("2023-13-01"));
+        assertEquals(Optional.empty(), Date.parse("2023-00-10"));
+        assertEquals(Optional.empty(), Date.parse("2023-01-00"));
+        assertEquals(Optional.empty(), Date.parse("2023-1-01"));
+        assertEquals(Optional.empty(), Date.parse("2023/01/01"));
+        assertEquals(Optional.empty(), Date.parse("+2023-01-01"));
+        assertEquals(Optional.empty(), Date.parse("2O23-01-01"));
+        assertEquals(Optional.empty(), Date.parse(null));
+        assertTrue(Date.parse("2024-02-29").isPresent());
+        assertTrue(Date.parse("2000-02-29").isPresent());
+    }
 }
@@ -2,8 +2,11 @@ package seedu.cc.model.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class TimeTest {
@@ -59,4 +62,42 @@ public class TimeTest {
         Time time2 = new Time("13:45");
         assertFalse(time1.equals(time2));
     }
+
+    @Test
+    public void hashCode_sameTime_sameHashCode() {
+        assertEquals(new Time("14:00").hashCode(), Time.of("14:00").hashCode());
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        assertTrue(new Time("09:59").compareTo(new Time("10:00")) < 0);
+        assertTrue(new Time("23:59").compareTo(new Time("00:00")) > 0);
+        assertEquals(0, new Time("14:00").compareTo(Time.of("14:00")));
+    }
+
+    @Test
+    public void of_validTime_returnsCachedInstance() {
+        assertSame(Time.of("14:00"), Time.of("14:00"));
+        assertSame(Time.of("14:00"), Time.ofMinuteOfDay(14 * 60));
+        assertEquals("14:00", Time.ofMinuteOfDay(14 * 60).toString());
+    }
+
+    @Test
+    public void parse_everyMinute_matchesMinuteOfDay() {
+        for (int minute = 0; minute < 24 * 60; minute++) {
+            String text = String.format("%02d:%02d", minute / 60, minute % 60);
+            assertSame(Time.ofMinuteOfDay(minute), Time.parse(text).get());
+        }
+    }
+
+    @Test
+    public void parse_invalidTime_returnsEmpty() {
+        assertEquals(Optional.empty(), Time.parse("24:00"));
+        assertEquals(Optional.empty(), Time.parse("12:60"));
+        assertEquals(Optional.empty(), Time.parse("9:30"));
+        assertEquals(Optional.empty(), Time.parse("09:30:00"));
+        assertEquals(Optional.empty(), Time.parse("09-30"));
+        assertEquals(Optional.empty(), Time.parse("0a:30"));
+        assertEquals(Optional.empty(), Time.parse(null));
+    }
 }
@@ -0,0 +1,200 @@
+package seedu.cc.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cc.model.ClinicBook;
+import seedu.cc.model.appointment.PatientAppointmentList;
+import seedu.cc.model.medicalhistory.PatientMedicalHistory;
+import seedu.cc.model.patient.Patient;
+import seedu.cc.model.tag.Tag;
+import seedu.cc.model.util.Date;
+import seedu.cc.testutil.AppointmentEventBuilder;
+import seedu.cc.testutil.MedicalHistoryEventBuilder;
+import seedu.cc.testutil.PatientBuilder;
+
+public class ClinicBookExporterTest {
+
+    private static final Patient AMY = new PatientBuilder().withName("Amy Bee").withNric("S1234568A")
+            .withAge("33").withPhone("11111111").withEmail("amy@example.com").withTags("diabetes", "chronic")
+            .withAppointment(new PatientAppointmentList()
+                    .withAppointment(new AppointmentEventBuilder().withDateTime("2024-01-01", "15:00")
+                            .withPrescriptions("Paracetamol").build())
+                    .withAppointment(new AppointmentEventBuilder().withDateTime("2024-05-01", "10:00")
+                            .withPrescriptions("Ibuprofen").build()))
+            .withMedicalHistory(new MedicalHistoryEventBuilder().withDate("2023-10-23")
+                    .withMedicalCondition("Heart Attack").withTreatment("Heart Surgery").buildMedicalHistory())
+            .build();
+    private static final Patient BOB = new PatientBuilder().withName("Bob Choo").withNric("S1234568B")
+            .withAge("44").withPhone("22222222").withEmail("bob@example.com").withTags("asthma")
+            .withAppointment(new PatientAppointmentList()).withMedicalHistory(new PatientMedicalHistory())
+            .build();
+
+    @TempDir
+    public Path testFolder;
+
+    private ClinicBook clinicBook;
+
+    @BeforeEach
+    public void setUp() {
+        clinicBook = new ClinicBook();
+        clinicBook.addPatient(AMY);
+        clinicBook.addPatient(BOB);
+    }
+
+    @Test
+    public void isSupported() {
+        assertTrue(ClinicBookExporter.isSupported(Paths.get("export.csv")));
+        assertTrue(ClinicBookExporter.isSupported(Paths.get("reports", "EXPORT.NDJSON")));
+        assertFalse(ClinicBookExporter.isSupported(Paths.get("export.json")));
+        assertFalse(ClinicBookExporter.isSupported(Paths.get("ndjson")));
+    }
+
+    @Test
+    public void export_nullArguments_throwsNullPointerException() {
+        Path file = testFolder.resolve("export.csv");
+        assertThrows(NullPointerException.class, () -> ClinicBookExporter.export(null, ExportFilter.all(), file));
+        assertThrows(NullPointerException.class, () -> ClinicBookExporter.export(clinicBook, null, file));
+        assertThrows(NullPointerException.class, () ->
+                ClinicBookExporter.export(clinicBook, ExportFilter.all(), null));
+    }
+
+    @Test
+    public void export_unsupportedFormat_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ClinicBookExporter.MESSAGE_UNSUPPORTED_FORMAT, () ->
+                ClinicBookExporter.export(clinicBook, ExportFilter.all(), testFolder.resolve("export.json")));
+    }
+
+    @Test
+    public void export_csv_writesFilePerKindOfRecord() throws Exception {
+        ClinicBookExporter.Summary summary = ClinicBookExporter.export(clinicBook, ExportFilter.all(),
+                testFolder.resolve("export.csv"));
+
+        assertEquals(Arrays.asList(testFolder.resolve("export-patients.csv"),
+                testFolder.resolve("export-appointments.csv"), testFolder.resolve("export-prescriptions.csv"),
+                testFolder.resolve("export-medical-history.csv")), summary.getFiles());
+        assertEquals(2, summary.getPatients());
+        assertEquals(2, summary.getAppointments());
+        assertEquals(2, summary.getPrescriptions());
+        assertEquals(1, summary.getMedicalHistoryEvents());
+
+        assertEquals(Arrays.asList("name,nric,age,phone,email,tags",
+                "Amy Bee,S1234568A,33,11111111,amy@example.com,chronic;diabetes",
+                "Bob Choo,S1234568B,44,22222222,bob@example.com,asthma"), read("export-patients.csv"));
+        assertEquals(Arrays.asList("nric,date,time,done",
+                "S1234568A,2024-01-01,15:00,false",
+                "S1234568A,2024-05-01,10:00,false"), read("export-appointments.csv"));
+        assertEquals(Arrays.asList("nric,date,time,prescription",
+                "S1234568A,2024-01-01,15:00,Paracetamol",
+                "S1234568A,2024-05-01,10:00,Ibuprofen"), read("export-prescriptions.csv"));
+        assertEquals(Arrays.asList("nric,date,condition,treatment",
+                "S1234568A,2023-10-23,Heart Attack,Heart Surgery"), read("export-medical-history.csv"));
+    }
+
+    @Test
+    public void export_csv_patientsCanBeImported() throws Exception {
+        ClinicBookExporter.export(clinicBook, ExportFilter.all(), testFolder.resolve("export.csv"));
+        PatientFileReader.Result result = PatientFileReader.read(testFolder.resolve("export-patients.csv"));
+        assertEquals(Collections.emptyList(), result.getErrors());
+        assertEquals(Arrays.asList(AMY.getNric(), BOB.getNric()), result.getPatients().stream()
+                .map(Patient::getNric).collect(Collectors.toList()));
+        assertEquals(AMY.getTags(), result.getPatients().get(0).getTags());
+    }
+
+    @Test
+    public void export_ndjson_writesRecordPerLine() throws Exception {
+        ClinicBookExporter.Summary summary = ClinicBookExporter.export(clinicBook, ExportFilter.all(),
+                testFolder.resolve("export.ndjson"));
+
+        assertEquals(Collections.singletonList(testFolder.resolve("export.ndjson")), summary.getFiles());
+        assertEquals(Arrays.asList(
+                "{\"type\":\"patient\",\"nric\":\"S1234568A\",\"name\":\"Amy Bee\",\"age\":\"33\","
+                        + "\"phone\":\"11111111\",\"email\":\"amy@example.com\",\"tags\":[\"chronic\",\"diabetes\"]}",
+                "{\"type\":\"appointment\",\"nric\":\"S1234568A\",\"date\":\"2024-01-01\",\"time\":\"15:00\","
+                        + "\"done\":false}",
+                "{\"type\":\"prescription\",\"nric\":\"S1234568A\",\"date\":\"2024-01-01\",\"time\":\"15:00\","
+                        + "\"prescription\":\"Paracetamol\"}",
+                "{\"type\":\"appointment\",\"nric\":\"S1234568A\",\"date\":\"2024-05-01\",\"time\":\"10:00\","
+                        + "\"done\":false}",
+                "{\"type\":\"prescription\",\"nric\":\"S1234568A\",\"date\":\"2024-05-01\",\"time\":\"10:00\","
+                        + "\"prescription\":\"Ibuprofen\"}",
+                "{\"type\":\"medicalHistory\",\"nric\":\"S1234568A\",\"date\":\"2023-10-23\","
+                        + "\"condition\":\"Heart Attack\",\"treatment\":\"Heart Surgery\"}",
+                "{\"type\":\"patient\",\"nric\":\"S1234568B\",\"name\":\"Bob Choo\",\"age\":\"44\","
+                        + "\"phone\":\"22222222\",\"email\":\"bob@example.com\",\"tags\":[\"asthma\"]}"),
+                read("export.ndjson"));
+    }
+
+    @Test
+    public void export_dateRange_onlyEventsInRange() throws Exception {
+        ExportFilter filter = new ExportFilter(new Date("2024-01-01"), new Date("2024-03-31"),
+                Collections.emptySet());
+        ClinicBookExporter.Summary summary = ClinicBookExporter.export(clinicBook, filter,
+                testFolder.resolve("export.csv"));
+
+        assertEquals(2, summary.getPatients());
+        assertEquals(1, summary.getAppointments());
+        assertEquals(1, summary.getPrescriptions());
+        assertEquals(0, summary.getMedicalHistoryEvents());
+        assertEquals(Arrays.asList("nric,date,time,done", "S1234568A,2024-01-01,15:00,false"),
+                read("export-appointments.csv"));
+        assertEquals(Collections.singletonList("nric,date,condition,treatment"), read("export-medical-history.csv"));
+    }
+
+    @Test
+    public void export_tags_onlyPatientsWithAnyTag() throws Exception {
+        ExportFilter filter = new ExportFilter(null, null, Set.of(new Tag("ASTHMA"), new Tag("cancer")));
+        ClinicBookExporter.Summary summary = ClinicBookExporter.export(clinicBook, filter,
+                testFolder.resolve("export.ndjson"));
+
+        assertEquals(1, summary.getPatients());
+        assertEquals(0, summary.getAppointments());
+        assertEquals(1, read("export.ndjson").size());
+        assertTrue(read("export.ndjson").get(0).contains("\"nric\":\"S1234568B\""));
+    }
+
+    @Test
+    public void export_replacesExistingFile() throws Exception {
+        Files.writeString(testFolder.resolve("export.ndjson"), "old contents");
+        ClinicBookExporter.export(clinicBook, ExportFilter.all(), testFolder.resolve("export.ndjson"));
+        assertEquals(7, read("export.ndjson").size());
+    }
+
+    @Test
+    public void export_interrupted_noFilesWritten() throws Exception {
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedIOException.class, () ->
+                ClinicBookExporter.export(clinicBook, ExportFilter.all(), testFolder.resolve("export.csv")));
+        assertFalse(Thread.interrupted());
+        assertEquals(Collections.emptyList(), listFolder());
+    }
+
+    private List<String> read(String fileName) throws IOException {
+        return Files.readAllLines(testFolder.resolve(fileName), StandardCharsets.UTF_8);
+    }
+
+    private List<Path> listFolder() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
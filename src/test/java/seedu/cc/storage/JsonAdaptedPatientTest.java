@@ -13,10 +13,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.cc.commons.exceptions.IllegalValueException;
 import seedu.cc.model.patient.Nric;
+import seedu.cc.model.patient.Patient;
 import seedu.cc.model.person.Age;
 import seedu.cc.model.person.Email;
 import seedu.cc.model.person.Name;
 import seedu.cc.model.person.Phone;
+import seedu.cc.testutil.PatientBuilder;
 
 public class JsonAdaptedPatientTest {
     private static final String INVALID_NAME = "R@chel";
@@ -50,6 +52,13 @@ public class JsonAdaptedPatientTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_patientWithId_idKept() throws Exception {
+        JsonAdaptedPatient person = new JsonAdaptedPatient(new PatientBuilder(BENSON).withId(7).build());
+        assertEquals(7, person.toModelType().getId());
+        assertEquals(Patient.UNASSIGNED_ID, new JsonAdaptedPatient(BENSON).toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPatient person = new JsonAdaptedPatient(INVALID_NAME, VALID_NRIC, VALID_PHONE, VALID_EMAIL,
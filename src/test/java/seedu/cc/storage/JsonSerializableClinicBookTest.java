@@ -2,15 +2,20 @@ package seedu.cc.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.cc.testutil.Assert.assertThrows;
+import static seedu.cc.testutil.TypicalPatients.ALICE;
+import static seedu.cc.testutil.TypicalPatients.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.cc.commons.exceptions.IllegalValueException;
 import seedu.cc.commons.util.JsonUtil;
 import seedu.cc.model.ClinicBook;
+import seedu.cc.model.patient.Patient;
 import seedu.cc.testutil.TypicalPatients;
 
 public class JsonSerializableClinicBookTest {
@@ -19,6 +24,8 @@ public class JsonSerializableClinicBookTest {
     private static final Path TYPICAL_PATIENT_FILE = TEST_DATA_FOLDER.resolve("typicalPatientClinicBook.json");
     private static final Path INVALID_PATIENT_FILE = TEST_DATA_FOLDER.resolve("invalidPatientClinicBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonClinicBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdClinicBook.json");
+    private static final Path OUT_OF_RANGE_ID_FILE = TEST_DATA_FOLDER.resolve("outOfRangeIdClinicBook.json");
 
     @Test
     public void toModelType_typicalPatientFile_success() throws Exception {
@@ -44,4 +51,22 @@ public class JsonSerializableClinicBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableClinicBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableClinicBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableClinicBook.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_outOfRangeIds_idsReassignedInOrder() throws Exception {
+        JsonSerializableClinicBook dataFromFile = JsonUtil.readJsonFile(OUT_OF_RANGE_ID_FILE,
+                JsonSerializableClinicBook.class).get();
+        List<Patient> patients = dataFromFile.toModelType().getPatientList();
+        assertEquals(Arrays.asList(ALICE, BENSON), patients);
+        assertEquals(0, patients.get(0).getId());
+        assertEquals(1, patients.get(1).getId());
+    }
+
 }
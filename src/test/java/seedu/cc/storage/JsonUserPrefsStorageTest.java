@@ -74,6 +74,7 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setClinicBookFilePath(Paths.get("data/clinicbook.json"));
+        userPrefs.setUndoHistoryDepth(10);
         return userPrefs;
     }
 
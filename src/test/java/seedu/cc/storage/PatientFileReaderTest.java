@@ -0,0 +1,116 @@
+package seedu.cc.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cc.testutil.Assert.assertThrows;
+import static seedu.cc.testutil.TypicalPatients.AMY;
+import static seedu.cc.testutil.TypicalPatients.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cc.commons.exceptions.IllegalValueException;
+import seedu.cc.model.patient.Nric;
+import seedu.cc.model.person.Age;
+import seedu.cc.testutil.TypicalPatients;
+
+public class PatientFileReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "PatientFileReaderTest");
+    private static final Path TYPICAL_PATIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalPatients.json");
+    private static final Path PATIENTS_WITH_IDS_FILE = TEST_DATA_FOLDER.resolve("patientsWithIds.json");
+
+    private static final String HEADER = "name,nric,age,phone,email,tags";
+    private static final String AMY_ROW = "Amy Bee,S1234568A,33,11111111,amy@example.com,hypertension";
+    private static final String BOB_ROW = "Bob Choo,S1234568B,44,22222222,bob@example.com,asthma; hypertension";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(PatientFileReader.isSupported(Paths.get("patients.csv")));
+        assertTrue(PatientFileReader.isSupported(Paths.get("data", "PATIENTS.JSON")));
+        assertFalse(PatientFileReader.isSupported(Paths.get("patients.txt")));
+        assertFalse(PatientFileReader.isSupported(Paths.get("csv")));
+    }
+
+    @Test
+    public void read_validCsv_patientsInOrder() throws Exception {
+        Path file = writeCsv(HEADER, AMY_ROW, "", BOB_ROW);
+        PatientFileReader.Result result = PatientFileReader.read(file);
+        assertEquals(Arrays.asList(AMY, BOB), result.getPatients());
+        assertEquals(Collections.emptyList(), result.getErrors());
+    }
+
+    @Test
+    public void read_csvColumnsInAnyOrderWithoutTags_success() throws Exception {
+        Path file = writeCsv("Email, NRIC, Name, Phone, Age", "amy@example.com,S1234568A,Amy Bee,11111111,33");
+        PatientFileReader.Result result = PatientFileReader.read(file);
+        assertEquals(1, result.getPatients().size());
+        assertEquals(AMY.getNric(), result.getPatients().get(0).getNric());
+        assertTrue(result.getPatients().get(0).getTags().isEmpty());
+    }
+
+    @Test
+    public void read_invalidCsvRecords_allReported() throws Exception {
+        Path file = writeCsv(HEADER, "Amy Bee,not an nric,33,11111111,amy@example.com,",
+                BOB_ROW, "Carl Kurz,S1234567C,200,95352563,heinz@example.com,", "too,few");
+        PatientFileReader.Result result = PatientFileReader.read(file);
+        assertEquals(Collections.singletonList(BOB), result.getPatients());
+        assertEquals(Arrays.asList(
+                String.format(PatientFileReader.MESSAGE_INVALID_RECORD, 1, Nric.MESSAGE_CONSTRAINTS),
+                String.format(PatientFileReader.MESSAGE_INVALID_RECORD, 3, Age.MESSAGE_CONSTRAINTS),
+                String.format(PatientFileReader.MESSAGE_INVALID_RECORD, 4,
+                        String.format(PatientFileReader.MESSAGE_WRONG_VALUE_COUNT, 6, 2))),
+                result.getErrors());
+    }
+
+    @Test
+    public void read_csvWithoutRequiredColumn_throwsIllegalValueException() throws Exception {
+        Path file = writeCsv("name,age,phone,email", "Amy Bee,33,11111111,amy@example.com");
+        assertThrows(IllegalValueException.class, String.format(PatientFileReader.MESSAGE_MISSING_COLUMN, "nric"), ()
+                -> PatientFileReader.read(file));
+    }
+
+    @Test
+    public void read_emptyCsv_throwsIllegalValueException() throws Exception {
+        Path file = writeCsv();
+        assertThrows(IllegalValueException.class, PatientFileReader.MESSAGE_EMPTY_FILE, ()
+                -> PatientFileReader.read(file));
+    }
+
+    @Test
+    public void read_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> PatientFileReader.read(testFolder.resolve("missing.csv")));
+    }
+
+    @Test
+    public void read_json_patientsWithRecords() throws Exception {
+        PatientFileReader.Result result = PatientFileReader.read(TYPICAL_PATIENTS_FILE);
+        assertEquals(TypicalPatients.getTypicalPatients(), result.getPatients());
+        assertEquals(Collections.emptyList(), result.getErrors());
+    }
+
+    @Test
+    public void read_jsonPatientsWithIds_idsDropped() throws Exception {
+        PatientFileReader.Result result = PatientFileReader.read(PATIENTS_WITH_IDS_FILE);
+        assertEquals(Arrays.asList(AMY, BOB), result.getPatients());
+        assertFalse(result.getPatients().get(0).hasId());
+        assertFalse(result.getPatients().get(1).hasId());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = testFolder.resolve("patients.csv");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.cc.testutil.TypicalPatients.getTypicalClinicBook;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +28,8 @@ public class StorageManagerTest {
     public void setUp() {
         JsonClinicBookStorage addressBookStorage = new JsonClinicBookStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(getTempFilePath("history"));
+        storageManager = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -60,6 +63,20 @@ public class StorageManagerTest {
         assertEquals(original, new ClinicBook(retrieved));
     }
 
+    @Test
+    public void commandHistoryReadAppendSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TextCommandHistoryStorage} class.
+         * More extensive testing of command history saving/reading is done in {@link TextCommandHistoryStorageTest}.
+         */
+        storageManager.appendCommandHistory(Arrays.asList("list", "find alice"));
+        storageManager.appendCommandHistory(Collections.singletonList("list-appt 1"));
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), storageManager.readCommandHistory());
+        storageManager.saveCommandHistory(Collections.singletonList("help"));
+        assertEquals(Collections.singletonList("help"), storageManager.readCommandHistory());
+    }
+
     @Test
     public void getClinicBookFilePath() {
         assertNotNull(storageManager.getClinicBookFilePath());
@@ -0,0 +1,59 @@
+package seedu.cc.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.cc.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCommandHistory_missingFile_emptyList() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("missing.txt"));
+        assertEquals(Collections.emptyList(), storage.readCommandHistory());
+    }
+
+    @Test
+    public void appendCommandHistory_missingFolder_created() throws Exception {
+        Path file = testFolder.resolve("data").resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(file);
+        storage.appendCommandHistory(Arrays.asList("list", "find alice"));
+        storage.appendCommandHistory(Collections.singletonList("list-appt 1"));
+
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), Files.readAllLines(file));
+        assertEquals(Arrays.asList("list", "find alice", "list-appt 1"), storage.readCommandHistory());
+    }
+
+    @Test
+    public void saveCommandHistory_existingFile_replacedWithoutTemporaryFiles() throws Exception {
+        Path file = testFolder.resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(file);
+        storage.appendCommandHistory(Arrays.asList("list", "find alice"));
+        storage.saveCommandHistory(Collections.singletonList("help"));
+
+        assertEquals(Collections.singletonList("help"), storage.readCommandHistory());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> inFolder = files.collect(Collectors.toList());
+            assertEquals(Collections.singletonList(file), inFolder);
+        }
+    }
+
+    @Test
+    public void appendAndSave_null_throwsNullPointerException() {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        assertThrows(NullPointerException.class, () -> storage.appendCommandHistory(null));
+        assertThrows(NullPointerException.class, () -> storage.saveCommandHistory(null));
+    }
+}
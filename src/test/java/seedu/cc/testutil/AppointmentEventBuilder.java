@@ -67,8 +67,6 @@ public class AppointmentEventBuilder {
      * Builds a {@code PatientAppointment} with the {@code AppointmentEvent} that we are building.
      */
     public PatientAppointmentList buildAppointmentList() {
-        PatientAppointmentList patientAppointmentList = new PatientAppointmentList();
-        patientAppointmentList.addAppointmentList(new AppointmentEvent(date, time, prescriptions));
-        return patientAppointmentList;
+        return new PatientAppointmentList().withAppointment(new AppointmentEvent(date, time, prescriptions));
     }
 }
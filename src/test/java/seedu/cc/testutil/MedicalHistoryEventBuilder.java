@@ -69,8 +69,7 @@ public class MedicalHistoryEventBuilder {
      * Builds a {@code PatientMedicalHistory} with the {@code MedicalHistoryEvent} that we are building.
      */
     public PatientMedicalHistory buildMedicalHistory() {
-        PatientMedicalHistory patientMedicalHistory = new PatientMedicalHistory();
-        patientMedicalHistory.addMedicalHistoryEvent(new MedicalHistoryEvent(medicalCondition, treatment, date));
-        return patientMedicalHistory;
+        return new PatientMedicalHistory()
+                .withMedicalHistoryEvent(new MedicalHistoryEvent(medicalCondition, treatment, date));
     }
 }
@@ -25,6 +25,7 @@ public class PatientBuilder {
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_AGE = "1";
 
+    private int id = Patient.UNASSIGNED_ID;
     private Name name;
     private Nric nric;
     private Phone phone;
@@ -52,12 +53,15 @@ public class PatientBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PatientBuilder(Patient personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         nric = personToCopy.getNric();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
         age = personToCopy.getAge();
         tags = new HashSet<>(personToCopy.getTags());
+        patientMedicalHistory = new PatientMedicalHistory();
+        patientAppointmentList = new PatientAppointmentList();
     }
 
     /**
@@ -124,11 +128,19 @@ public class PatientBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Patient} that we are building.
+     */
+    public PatientBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Builds a {@code Person} with the given fields.
      */
     public Patient build() {
-        return new Patient(name, nric, phone, email, age,
+        return new Patient(id, name, nric, phone, email, age,
                 patientAppointmentList, patientMedicalHistory, tags);
     }
 
@@ -0,0 +1,194 @@
+package seedu.cc.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class CommandRunnerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    // The callbacks run on the worker thread, as there is no JavaFX application thread in these tests.
+    private final CommandRunner commandRunner = new CommandRunner(Runnable::run);
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        commandRunner.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+    }
+
+    @Test
+    public void submit_success_resultPassedOn() throws Exception {
+        CompletableFuture<String> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> Thread.currentThread().getName(), outcome::complete,
+                outcome::completeExceptionally);
+        assertEquals("command-runner", outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_failure_exceptionPassedOn() throws Exception {
+        IllegalStateException exception = new IllegalStateException("failed");
+        CompletableFuture<Exception> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            throw exception;
+        }, result -> outcome.complete(null), outcome::complete);
+        assertSame(exception, outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void mirror_listChangedManyTimes_updatedOncePerTask() throws Exception {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1);
+        ObservableList<Integer> mirror = commandRunner.mirror(source);
+        int[] updates = new int[1];
+        mirror.addListener((ListChangeListener<Integer>) change -> updates[0]++);
+
+        CompletableFuture<List<Integer>> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            source.add(2);
+            source.add(3);
+            source.remove(Integer.valueOf(1));
+            return null;
+        }, unused -> outcome.complete(mirror), outcome::completeExceptionally);
+
+        assertEquals(Arrays.asList(2, 3), outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, updates[0]);
+    }
+
+    @Test
+    public void mirror_changesReplayed_sameAsSourceInOneChange() throws Exception {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6, 7, 8);
+        ObservableList<Integer> mirror = commandRunner.mirror(source);
+        List<String> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<Integer>) change -> changes.add(change.toString()));
+
+        CompletableFuture<List<Integer>> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            source.set(1, 20);
+            source.add(0, 0);
+            source.remove(5, 7);
+            source.sort(Comparator.reverseOrder());
+            return null;
+        }, unused -> outcome.complete(new ArrayList<>(mirror)), outcome::completeExceptionally);
+
+        assertEquals(Arrays.asList(20, 8, 7, 4, 3, 1, 0), outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void mirror_elementUpdated_updateReplayed() throws Exception {
+        StringProperty element = new SimpleStringProperty("before");
+        ObservableList<StringProperty> source = FXCollections.observableArrayList(item -> new Observable[] {item});
+        source.addAll(new SimpleStringProperty("other"), element);
+        ObservableList<StringProperty> mirror = commandRunner.mirror(source);
+        List<Integer> updated = new ArrayList<>();
+        mirror.addListener((ListChangeListener<StringProperty>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasAdded() || change.wasRemoved());
+                if (change.wasUpdated()) {
+                    updated.add(change.getFrom());
+                }
+            }
+        });
+
+        CompletableFuture<Void> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            element.set("after");
+            return null;
+        }, outcome::complete, outcome::completeExceptionally);
+
+        outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Collections.singletonList(1), updated);
+    }
+
+    @Test
+    public void mirror_moreChangesThanElements_replacedAsWhole() throws Exception {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2);
+        ObservableList<Integer> mirror = commandRunner.mirror(source);
+
+        CompletableFuture<List<Integer>> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            source.setAll(3, 4, 5);
+            source.add(6);
+            return null;
+        }, unused -> outcome.complete(new ArrayList<>(mirror)), outcome::completeExceptionally);
+
+        assertEquals(Arrays.asList(3, 4, 5, 6), outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void mirror_valueChanged_updatedAfterTask() throws Exception {
+        SimpleObjectProperty<String> source = new SimpleObjectProperty<>("before");
+        ReadOnlyObjectProperty<String> mirror = commandRunner.mirror(source);
+
+        CompletableFuture<String> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            source.set("after");
+            return mirror.get();
+        }, outcome::complete, outcome::completeExceptionally);
+
+        assertEquals("before", outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("after", mirror.get());
+    }
+
+    @Test
+    public void cancel_runningTask_interrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            started.countDown();
+            while (!Thread.interrupted()) {
+                Thread.onSpinWait();
+            }
+            return true;
+        }, outcome::complete, outcome::completeExceptionally);
+
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        commandRunner.cancel();
+        assertTrue(outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // the next task is not interrupted
+        CompletableFuture<Boolean> next = new CompletableFuture<>();
+        commandRunner.submit(() -> Thread.currentThread().isInterrupted(), next::complete,
+                next::completeExceptionally);
+        assertFalse(next.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancel_afterPreventCancel_notInterrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+        commandRunner.submit(() -> {
+            commandRunner.preventCancel();
+            started.countDown();
+            cancelled.await();
+            return Thread.currentThread().isInterrupted();
+        }, outcome::complete, outcome::completeExceptionally);
+
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        commandRunner.cancel();
+        cancelled.countDown();
+        assertFalse(outcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+}